@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.experimental.PackagePrivate;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * {@link HybridNormalizationExecutor} runs the per shard steps of hybrid score normalization and combination on the
+ * coordinator node in parallel. Work is CPU bound, so the pool is sized to the allocated processor count, and it is
+ * separate from the hybrid query executor so coordinator work doesn't queue behind shard level sub query tasks.
+ */
+@Log4j2
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HybridNormalizationExecutor {
+    private static final String HYBRID_NORMALIZATION_THREAD_POOL_NAME = "_plugin_neural_search_hybrid_normalization_executor";
+    private static final Integer HYBRID_NORMALIZATION_THREAD_POOL_QUEUE_SIZE = 1000;
+    private static final Integer MIN_THREAD_SIZE = 1;
+    // below this number of shards the hand off costs more than the per shard work
+    private static final int MIN_SHARDS_FOR_PARALLEL_EXECUTION = 4;
+    private static Executor executor;
+
+    /**
+     * Provide fixed executor builder to use for hybrid normalization executors
+     * @param settings Node level settings
+     * @return the executor builder for hybrid normalization's custom thread pool.
+     */
+    public static ExecutorBuilder getExecutorBuilder(final Settings settings) {
+        int numberOfThreads = Math.max(OpenSearchExecutors.allocatedProcessors(settings), MIN_THREAD_SIZE);
+        return new FixedExecutorBuilder(
+            settings,
+            HYBRID_NORMALIZATION_THREAD_POOL_NAME,
+            numberOfThreads,
+            HYBRID_NORMALIZATION_THREAD_POOL_QUEUE_SIZE,
+            HYBRID_NORMALIZATION_THREAD_POOL_NAME
+        );
+    }
+
+    /**
+     * Initialize executor to run tasks concurrently using {@link ThreadPool}
+     * @param threadPool OpenSearch's thread pool instance
+     */
+    public static void initialize(ThreadPool threadPool) {
+        if (threadPool == null) {
+            throw new IllegalArgumentException(
+                "Argument thread-pool to Hybrid Normalization Executor cannot be null. This is required to build executor to run actions in parallel"
+            );
+        }
+        executor = threadPool.executor(HYBRID_NORMALIZATION_THREAD_POOL_NAME);
+    }
+
+    /**
+     * Run action for every shard result and wait for all of them. Actions must only touch the shard result they get,
+     * then the outcome doesn't depend on the order they run in. Null shard results are skipped.
+     * @param shardResults results of each shard
+     * @param action action to run on a single shard result
+     */
+    public static <T> void forEachShard(final List<T> shardResults, final Consumer<T> action) {
+        forEachShard(shardResults.size(), referenceShardId -> {
+            T shardResult = shardResults.get(referenceShardId);
+            if (Objects.nonNull(shardResult)) {
+                action.accept(shardResult);
+            }
+        });
+    }
+
+    /**
+     * Run action for every shard index from 0 to number of shards and wait for all of them. Actions must only touch
+     * the data of the shard they get. Tasks rejected by the pool run on the calling thread.
+     * @param numberOfShards number of shards
+     * @param action action to run for a single shard index
+     */
+    public static void forEachShard(final int numberOfShards, final IntConsumer action) {
+        if (numberOfShards < MIN_SHARDS_FOR_PARALLEL_EXECUTION || Objects.isNull(executor)) {
+            for (int referenceShardId = 0; referenceShardId < numberOfShards; referenceShardId++) {
+                action.accept(referenceShardId);
+            }
+            return;
+        }
+        List<FutureTask<Void>> tasks = new ArrayList<>(numberOfShards);
+        for (int referenceShardId = 0; referenceShardId < numberOfShards; referenceShardId++) {
+            final int shardId = referenceShardId;
+            tasks.add(new FutureTask<>(() -> {
+                action.accept(shardId);
+                return null;
+            }));
+        }
+        // the first task is left for the calling thread
+        for (int taskIndex = 1; taskIndex < tasks.size(); taskIndex++) {
+            try {
+                executor.execute(tasks.get(taskIndex));
+            } catch (RejectedExecutionException e) {
+                log.debug("hybrid normalization executor rejected shard task, remaining shards are processed by the caller", e);
+                break;
+            }
+        }
+        // running a task that another thread already started or completed is a no-op
+        for (FutureTask<Void> task : tasks) {
+            task.run();
+        }
+        for (FutureTask<Void> task : tasks) {
+            awaitShardTask(task);
+        }
+    }
+
+    private static void awaitShardTask(final FutureTask<Void> task) {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ThreadInterruptedException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    @PackagePrivate
+    public static String getThreadPoolName() {
+        return HYBRID_NORMALIZATION_THREAD_POOL_NAME;
+    }
+}
@@ -14,6 +14,8 @@ import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.util.concurrent.Executor;
+
 /**
  * {@link HybridQueryExecutor} provides necessary implementation and instances to execute
  * sub-queries from hybrid query in parallel as a Task by caller. This ensures that one thread pool
@@ -28,6 +30,7 @@ public final class HybridQueryExecutor {
     private static final Integer MAX_THREAD_SIZE = 1000;
     private static final Integer MIN_THREAD_SIZE = 2;
     private static final Integer PROCESSOR_COUNT_MULTIPLIER = 2;
+    private static Executor executor;
     private static TaskExecutor taskExecutor;
 
     /**
@@ -57,7 +60,8 @@ public final class HybridQueryExecutor {
                 "Argument thread-pool to Hybrid Query Executor cannot be null. This is required to build executor to run actions in parallel"
             );
         }
-        taskExecutor = new TaskExecutor(threadPool.executor(HYBRID_QUERY_EXEC_THREAD_POOL_NAME));
+        executor = threadPool.executor(HYBRID_QUERY_EXEC_THREAD_POOL_NAME);
+        taskExecutor = new TaskExecutor(executor);
     }
 
     /**
@@ -68,6 +72,15 @@ public final class HybridQueryExecutor {
         return taskExecutor != null ? taskExecutor : new TaskExecutor(Runnable::run);
     }
 
+    /**
+     * Return executor of the hybrid query thread pool. The executor rejects tasks once its queue is full, callers
+     * must be able to run rejected tasks themselves
+     * @return executor of the hybrid query thread pool
+     */
+    public static Executor getThreadPoolExecutor() {
+        return executor != null ? executor : Runnable::run;
+    }
+
     @PackagePrivate
     public static String getThreadPoolName() {
         return HYBRID_QUERY_EXEC_THREAD_POOL_NAME;
@@ -0,0 +1,217 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.neuralsearch.processor.EmbeddingContentType;
+import org.opensearch.neuralsearch.processor.InferenceRequest;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Limits the number of ML inference requests running concurrently on this node per model and request class, so bulk
+ * ingestion cannot take all capacity of a model that also serves search queries. Requests above the limit wait in a
+ * bounded queue of their model and request class and are rejected once that queue is full. A waiting request runs
+ * on the generic thread pool with the thread context of its caller once a slot is free.
+ */
+@Log4j2
+final class InferenceConcurrencyLimiter {
+    /**
+     * Class of an inference request, each class has its own limit
+     */
+    enum CallClass {
+        INGEST,
+        SEARCH;
+
+        /**
+         * Ingest processors request passage embeddings, every other inference serves a search request
+         * @param inferenceRequest inference request
+         * @return class of the request
+         */
+        static CallClass of(final InferenceRequest inferenceRequest) {
+            return inferenceRequest.getEmbeddingContentType() == EmbeddingContentType.PASSAGE ? INGEST : SEARCH;
+        }
+    }
+
+    private final ThreadPool threadPool;
+    private final int ingestMaxConcurrentRequests;
+    private final int searchMaxConcurrentRequests;
+    private final int maxQueuedRequests;
+    private final Map<PermitsKey, Permits> permits = new ConcurrentHashMap<>();
+
+    InferenceConcurrencyLimiter(
+        final ThreadPool threadPool,
+        final int ingestMaxConcurrentRequests,
+        final int searchMaxConcurrentRequests,
+        final int maxQueuedRequests
+    ) {
+        this.threadPool = threadPool;
+        this.ingestMaxConcurrentRequests = ingestMaxConcurrentRequests;
+        this.searchMaxConcurrentRequests = searchMaxConcurrentRequests;
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    /**
+     * Run the inference once the model and request class has a free slot
+     * @param modelId model of the inference
+     * @param callClass class of the inference request
+     * @param inference runs the inference, must run the given release exactly once when the model call completed
+     * @param onFailure called when the inference is rejected or fails to start
+     */
+    void execute(final String modelId, final CallClass callClass, final Consumer<Runnable> inference, final Consumer<Exception> onFailure) {
+        final int maxConcurrentRequests = callClass == CallClass.INGEST ? ingestMaxConcurrentRequests : searchMaxConcurrentRequests;
+        if (maxConcurrentRequests <= 0) {
+            inference.accept(() -> {});
+            return;
+        }
+        final PermitsKey key = new PermitsKey(modelId, callClass);
+        permits.computeIfAbsent(key, k -> new Permits(k, maxConcurrentRequests)).acquire(inference, onFailure);
+    }
+
+    /**
+     * Number of inferences waiting for a free slot
+     * @param modelId model of the inferences
+     * @param callClass class of the inference requests
+     * @return number of waiting inferences
+     */
+    int queuedRequests(final String modelId, final CallClass callClass) {
+        final Permits modelPermits = permits.get(new PermitsKey(modelId, callClass));
+        return modelPermits == null ? 0 : modelPermits.queuedRequests();
+    }
+
+    private record PermitsKey(String modelId, CallClass callClass) {
+    }
+
+    private record WaitingInference(
+        Consumer<Runnable> inference,
+        Consumer<Exception> onFailure,
+        Supplier<ThreadContext.StoredContext> callerContext,
+        long enqueuedNanos
+    ) {
+    }
+
+    private class Permits {
+        private final PermitsKey key;
+        private final int maxConcurrentRequests;
+        // guarded by this
+        private final ArrayDeque<WaitingInference> waitingInferences = new ArrayDeque<>();
+        // guarded by this
+        private int runningRequests;
+
+        private Permits(final PermitsKey key, final int maxConcurrentRequests) {
+            this.key = key;
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+
+        private void acquire(final Consumer<Runnable> inference, final Consumer<Exception> onFailure) {
+            final OpenSearchRejectedExecutionException rejection;
+            synchronized (this) {
+                if (runningRequests < maxConcurrentRequests) {
+                    runningRequests++;
+                    rejection = null;
+                } else if (waitingInferences.size() < maxQueuedRequests) {
+                    waitingInferences.add(
+                        new WaitingInference(
+                            inference,
+                            onFailure,
+                            threadPool.getThreadContext().newRestorableContext(false),
+                            System.nanoTime()
+                        )
+                    );
+                    EventStatsManager.increment(EventStatName.ML_INFERENCE_QUEUED_REQUESTS);
+                    return;
+                } else {
+                    rejection = new OpenSearchRejectedExecutionException(
+                        String.format(
+                            Locale.ROOT,
+                            "%s inference request for model [%s] rejected, [%d] requests are running and [%d] are queued",
+                            key.callClass().name().toLowerCase(Locale.ROOT),
+                            key.modelId(),
+                            runningRequests,
+                            waitingInferences.size()
+                        )
+                    );
+                }
+            }
+            if (rejection != null) {
+                EventStatsManager.increment(EventStatName.ML_INFERENCE_REJECTED_REQUESTS);
+                onFailure.accept(rejection);
+                return;
+            }
+            run(inference, onFailure, newRelease());
+        }
+
+        /**
+         * Releases the slot only once, however often the inference calls it
+         */
+        private Runnable newRelease() {
+            final AtomicBoolean released = new AtomicBoolean();
+            return () -> {
+                if (released.compareAndSet(false, true)) {
+                    release();
+                }
+            };
+        }
+
+        private void run(final Consumer<Runnable> inference, final Consumer<Exception> onFailure, final Runnable release) {
+            try {
+                inference.accept(release);
+            } catch (Exception e) {
+                release.run();
+                onFailure.accept(e);
+            }
+        }
+
+        private void release() {
+            final WaitingInference next;
+            synchronized (this) {
+                next = waitingInferences.poll();
+                if (next == null) {
+                    runningRequests--;
+                    return;
+                }
+            }
+            // the slot of the completed inference is handed over to the next waiting one, which must not run on the
+            // response thread of the completed inference nor with its thread context
+            final long waitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - next.enqueuedNanos());
+            EventStatsManager.increment(EventStatName.ML_INFERENCE_QUEUE_WAIT_MILLIS, waitMillis);
+            log.debug("Inference request for model [{}] waited [{}ms] for a free slot", key.modelId(), waitMillis);
+            final Runnable nextRelease = newRelease();
+            threadPool.executor(ThreadPool.Names.GENERIC).execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    try (ThreadContext.StoredContext ignored = next.callerContext().get()) {
+                        run(next.inference(), next.onFailure(), nextRelease);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    nextRelease.run();
+                    try (ThreadContext.StoredContext ignored = next.callerContext().get()) {
+                        next.onFailure().accept(e);
+                    }
+                }
+            });
+        }
+
+        private synchronized int queuedRequests() {
+            return waitingInferences.size();
+        }
+    }
+}
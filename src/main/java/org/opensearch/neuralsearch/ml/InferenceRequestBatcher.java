@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Collects single inputs of concurrent inference requests into batches and runs one inference per batch. A batch is
+ * executed when it reaches the max batch size or when the max wait time since its first input has passed, whatever
+ * comes first. Results of a batch are handed to the listeners of the inputs in the order of the inputs.
+ *
+ * @param <K> key of inputs that can share a batch, e.g. model and inference parameters
+ * @param <I> type of a single input
+ * @param <O> type of the result of a single input
+ */
+@Log4j2
+final class InferenceRequestBatcher<K, I, O> {
+    private final ThreadPool threadPool;
+    private final TimeValue maxWait;
+    private final int maxBatchSize;
+    // guarded by this
+    private final Map<K, Batch> pendingBatches = new HashMap<>();
+
+    InferenceRequestBatcher(final ThreadPool threadPool, final TimeValue maxWait, final int maxBatchSize) {
+        this.threadPool = threadPool;
+        this.maxWait = maxWait;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Add input to the pending batch of its key
+     * @param key key of the batch
+     * @param input single input
+     * @param listener listener of the input result
+     * @param batchInference runs inference of a batch, must complete the listener with one result per input in input order
+     */
+    void submit(
+        final K key,
+        final I input,
+        final ActionListener<O> listener,
+        final BiConsumer<List<I>, ActionListener<List<O>>> batchInference
+    ) {
+        EventStatsManager.increment(EventStatName.QUERY_INFERENCE_BATCHED_REQUESTS);
+        Batch fullBatch = null;
+        Batch newBatch = null;
+        synchronized (this) {
+            Batch batch = pendingBatches.get(key);
+            if (batch == null) {
+                batch = new Batch(batchInference);
+                pendingBatches.put(key, batch);
+                newBatch = batch;
+            }
+            batch.inputs.add(input);
+            batch.listeners.add(listener);
+            if (batch.inputs.size() >= maxBatchSize) {
+                pendingBatches.remove(key);
+                fullBatch = batch;
+            }
+        }
+        if (fullBatch != null) {
+            execute(fullBatch);
+        } else if (newBatch != null) {
+            final Batch scheduledBatch = newBatch;
+            threadPool.schedule(() -> executeIfPending(key, scheduledBatch), maxWait, ThreadPool.Names.GENERIC);
+        }
+    }
+
+    /**
+     * @return number of inputs waiting for their batch to be executed
+     */
+    synchronized int pendingCount() {
+        int pendingCount = 0;
+        for (Batch batch : pendingBatches.values()) {
+            pendingCount += batch.inputs.size();
+        }
+        return pendingCount;
+    }
+
+    private void executeIfPending(final K key, final Batch batch) {
+        synchronized (this) {
+            // batch can be executed already because it got full
+            if (pendingBatches.remove(key, batch) == false) {
+                return;
+            }
+        }
+        execute(batch);
+    }
+
+    private void execute(final Batch batch) {
+        EventStatsManager.increment(EventStatName.QUERY_INFERENCE_BATCHES);
+        try {
+            batch.batchInference.accept(batch.inputs, ActionListener.wrap(batch::onResponse, batch::onFailure));
+        } catch (Exception e) {
+            batch.onFailure(e);
+        }
+    }
+
+    private final class Batch {
+        private final BiConsumer<List<I>, ActionListener<List<O>>> batchInference;
+        private final List<I> inputs = new ArrayList<>();
+        private final List<ActionListener<O>> listeners = new ArrayList<>();
+
+        private Batch(final BiConsumer<List<I>, ActionListener<List<O>>> batchInference) {
+            this.batchInference = batchInference;
+        }
+
+        private void onResponse(final List<O> results) {
+            if (results.size() != listeners.size()) {
+                onFailure(
+                    new IllegalStateException(
+                        String.format(
+                            Locale.ROOT,
+                            "Batched inference returned [%d] results for [%d] inputs",
+                            results.size(),
+                            listeners.size()
+                        )
+                    )
+                );
+                return;
+            }
+            for (int i = 0; i < listeners.size(); i++) {
+                ActionListener<O> listener = listeners.get(i);
+                try {
+                    listener.onResponse(results.get(i));
+                } catch (Exception e) {
+                    // other inputs of the batch are not affected by failure of one listener
+                    try {
+                        listener.onFailure(e);
+                    } catch (Exception inner) {
+                        log.warn("Failed to notify listener of batched inference", inner);
+                    }
+                }
+            }
+        }
+
+        private void onFailure(final Exception e) {
+            ActionListener.onFailure(listeners, e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.core.action.ActionListener;
+
+/**
+ * Coalesces identical inference requests that are in flight at the same time. The first request of a key is the leader and
+ * calls the model, requests with the same key that arrive before the leader completes attach their listeners to it and get
+ * the same result or failure, retries of the leader included. Results are shared between listeners and must not be modified.
+ *
+ * @param <T> type of the inference result
+ */
+final class InferenceRequestCoalescer<T> {
+    private final Map<QueryEmbeddingCache.Key, List<ActionListener<T>>> inFlightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Join the in-flight request of a key or start a new one
+     * @param key key of the inference request, requests without key are not coalesced
+     * @param listener listener of the request
+     * @return listener the caller must complete with the inference result, or null if the request joined an in-flight request
+     */
+    ActionListener<T> join(final QueryEmbeddingCache.Key key, final ActionListener<T> listener) {
+        if (Objects.isNull(key)) {
+            return listener;
+        }
+        List<ActionListener<T>> leaderListeners = new ArrayList<>();
+        List<ActionListener<T>> listeners = inFlightRequests.compute(key, (requestKey, inFlightListeners) -> {
+            List<ActionListener<T>> keyListeners = Objects.isNull(inFlightListeners) ? leaderListeners : inFlightListeners;
+            keyListeners.add(listener);
+            return keyListeners;
+        });
+        if (listeners != leaderListeners) {
+            return null;
+        }
+        // listeners are removed before they are notified, requests that arrive after that start a new inference
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(final T result) {
+                if (inFlightRequests.remove(key, leaderListeners)) {
+                    ActionListener.onResponse(leaderListeners, result);
+                }
+            }
+
+            @Override
+            public void onFailure(final Exception e) {
+                if (inFlightRequests.remove(key, leaderListeners)) {
+                    ActionListener.onFailure(leaderListeners, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return number of keys with an inference in flight
+     */
+    int inFlightCount() {
+        return inFlightRequests.size();
+    }
+}
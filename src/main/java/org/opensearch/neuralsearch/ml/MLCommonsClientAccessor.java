@@ -8,6 +8,12 @@ import static org.opensearch.neuralsearch.processor.AgenticQueryTranslatorProces
 import static org.opensearch.neuralsearch.query.ext.AgentStepsSearchExtBuilder.AGENT_STEPS_FIELD_NAME;
 import static org.opensearch.neuralsearch.query.ext.AgentStepsSearchExtBuilder.DSL_QUERY_FIELD_NAME;
 import static org.opensearch.neuralsearch.query.ext.AgentStepsSearchExtBuilder.MEMORY_ID_FIELD_NAME;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_LIMIT_INGEST_MAX_CONCURRENT_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_LIMIT_MAX_QUEUED_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_LIMIT_SEARCH_MAX_CONCURRENT_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_INFERENCE_BATCH_MAX_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_INFERENCE_BATCH_MAX_WAIT;
+import static org.opensearch.neuralsearch.util.SecurityUtil.isSecurityEnabled;
 
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.JsonNode;
@@ -22,8 +28,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -35,6 +43,8 @@ import java.util.stream.Collectors;
 import com.google.gson.Gson;
 
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -44,11 +54,13 @@ import org.opensearch.ml.common.MLAgentType;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 import org.opensearch.ml.common.input.execute.agent.AgentMLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.neuralsearch.common.VectorUtil;
 import org.opensearch.neuralsearch.ml.dto.AgentExecutionDTO;
 import org.opensearch.neuralsearch.ml.dto.AgentInfoDTO;
 
@@ -59,7 +71,9 @@ import org.opensearch.neuralsearch.processor.TextInferenceRequest;
 import org.opensearch.neuralsearch.query.AgenticSearchQueryBuilder;
 import org.opensearch.neuralsearch.util.AgentQueryUtil;
 import org.opensearch.neuralsearch.util.RetryUtil;
+import org.opensearch.neuralsearch.util.TokenWeightUtil;
 import org.opensearch.neuralsearch.processor.highlight.SentenceHighlightingRequest;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.neuralsearch.highlight.SemanticHighlightingConstants;
 import java.util.HashMap;
 
@@ -81,9 +95,21 @@ public class MLCommonsClientAccessor {
     private static final String SELECTED_INDEX = "SELECTED_INDEX";
     private static final String STEPS_FIELD = "STEPS";
     private static final String QUERY_PLANNING_TOOL = "QueryPlanningTool";
+    private static final long MODEL_CACHE_EXPIRE_MINUTES = 1;
 
     private final MachineLearningNodeClient mlClient;
-    private final Cache<String, MLModel> modelCache = CacheBuilder.newBuilder().maximumSize(1000).build();
+    // model metadata is refreshed periodically, so query embedding cache keys pick up redeployed models
+    private final Cache<String, MLModel> modelCache = CacheBuilder.newBuilder()
+        .maximumSize(1000)
+        .expireAfterWrite(MODEL_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+        .build();
+    // identical query inferences in flight share one model call
+    private final InferenceRequestCoalescer<float[]> vectorInferenceCoalescer = new InferenceRequestCoalescer<>();
+    private final InferenceRequestCoalescer<List<Map<String, ?>>> mapResultInferenceCoalescer = new InferenceRequestCoalescer<>();
+    // batches query token weight inferences of concurrent requests when enabled
+    private volatile InferenceRequestBatcher<TokenWeightsBatchKey, String, Map<String, Float>> queryTokenWeightsBatcher;
+    // bounds concurrent model calls per model and request class when enabled
+    private volatile InferenceConcurrencyLimiter inferenceConcurrencyLimiter;
 
     private static final Gson gson = new Gson();
 
@@ -129,16 +155,121 @@ public class MLCommonsClientAccessor {
         @NonNull final ActionListener<List<Map<String, ?>>> listener
     ) {
         checkModelAndThenPredict(inferenceRequest.getModelId(), listener::onFailure, model -> {
+            QueryEmbeddingCache.Key queryKey = QueryEmbeddingCache.getKey(model, inferenceRequest);
+            if (Objects.nonNull(queryKey)) {
+                List<Map<String, Float>> cachedTokenWeights = QueryEmbeddingCache.getTokenWeights(queryKey);
+                if (Objects.nonNull(cachedTokenWeights)) {
+                    listener.onResponse(List.of(Map.of(TokenWeightUtil.RESPONSE_KEY, cachedTokenWeights)));
+                    return;
+                }
+            }
+            final ActionListener<List<Map<String, ?>>> leaderListener = mapResultInferenceCoalescer.join(queryKey, listener);
+            if (Objects.isNull(leaderListener)) {
+                // identical query inference is in flight, the listener is notified with its result
+                return;
+            }
+            final ActionListener<List<Map<String, ?>>> resultListener = Objects.isNull(queryKey)
+                ? leaderListener
+                : ActionListener.wrap(mapResultList -> {
+                    cacheTokenWeights(queryKey, mapResultList);
+                    leaderListener.onResponse(mapResultList);
+                }, leaderListener::onFailure);
+            final InferenceRequestBatcher<TokenWeightsBatchKey, String, Map<String, Float>> batcher = queryTokenWeightsBatcher;
+            if (Objects.nonNull(batcher) && Objects.nonNull(queryKey) && inferenceRequest.getInputTexts().size() == 1) {
+                batcher.submit(
+                    new TokenWeightsBatchKey(
+                        inferenceRequest.getModelId(),
+                        inferenceRequest.getMlAlgoParams(),
+                        inferenceRequest.getTargetResponseFilters()
+                    ),
+                    inferenceRequest.getInputTexts().getFirst(),
+                    ActionListener.wrap(
+                        tokenWeights -> resultListener.onResponse(List.of(Map.of(TokenWeightUtil.RESPONSE_KEY, List.of(tokenWeights)))),
+                        resultListener::onFailure
+                    ),
+                    (inputTexts, batchListener) -> inferenceTokenWeightsBatch(model, inferenceRequest, inputTexts, batchListener)
+                );
+                return;
+            }
             retryableInference(
                 inferenceRequest,
                 0,
                 () -> NeuralSearchMLInputBuilder.createTextEmbeddingInput(model, null, inferenceRequest.getInputTexts(), inferenceRequest),
                 this::buildMapResultFromResponse,
-                listener
+                resultListener
             );
         });
     }
 
+    /**
+     * Runs one inference for query texts of several requests that share the model and inference parameters
+     */
+    private void inferenceTokenWeightsBatch(
+        final MLModel model,
+        final TextInferenceRequest inferenceRequest,
+        final List<String> inputTexts,
+        final ActionListener<List<Map<String, Float>>> listener
+    ) {
+        final TextInferenceRequest batchRequest = TextInferenceRequest.builder()
+            .modelId(inferenceRequest.getModelId())
+            .inputTexts(inputTexts)
+            .targetResponseFilters(inferenceRequest.getTargetResponseFilters())
+            .mlAlgoParams(inferenceRequest.getMlAlgoParams())
+            .embeddingContentType(inferenceRequest.getEmbeddingContentType())
+            .build();
+        retryableInference(
+            batchRequest,
+            0,
+            () -> NeuralSearchMLInputBuilder.createTextEmbeddingInput(model, null, inputTexts, batchRequest),
+            mlOutput -> TokenWeightUtil.fetchListOfTokenWeightMap(buildMapResultFromResponse(mlOutput)),
+            listener
+        );
+    }
+
+    /**
+     * Enables batching of neural_sparse query inferences of the same model, batching stays disabled when max wait is zero.
+     * Batching is also disabled when security is enabled, as a batch runs with the thread context of the request that
+     * opened it and texts of other users would be sent to the model under that user.
+     *
+     * @param threadPool thread pool to schedule execution of batches
+     * @param settings node level settings
+     */
+    public void initializeQueryInferenceBatching(final ThreadPool threadPool, final Settings settings) {
+        final TimeValue maxWait = QUERY_INFERENCE_BATCH_MAX_WAIT.get(settings);
+        queryTokenWeightsBatcher = maxWait.nanos() > 0 && isSecurityEnabled(settings) == false
+            ? new InferenceRequestBatcher<>(threadPool, maxWait, QUERY_INFERENCE_BATCH_MAX_SIZE.get(settings))
+            : null;
+    }
+
+    /**
+     * Enables the per model limit of concurrent inference requests, the limit stays disabled when no request class has
+     * a max number of concurrent requests
+     *
+     * @param threadPool thread pool to run queued inference requests once a slot is free
+     * @param settings node level settings
+     */
+    public void initializeInferenceConcurrencyLimit(final ThreadPool threadPool, final Settings settings) {
+        final int ingestMaxConcurrentRequests = INFERENCE_LIMIT_INGEST_MAX_CONCURRENT_REQUESTS.get(settings);
+        final int searchMaxConcurrentRequests = INFERENCE_LIMIT_SEARCH_MAX_CONCURRENT_REQUESTS.get(settings);
+        inferenceConcurrencyLimiter = ingestMaxConcurrentRequests > 0 || searchMaxConcurrentRequests > 0
+            ? new InferenceConcurrencyLimiter(
+                threadPool,
+                ingestMaxConcurrentRequests,
+                searchMaxConcurrentRequests,
+                INFERENCE_LIMIT_MAX_QUEUED_REQUESTS.get(settings)
+            )
+            : null;
+    }
+
+    private void cacheTokenWeights(final QueryEmbeddingCache.Key queryKey, final List<Map<String, ?>> mapResultList) {
+        try {
+            QueryEmbeddingCache.putTokenWeights(queryKey, TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList));
+        } catch (IllegalArgumentException e) {
+            // the caller reports invalid model responses, such responses are not cached
+            log.debug("Query token weights are not cached for model [{}]: {}", queryKey.modelId(), e.getMessage());
+        }
+    }
+
     /**
      * Abstraction to call predict function of api of MLClient with provided targetResponse filters. It uses the
      * custom model provided as modelId and run the {@link FunctionName#TEXT_EMBEDDING}. The return will be sent
@@ -148,22 +279,95 @@ public class MLCommonsClientAccessor {
      * @param listener         {@link ActionListener} which will be called when prediction is completed or errored out.
      */
     public void inferenceSentencesMap(@NonNull MapInferenceRequest inferenceRequest, @NonNull final ActionListener<List<Number>> listener) {
-        checkModelAndThenPredict(inferenceRequest.getModelId(), listener::onFailure, model -> {
-            retryableInference(
+        checkModelAndThenPredict(
+            inferenceRequest.getModelId(),
+            listener::onFailure,
+            model -> retryableInference(
                 inferenceRequest,
                 0,
-                () -> NeuralSearchMLInputBuilder.createMultimodalInputFromMap(
-                    model,
-                    inferenceRequest.getTargetResponseFilters(),
-                    inferenceRequest.getInputObjects(),
-                    inferenceRequest
-                ),
+                () -> createMultimodalInput(model, inferenceRequest),
                 this::buildSingleVectorFromResponse,
                 listener
+            )
+        );
+    }
+
+    /**
+     * Same as {@link #inferenceSentencesMap(MapInferenceRequest, ActionListener)} with the vector as primitive array, for
+     * callers that don't need boxed values such as query builders. Query vectors are served from the query embedding
+     * cache, and identical query inferences in flight are coalesced. The array can be shared between listeners and
+     * must not be modified.
+     *
+     * @param inferenceRequest {@link InferenceRequest}
+     * @param listener         {@link ActionListener} which will be called when prediction is completed or errored out.
+     */
+    public void inferenceSentencesMapAsFloatArray(
+        @NonNull final MapInferenceRequest inferenceRequest,
+        @NonNull final ActionListener<float[]> listener
+    ) {
+        checkModelAndThenPredict(inferenceRequest.getModelId(), listener::onFailure, model -> {
+            QueryEmbeddingCache.Key queryKey = QueryEmbeddingCache.getKey(model, inferenceRequest);
+            if (Objects.nonNull(queryKey)) {
+                float[] cachedVector = QueryEmbeddingCache.getVector(queryKey);
+                if (Objects.nonNull(cachedVector)) {
+                    listener.onResponse(cachedVector);
+                    return;
+                }
+            }
+            final ActionListener<float[]> leaderListener = vectorInferenceCoalescer.join(queryKey, listener);
+            if (Objects.isNull(leaderListener)) {
+                // identical query inference is in flight, the listener is notified with its result
+                return;
+            }
+            final ActionListener<float[]> resultListener = Objects.isNull(queryKey)
+                ? leaderListener
+                : ActionListener.wrap(vector -> {
+                    QueryEmbeddingCache.putVector(queryKey, vector);
+                    leaderListener.onResponse(vector);
+                }, leaderListener::onFailure);
+            retryableInference(
+                inferenceRequest,
+                0,
+                () -> createMultimodalInput(model, inferenceRequest),
+                mlOutput -> VectorUtil.vectorAsListToArray(buildSingleVectorFromResponse(mlOutput, false)),
+                resultListener
             );
         });
     }
 
+    /**
+     * Same as {@link #inferenceSentences(TextInferenceRequest, ActionListener)} with vectors as primitive arrays in the
+     * order of input texts.
+     *
+     * @param inferenceRequest {@link InferenceRequest}
+     * @param listener         {@link ActionListener} which will be called when prediction is completed or errored out.
+     */
+    public void inferenceSentencesAsFloatArrays(
+        @NonNull final TextInferenceRequest inferenceRequest,
+        @NonNull final ActionListener<List<float[]>> listener
+    ) {
+        checkModelAndThenPredict(
+            inferenceRequest.getModelId(),
+            listener::onFailure,
+            model -> runInference(
+                inferenceRequest,
+                model,
+                inferenceRequest.getTargetResponseFilters(),
+                this::buildFloatArraysFromResponse,
+                listener
+            )
+        );
+    }
+
+    private MLInput createMultimodalInput(final MLModel model, final MapInferenceRequest inferenceRequest) {
+        return NeuralSearchMLInputBuilder.createMultimodalInputFromMap(
+            model,
+            inferenceRequest.getTargetResponseFilters(),
+            inferenceRequest.getInputObjects(),
+            inferenceRequest
+        );
+    }
+
     /**
      * Abstraction to call predict function of api of MLClient. It uses the custom model provided as modelId and the
      * {@link FunctionName#TEXT_SIMILARITY}. The return will be sent via actionListener as a list of floats representing
@@ -202,22 +406,56 @@ public class MLCommonsClientAccessor {
         final Supplier<MLInput> mlInputSupplier,
         final Function<MLOutput, T> mlOutputBuilder,
         final ActionListener<T> listener
+    ) {
+        final InferenceConcurrencyLimiter limiter = inferenceConcurrencyLimiter;
+        if (limiter == null) {
+            predict(inferenceRequest, retryTime, mlInputSupplier, mlOutputBuilder, listener, () -> {});
+            return;
+        }
+        limiter.execute(
+            inferenceRequest.getModelId(),
+            InferenceConcurrencyLimiter.CallClass.of(inferenceRequest),
+            release -> predict(inferenceRequest, retryTime, mlInputSupplier, mlOutputBuilder, listener, release),
+            listener::onFailure
+        );
+    }
+
+    private <T> void predict(
+        final InferenceRequest inferenceRequest,
+        final int retryTime,
+        final Supplier<MLInput> mlInputSupplier,
+        final Function<MLOutput, T> mlOutputBuilder,
+        final ActionListener<T> listener,
+        final Runnable release
     ) {
         MLInput mlInput = mlInputSupplier.get();
+        // the slot is freed as soon as the model call completes, a retry queues again like any new request
         mlClient.predict(inferenceRequest.getModelId(), mlInput, ActionListener.wrap(mlOutput -> {
+            release.run();
             final T result = mlOutputBuilder.apply(mlOutput);
             listener.onResponse(result);
-        },
-            e -> RetryUtil.handleRetryOrFailure(
+        }, e -> {
+            release.run();
+            RetryUtil.handleRetryOrFailure(
                 e,
                 retryTime,
                 () -> retryableInference(inferenceRequest, retryTime + 1, mlInputSupplier, mlOutputBuilder, listener),
                 listener
-            )
-        ));
+            );
+        }));
     }
 
     private <T extends Number> List<List<T>> buildVectorFromResponse(MLOutput mlOutput) {
+        return buildVectorFromResponse(mlOutput, true);
+    }
+
+    /**
+     * @param mlOutput model output
+     * @param mutableVectors whether vectors are copied into mutable lists, vectors of documents must be mutable for
+     *                       downstream ingest processors, vectors converted to arrays right away are only views
+     * @return vectors of the model output
+     */
+    private <T extends Number> List<List<T>> buildVectorFromResponse(final MLOutput mlOutput, final boolean mutableVectors) {
         final List<List<T>> vector = new ArrayList<>();
         final ModelTensorOutput modelTensorOutput = (ModelTensorOutput) mlOutput;
         final List<ModelTensors> tensorOutputList = modelTensorOutput.getMlModelOutputs();
@@ -228,14 +466,15 @@ public class MLCommonsClientAccessor {
                 // Check if we have standard tensor data first (local models)
                 if (tensor.getData() != null) {
                     if (tensor.getData().length > 0) {
-                        vector.add(Arrays.stream(tensor.getData()).map(value -> (T) value).collect(Collectors.toList()));
+                        List<T> tensorData = (List<T>) Arrays.asList(tensor.getData());
+                        vector.add(mutableVectors ? new ArrayList<>(tensorData) : tensorData);
                     } else {
                         // Add empty list for empty tensor data
                         vector.add(new ArrayList<>());
                     }
                 } else {
                     // Remote model: extract from dataAsMap with "response" key
-                    List<List<T>> remoteVectors = extractVectorsFromRemoteEmbeddingResponse(tensor);
+                    List<List<T>> remoteVectors = extractVectorsFromRemoteEmbeddingResponse(tensor, mutableVectors);
                     vector.addAll(remoteVectors);
                 }
             }
@@ -252,7 +491,7 @@ public class MLCommonsClientAccessor {
      * If the response format is invalid, throws an {@link IllegalStateException} with
      * an actionable message guiding the user to fix their connector's post_process_function.
      */
-    private <T extends Number> List<List<T>> extractVectorsFromRemoteEmbeddingResponse(ModelTensor tensor) {
+    private <T extends Number> List<List<T>> extractVectorsFromRemoteEmbeddingResponse(ModelTensor tensor, boolean mutableVectors) {
         Map<String, ?> dataMap = tensor.getDataAsMap();
 
         if (dataMap == null) {
@@ -303,7 +542,7 @@ public class MLCommonsClientAccessor {
                         + "{\"response\": [[float, float, ...], ...]}"
                 );
             }
-            vectors.add(embeddingList.stream().map(v -> (T) v).collect(Collectors.toList()));
+            vectors.add(mutableVectors ? new ArrayList<>((List<T>) embeddingList) : (List<T>) embeddingList);
         }
         return vectors;
     }
@@ -355,8 +594,21 @@ public class MLCommonsClientAccessor {
         throw new IllegalStateException("No valid DSL result found in model output");
     }
 
+    private List<float[]> buildFloatArraysFromResponse(final MLOutput mlOutput) {
+        final List<List<Number>> vectors = buildVectorFromResponse(mlOutput, false);
+        final List<float[]> floatArrays = new ArrayList<>(vectors.size());
+        for (List<Number> vector : vectors) {
+            floatArrays.add(VectorUtil.vectorAsListToArray(vector));
+        }
+        return floatArrays;
+    }
+
     private <T extends Number> List<T> buildSingleVectorFromResponse(final MLOutput mlOutput) {
-        final List<List<T>> vector = buildVectorFromResponse(mlOutput);
+        return buildSingleVectorFromResponse(mlOutput, true);
+    }
+
+    private <T extends Number> List<T> buildSingleVectorFromResponse(final MLOutput mlOutput, final boolean mutableVector) {
+        final List<List<T>> vector = buildVectorFromResponse(mlOutput, mutableVector);
         return vector.isEmpty() ? new ArrayList<>() : vector.get(0);
     }
 
@@ -1291,4 +1543,9 @@ public class MLCommonsClientAccessor {
         }, listener::onFailure));
     }
 
+    /**
+     * Inputs with the same model, algorithm parameters and response filters are inferred in one batch
+     */
+    private record TokenWeightsBatchKey(String modelId, MLAlgoParams mlAlgoParams, List<String> targetResponseFilters) {
+    }
 }
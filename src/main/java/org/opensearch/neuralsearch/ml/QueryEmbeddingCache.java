@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.neuralsearch.processor.EmbeddingContentType;
+import org.opensearch.neuralsearch.processor.InferenceRequest;
+import org.opensearch.neuralsearch.processor.MapInferenceRequest;
+import org.opensearch.neuralsearch.processor.TextInferenceRequest;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_EXPIRE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_SIZE;
+import static org.opensearch.neuralsearch.util.SecurityUtil.isSecurityEnabled;
+
+/**
+ * Node level cache of query inference results, dense vectors are kept as float[] and sparse results as token weight maps.
+ * Popular query strings of neural and neural_sparse queries are served without calling the model again. Entries are keyed
+ * by model id, model version and last deploy time of the model, so a redeployed model doesn't hit entries of its previous
+ * deployment, and by a digest of the query inputs, so large inputs like images are not kept in the cache. When security is
+ * enabled no keys are built, so query inference results are neither cached nor coalesced: a caller served with the result of
+ * another caller would skip the model access control that ML Commons applies to the predict call.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryEmbeddingCache {
+    private static final long KEY_BYTES = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+    // hash map node with hash, key, value and next, its slot in the table and the boxed weight
+    private static final long MAP_ENTRY_BYTES = RamUsageEstimator.NUM_BYTES_OBJECT_HEADER + Integer.BYTES
+        + 4L * RamUsageEstimator.NUM_BYTES_OBJECT_REF + RamUsageEstimator.shallowSizeOfInstance(Float.class);
+    private static final byte MAP_INPUT = 0;
+    private static final byte TEXT_INPUT = 1;
+    private static final byte SEPARATOR = 0;
+    private static volatile Cache<Key, Object> cache;
+    private static volatile boolean securityEnabled;
+
+    /**
+     * Create the cache from node settings, cache of zero size or with security enabled is not created
+     * @param settings node level settings
+     */
+    public static void initialize(final Settings settings) {
+        securityEnabled = isSecurityEnabled(settings);
+        long maxBytes = QUERY_EMBEDDING_CACHE_SIZE.get(settings).getBytes();
+        if (maxBytes <= 0 || securityEnabled) {
+            cache = null;
+            return;
+        }
+        cache = CacheBuilder.<Key, Object>builder()
+            .setMaximumWeight(maxBytes)
+            .setExpireAfterWrite(QUERY_EMBEDDING_CACHE_EXPIRE.get(settings))
+            .weigher((key, value) -> ramBytesUsed(key, value))
+            .build();
+    }
+
+    /**
+     * Build key of a dense inference of query inputs, the key is used for caching and coalescing of query inferences
+     * @param model model used for the inference
+     * @param inferenceRequest inference request
+     * @return key or null if the request is not a query inference or security is enabled
+     */
+    static Key getKey(final MLModel model, final MapInferenceRequest inferenceRequest) {
+        if (securityEnabled || isQueryInference(inferenceRequest) == false || Objects.isNull(inferenceRequest.getInputObjects())) {
+            return null;
+        }
+        MessageDigest digest = MessageDigests.sha256();
+        digest.update(MAP_INPUT);
+        // input objects can be any map, sort entries to get the same digest for the same inputs
+        for (Map.Entry<String, String> entry : new TreeMap<>(inferenceRequest.getInputObjects()).entrySet()) {
+            update(digest, entry.getKey());
+            update(digest, entry.getValue());
+        }
+        return buildKey(model, inferenceRequest, digest);
+    }
+
+    /**
+     * Build key of a sparse inference of query texts, the key is used for caching and coalescing of query inferences
+     * @param model model used for the inference
+     * @param inferenceRequest inference request
+     * @return key or null if the request is not a query inference or security is enabled
+     */
+    static Key getKey(final MLModel model, final TextInferenceRequest inferenceRequest) {
+        if (securityEnabled || isQueryInference(inferenceRequest) == false || Objects.isNull(inferenceRequest.getInputTexts())) {
+            return null;
+        }
+        MessageDigest digest = MessageDigests.sha256();
+        digest.update(TEXT_INPUT);
+        for (String inputText : inferenceRequest.getInputTexts()) {
+            update(digest, inputText);
+        }
+        return buildKey(model, inferenceRequest, digest);
+    }
+
+    /**
+     * Get cached query vector
+     * @param key cache key
+     * @return copy of the cached vector or null if there is no vector for the key
+     */
+    static float[] getVector(final Key key) {
+        Object value = get(key);
+        return value instanceof float[] vector ? vector.clone() : null;
+    }
+
+    /**
+     * Put query vector to the cache, empty vectors are not cached
+     * @param key cache key
+     * @param vector vector produced by the model
+     */
+    static void putVector(final Key key, final float[] vector) {
+        Cache<Key, Object> currentCache = cache;
+        if (Objects.isNull(currentCache) || Objects.isNull(vector) || vector.length == 0) {
+            return;
+        }
+        currentCache.put(key, vector.clone());
+    }
+
+    /**
+     * Get cached query token weights
+     * @param key cache key
+     * @return copy of the cached token weight maps or null if there are no token weights for the key
+     */
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Float>> getTokenWeights(final Key key) {
+        Object value = get(key);
+        return value instanceof List<?> tokenWeights ? copy((List<Map<String, Float>>) tokenWeights) : null;
+    }
+
+    /**
+     * Put query token weights to the cache
+     * @param key cache key
+     * @param tokenWeights token weight maps produced by the model, one per input text
+     */
+    static void putTokenWeights(final Key key, final List<Map<String, Float>> tokenWeights) {
+        Cache<Key, Object> currentCache = cache;
+        if (Objects.nonNull(currentCache) && Objects.nonNull(tokenWeights)) {
+            // callers can modify token weights, e.g. when pruning them, cache keeps its own copy
+            currentCache.put(key, copy(tokenWeights));
+        }
+    }
+
+    private static Object get(final Key key) {
+        Cache<Key, Object> currentCache = cache;
+        if (Objects.isNull(currentCache)) {
+            return null;
+        }
+        Object value = currentCache.get(key);
+        EventStatsManager.increment(
+            Objects.isNull(value) ? EventStatName.QUERY_EMBEDDING_CACHE_MISSES : EventStatName.QUERY_EMBEDDING_CACHE_HITS
+        );
+        return value;
+    }
+
+    private static boolean isQueryInference(final InferenceRequest inferenceRequest) {
+        return inferenceRequest.getEmbeddingContentType() == EmbeddingContentType.QUERY;
+    }
+
+    private static Key buildKey(final MLModel model, final InferenceRequest inferenceRequest, final MessageDigest digest) {
+        if (Objects.nonNull(inferenceRequest.getTargetResponseFilters())) {
+            for (String targetResponseFilter : inferenceRequest.getTargetResponseFilters()) {
+                update(digest, targetResponseFilter);
+            }
+        }
+        return new Key(
+            inferenceRequest.getModelId(),
+            model.getVersion(),
+            model.getLastDeployedTime(),
+            inferenceRequest.getEmbeddingContentType(),
+            inferenceRequest.getMlAlgoParams(),
+            MessageDigests.toHexString(digest.digest())
+        );
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        if (Objects.nonNull(value)) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update(SEPARATOR);
+    }
+
+    private static List<Map<String, Float>> copy(final List<Map<String, Float>> tokenWeights) {
+        List<Map<String, Float>> copiedTokenWeights = new ArrayList<>(tokenWeights.size());
+        for (Map<String, Float> tokenWeight : tokenWeights) {
+            copiedTokenWeights.add(new HashMap<>(tokenWeight));
+        }
+        return copiedTokenWeights;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long ramBytesUsed(final Key key, final Object value) {
+        long bytes = KEY_BYTES + RamUsageEstimator.sizeOf(key.modelId()) + RamUsageEstimator.sizeOf(key.inputDigest());
+        if (value instanceof float[] vector) {
+            return bytes + RamUsageEstimator.sizeOf(vector);
+        }
+        for (Map<String, Float> tokenWeight : (List<Map<String, Float>>) value) {
+            bytes += RamUsageEstimator.shallowSizeOfInstance(HashMap.class);
+            for (String token : tokenWeight.keySet()) {
+                bytes += MAP_ENTRY_BYTES + RamUsageEstimator.sizeOf(token);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Identity of a query inference, algorithm parameters are compared by equals and are usually shared constants
+     */
+    record Key(
+        String modelId,
+        String modelVersion,
+        Instant lastDeployedTime,
+        EmbeddingContentType embeddingContentType,
+        MLAlgoParams mlAlgoParams,
+        String inputDigest
+    ) {
+    }
+}
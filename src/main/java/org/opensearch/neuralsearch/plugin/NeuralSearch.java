@@ -6,6 +6,23 @@ package org.opensearch.neuralsearch.plugin;
 
 import static org.opensearch.neuralsearch.highlight.SemanticHighlightingConstants.HIGHLIGHTER_TYPE;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_COLLAPSE_DOCS_PER_GROUP_PER_SUBQUERY;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_PARALLEL_SUB_QUERY_SCORING_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_RESULTS_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_RESULTS_CACHE_EXPIRE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_RESULTS_CACHE_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_LIMIT_INGEST_MAX_CONCURRENT_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_LIMIT_MAX_QUEUED_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_LIMIT_SEARCH_MAX_CONCURRENT_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_EMBEDDING_CACHE_EXPIRE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_EMBEDDING_CACHE_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_BATCH_MAX_CHARACTERS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_BATCH_MAX_CONCURRENT_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_EXPIRE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_INFERENCE_BATCH_MAX_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_INFERENCE_BATCH_MAX_WAIT;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_REWRITE_INFERENCE_BATCHING_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.NEURAL_SPARSE_DOT_PRODUCT_QUERY_ENABLED;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.RERANKER_MAX_DOC_FIELDS;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.NEURAL_STATS_ENABLED;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.SEMANTIC_INGEST_BATCH_SIZE;
@@ -35,11 +52,13 @@ import org.opensearch.action.ActionRequest;
 import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
 import org.opensearch.neuralsearch.query.HybridQueryBuilder;
 import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
+import org.opensearch.neuralsearch.query.QueryRewriteInferenceBatcher;
 import org.opensearch.neuralsearch.query.NeuralKNNQueryBuilder;
 import org.opensearch.neuralsearch.query.AgenticSearchQueryBuilder;
 import org.opensearch.neuralsearch.grpc.proto.request.search.query.HybridQueryBuilderProtoConverter;
 import org.opensearch.neuralsearch.search.collector.HybridQueryCollectorContextSpecFactory;
 import org.opensearch.neuralsearch.search.query.HybridQueryPhaseSearcher;
+import org.opensearch.neuralsearch.search.query.HybridQueryResultsCache;
 import org.opensearch.neuralsearch.rest.RestNeuralSparseClearCacheHandler;
 import org.opensearch.neuralsearch.rest.RestNeuralSparseWarmupHandler;
 import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
@@ -96,12 +115,16 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.codec.CodecServiceFactory;
 import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.ingest.Processor;
+import org.opensearch.neuralsearch.executors.HybridNormalizationExecutor;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 import org.opensearch.neuralsearch.highlight.SemanticHighlighter;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.ml.QueryEmbeddingCache;
 import org.opensearch.neuralsearch.processor.AgenticQueryTranslatorProcessor;
 import org.opensearch.neuralsearch.processor.AgenticContextResponseProcessor;
 import org.opensearch.neuralsearch.processor.ExplanationResponseProcessor;
+import org.opensearch.neuralsearch.processor.IngestEmbeddingCache;
+import org.opensearch.neuralsearch.processor.IngestInferenceBatcher;
 import org.opensearch.neuralsearch.processor.NeuralQueryEnricherProcessor;
 import org.opensearch.neuralsearch.processor.NeuralSparseTwoPhaseProcessor;
 import org.opensearch.neuralsearch.processor.NormalizationProcessor;
@@ -221,11 +244,19 @@ public class NeuralSearch extends Plugin
         this.clusterService = clusterService;
         // Create clientAccessor first as it's needed by other components
         clientAccessor = new MLCommonsClientAccessor(new MachineLearningNodeClient(client));
+        clientAccessor.initializeQueryInferenceBatching(threadPool, environment.settings());
+        clientAccessor.initializeInferenceConcurrencyLimit(threadPool, environment.settings());
 
         NeuralSearchClusterUtil.instance().initialize(clusterService, indexNameExpressionResolver);
         NeuralQueryBuilder.initialize(clientAccessor);
         NeuralSparseQueryBuilder.initialize(clientAccessor);
         HybridQueryExecutor.initialize(threadPool);
+        HybridNormalizationExecutor.initialize(threadPool);
+        HybridQueryResultsCache.initialize(environment.settings());
+        QueryEmbeddingCache.initialize(environment.settings());
+        QueryRewriteInferenceBatcher.initialize(environment.settings());
+        IngestInferenceBatcher.initialize(environment.settings());
+        IngestEmbeddingCache.initialize(environment.settings());
         normalizationProcessorWorkflow = new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner());
         settingsAccessor = new NeuralSearchSettingsAccessor(clusterService, environment.settings());
         pipelineServiceUtil = new PipelineServiceUtil(clusterService);
@@ -303,7 +334,8 @@ public class NeuralSearch extends Plugin
                 -1,
                 SparseConstants.THREAD_POOL_NAME,
                 false
-            )
+            ),
+            HybridNormalizationExecutor.getExecutorBuilder(settings)
         );
     }
 
@@ -365,6 +397,23 @@ public class NeuralSearch extends Plugin
             NEURAL_STATS_ENABLED,
             SEMANTIC_INGEST_BATCH_SIZE,
             HYBRID_COLLAPSE_DOCS_PER_GROUP_PER_SUBQUERY,
+            NEURAL_SPARSE_DOT_PRODUCT_QUERY_ENABLED,
+            HYBRID_PARALLEL_SUB_QUERY_SCORING_ENABLED,
+            HYBRID_RESULTS_CACHE_ENABLED,
+            HYBRID_RESULTS_CACHE_SIZE,
+            HYBRID_RESULTS_CACHE_EXPIRE,
+            QUERY_EMBEDDING_CACHE_SIZE,
+            QUERY_EMBEDDING_CACHE_EXPIRE,
+            QUERY_INFERENCE_BATCH_MAX_WAIT,
+            QUERY_INFERENCE_BATCH_MAX_SIZE,
+            QUERY_REWRITE_INFERENCE_BATCHING_ENABLED,
+            INGEST_INFERENCE_BATCH_MAX_CHARACTERS,
+            INGEST_INFERENCE_BATCH_MAX_CONCURRENT_REQUESTS,
+            INGEST_EMBEDDING_CACHE_SIZE,
+            INGEST_EMBEDDING_CACHE_EXPIRE,
+            INFERENCE_LIMIT_INGEST_MAX_CONCURRENT_REQUESTS,
+            INFERENCE_LIMIT_SEARCH_MAX_CONCURRENT_REQUESTS,
+            INFERENCE_LIMIT_MAX_QUEUED_REQUESTS,
             SparseSettings.IS_SPARSE_INDEX_SETTING,
             NeuralSearchSettings.SPARSE_ALGO_PARAM_INDEX_THREAD_QTY_SETTING,
             NEURAL_CIRCUIT_BREAKER_LIMIT,
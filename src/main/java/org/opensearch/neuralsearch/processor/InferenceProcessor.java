@@ -32,6 +32,7 @@ import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
 import org.opensearch.neuralsearch.util.TokenWeightUtil;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.neuralsearch.util.prune.PruneUtils;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -40,10 +41,12 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -88,6 +91,8 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
 
     private final Map<String, Object> fieldMap;
 
+    private final FetchSourceContext existingDocumentFetchSourceContext;
+
     protected final MLCommonsClientAccessor mlCommonsClientAccessor;
 
     private final Environment environment;
@@ -112,6 +117,7 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         this.listTypeNestedMapKey = listTypeNestedMapKey;
         this.modelId = modelId;
         this.fieldMap = fieldMap;
+        this.existingDocumentFetchSourceContext = buildExistingDocumentFetchSourceContext(fieldMap);
         this.mlCommonsClientAccessor = clientAccessor;
         this.environment = environment;
         this.clusterService = clusterService;
@@ -221,10 +227,33 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         Tuple<List<String>, Map<Integer, Integer>> sortedResult = sortByLengthAndReturnOriginalOrder(inferenceList);
         inferenceList = sortedResult.v1();
         Map<Integer, Integer> originalOrder = sortedResult.v2();
-        doBatchExecute(inferenceList, results -> {
-            batchExecuteHandler(results, dataForInferences, originalOrder);
-            handler.accept(ingestDocumentWrappers);
-        }, exception -> { updateWithExceptions(ingestDocumentWrappers, handler, exception); });
+        // cached and repeated texts are not inferred again, the remaining texts sorted by length are split into model calls
+        // within the configured character budget
+        IngestEmbeddingCache.execute(
+            getInferenceCacheScope(),
+            modelId,
+            inferenceList,
+            (texts, resultsHandler, onException) -> IngestInferenceBatcher.execute(
+                texts,
+                this::doBatchExecute,
+                resultsHandler,
+                onException
+            ),
+            results -> {
+                batchExecuteHandler(results, dataForInferences, originalOrder);
+                handler.accept(ingestDocumentWrappers);
+            },
+            exception -> { updateWithExceptions(ingestDocumentWrappers, handler, exception); }
+        );
+    }
+
+    /**
+     * Scope of cached inference results of this processor, processors that produce different results for the same model
+     * and text must return different scopes
+     * @return scope of cached inference results
+     */
+    protected String getInferenceCacheScope() {
+        return type;
     }
 
     protected void batchExecuteHandler(List<?> results, List<DataForInference> dataForInferences, Map<Integer, Integer> originalOrder) {
@@ -457,12 +486,32 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
             Object index = dataForInference.getIngestDocumentWrapper().getIngestDocument().getSourceAndMetadata().get(INDEX_FIELD);
             Object id = dataForInference.getIngestDocumentWrapper().getIngestDocument().getSourceAndMetadata().get(ID_FIELD);
             if (Objects.nonNull(index) && Objects.nonNull(id)) {
-                multiGetRequest.add(index.toString(), id.toString());
+                multiGetRequest.add(
+                    new MultiGetRequest.Item(index.toString(), id.toString()).fetchSourceContext(existingDocumentFetchSourceContext)
+                );
             }
         }
         return multiGetRequest;
     }
 
+    /**
+     * Source filtering of existing documents fetched to reuse embeddings. Only the input fields of the field map and their
+     * embeddings are compared, so other fields of the existing documents are not fetched.
+     * @return fetch source context of existing documents
+     */
+    protected FetchSourceContext getExistingDocumentFetchSourceContext() {
+        return existingDocumentFetchSourceContext;
+    }
+
+    private static FetchSourceContext buildExistingDocumentFetchSourceContext(Map<String, Object> fieldMap) {
+        Set<String> includes = new LinkedHashSet<>();
+        ProcessorDocumentUtils.flattenAndFlip(fieldMap).forEach((embeddingField, inputField) -> {
+            includes.add(inputField);
+            includes.add(embeddingField);
+        });
+        return new FetchSourceContext(true, includes.toArray(new String[0]), new String[0]);
+    }
+
     /**
      * This method creates a map of documents from MultiGetItemResponse where the key is document ID and value is corresponding document
      * @param multiGetItemResponses, array of responses from Multi Get Request
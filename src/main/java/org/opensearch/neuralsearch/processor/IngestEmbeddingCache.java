@@ -0,0 +1,209 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_EMBEDDING_CACHE_EXPIRE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_EMBEDDING_CACHE_SIZE;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.TriConsumer;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Node level cache of ingest inference results keyed by processor scope, model id and a digest of the text, so boilerplate
+ * texts repeated across documents and re-ingests of the same documents are inferred once. Identical texts of one batch
+ * are sent to the model once as well. Dense vectors are kept as float[] and sparse results as token weight maps, every
+ * document gets its own copy of a result.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IngestEmbeddingCache {
+    private static final long KEY_BYTES = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+    // hash map node with hash, key, value and next, its slot in the table and the boxed weight
+    private static final long MAP_ENTRY_BYTES = RamUsageEstimator.NUM_BYTES_OBJECT_HEADER + Integer.BYTES
+        + 4L * RamUsageEstimator.NUM_BYTES_OBJECT_REF + RamUsageEstimator.shallowSizeOfInstance(Float.class);
+    private static volatile Cache<Key, Object> cache;
+
+    /**
+     * Create the cache from node settings, cache of zero size is not created
+     * @param settings node level settings
+     */
+    public static void initialize(final Settings settings) {
+        long maxBytes = INGEST_EMBEDDING_CACHE_SIZE.get(settings).getBytes();
+        if (maxBytes <= 0) {
+            cache = null;
+            return;
+        }
+        cache = CacheBuilder.<Key, Object>builder()
+            .setMaximumWeight(maxBytes)
+            .setExpireAfterWrite(INGEST_EMBEDDING_CACHE_EXPIRE.get(settings))
+            .weigher((key, value) -> ramBytesUsed(key, value))
+            .build();
+    }
+
+    /**
+     * Run inference of texts, cached texts and repeated texts of the list are not sent to the model
+     * @param scope identifies processor type and configuration that affect the results, e.g. pruning of sparse vectors
+     * @param modelId id of the model
+     * @param inferenceList texts for inference
+     * @param batchInference runs inference of texts, must complete with one result per text in text order
+     * @param handler receives results of all texts in text order
+     * @param onException receives failure of the inference
+     */
+    static void execute(
+        final String scope,
+        final String modelId,
+        final List<String> inferenceList,
+        final TriConsumer<List<String>, Consumer<List<?>>, Consumer<Exception>> batchInference,
+        final Consumer<List<?>> handler,
+        final Consumer<Exception> onException
+    ) {
+        final Cache<Key, Object> currentCache = cache;
+        if (Objects.isNull(currentCache)) {
+            batchInference.apply(inferenceList, handler, onException);
+            return;
+        }
+        final Object[] results = new Object[inferenceList.size()];
+        // positions of each text that is not cached, in order of first occurrence
+        final Map<String, List<Integer>> missPositions = new LinkedHashMap<>();
+        for (int i = 0; i < inferenceList.size(); i++) {
+            String text = inferenceList.get(i);
+            List<Integer> positions = missPositions.get(text);
+            if (Objects.nonNull(positions)) {
+                positions.add(i);
+                continue;
+            }
+            Object cachedValue = currentCache.get(new Key(scope, modelId, digest(text)));
+            if (Objects.nonNull(cachedValue)) {
+                EventStatsManager.increment(EventStatName.INGEST_EMBEDDING_CACHE_HITS);
+                results[i] = fromCachedValue(cachedValue);
+                continue;
+            }
+            EventStatsManager.increment(EventStatName.INGEST_EMBEDDING_CACHE_MISSES);
+            positions = new ArrayList<>();
+            positions.add(i);
+            missPositions.put(text, positions);
+        }
+        if (missPositions.isEmpty()) {
+            handler.accept(Arrays.asList(results));
+            return;
+        }
+        final List<String> missTexts = new ArrayList<>(missPositions.keySet());
+        batchInference.apply(missTexts, missResults -> {
+            if (missResults.size() != missTexts.size()) {
+                onException.accept(
+                    new IllegalStateException(
+                        String.format(Locale.ROOT, "Inference returned [%d] results for [%d] texts", missResults.size(), missTexts.size())
+                    )
+                );
+                return;
+            }
+            for (int i = 0; i < missTexts.size(); i++) {
+                String text = missTexts.get(i);
+                Object result = missResults.get(i);
+                Object cachedValue = toCachedValue(result);
+                if (Objects.nonNull(cachedValue)) {
+                    currentCache.put(new Key(scope, modelId, digest(text)), cachedValue);
+                }
+                List<Integer> positions = missPositions.get(text);
+                results[positions.getFirst()] = result;
+                for (int j = 1; j < positions.size(); j++) {
+                    results[positions.get(j)] = copy(result);
+                }
+            }
+            handler.accept(Arrays.asList(results));
+        }, onException);
+    }
+
+    private static String digest(final String text) {
+        return MessageDigests.toHexString(MessageDigests.sha256().digest(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Object toCachedValue(final Object result) {
+        if (result instanceof List<?> vector) {
+            float[] values = new float[vector.size()];
+            for (int i = 0; i < values.length; i++) {
+                if (vector.get(i) instanceof Number number) {
+                    values[i] = number.floatValue();
+                } else {
+                    return null;
+                }
+            }
+            return values;
+        }
+        if (result instanceof Map<?, ?> tokenWeights) {
+            Map<String, Float> values = new HashMap<>(tokenWeights.size());
+            for (Map.Entry<?, ?> entry : tokenWeights.entrySet()) {
+                if (entry.getKey() instanceof String token && entry.getValue() instanceof Number weight) {
+                    values.put(token, weight.floatValue());
+                } else {
+                    return null;
+                }
+            }
+            return values;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object fromCachedValue(final Object cachedValue) {
+        if (cachedValue instanceof float[] values) {
+            List<Float> vector = new ArrayList<>(values.length);
+            for (float value : values) {
+                vector.add(value);
+            }
+            return vector;
+        }
+        return new HashMap<>((Map<String, Float>) cachedValue);
+    }
+
+    private static Object copy(final Object result) {
+        if (result instanceof List<?> list) {
+            return new ArrayList<>(list);
+        }
+        if (result instanceof Map<?, ?> map) {
+            return new HashMap<>(map);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long ramBytesUsed(final Key key, final Object value) {
+        long bytes = KEY_BYTES + RamUsageEstimator.sizeOf(key.scope()) + RamUsageEstimator.sizeOf(key.modelId());
+        bytes += RamUsageEstimator.sizeOf(key.contentDigest());
+        if (value instanceof float[] vector) {
+            return bytes + RamUsageEstimator.sizeOf(vector);
+        }
+        bytes += RamUsageEstimator.shallowSizeOfInstance(HashMap.class);
+        for (String token : ((Map<String, Float>) value).keySet()) {
+            bytes += MAP_ENTRY_BYTES + RamUsageEstimator.sizeOf(token);
+        }
+        return bytes;
+    }
+
+    /**
+     * Identity of the inference of one text
+     */
+    record Key(String scope, String modelId, String contentDigest) {
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_BATCH_MAX_CHARACTERS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_BATCH_MAX_CONCURRENT_REQUESTS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.opensearch.common.TriConsumer;
+import org.opensearch.common.settings.Settings;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Splits the texts of an ingest sub batch into model calls of at most a configured number of characters, so that the
+ * cost and the size of one model request don't depend on how large the documents of a bulk request are. Texts are
+ * expected to be sorted by length, so each model call gets texts of similar length. Model calls of one sub batch run
+ * concurrently up to a configured limit and their results are handed over in the order of the texts.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IngestInferenceBatcher {
+    private static volatile int maxCharacters;
+    private static volatile int maxConcurrentRequests = 1;
+
+    /**
+     * Initialize batching of ingest inferences from node settings
+     * @param settings node level settings
+     */
+    public static void initialize(final Settings settings) {
+        maxCharacters = INGEST_INFERENCE_BATCH_MAX_CHARACTERS.get(settings);
+        maxConcurrentRequests = INGEST_INFERENCE_BATCH_MAX_CONCURRENT_REQUESTS.get(settings);
+    }
+
+    /**
+     * Run inference of texts in model calls within the character budget
+     * @param inferenceList texts for inference, sorted by length
+     * @param batchInference runs one model call, must complete with one result per text in text order
+     * @param handler receives results of all texts in text order
+     * @param onException receives the first failure of a model call
+     */
+    static void execute(
+        final List<String> inferenceList,
+        final TriConsumer<List<String>, Consumer<List<?>>, Consumer<Exception>> batchInference,
+        final Consumer<List<?>> handler,
+        final Consumer<Exception> onException
+    ) {
+        final List<List<String>> partitions = partition(inferenceList, maxCharacters);
+        if (partitions.size() == 1) {
+            batchInference.apply(inferenceList, handler, onException);
+            return;
+        }
+        new Execution(partitions, batchInference, handler, onException).start(maxConcurrentRequests);
+    }
+
+    /**
+     * Split texts into consecutive partitions of at most max characters, a text longer than the budget gets its own partition
+     * @param inferenceList texts for inference
+     * @param maxCharacters character budget of one partition, zero or less disables splitting
+     * @return partitions in text order
+     */
+    static List<List<String>> partition(final List<String> inferenceList, final int maxCharacters) {
+        if (maxCharacters <= 0 || inferenceList.size() <= 1) {
+            return List.of(inferenceList);
+        }
+        final List<List<String>> partitions = new ArrayList<>();
+        int start = 0;
+        long characters = 0;
+        for (int i = 0; i < inferenceList.size(); i++) {
+            int length = inferenceList.get(i).length();
+            if (i > start && characters + length > maxCharacters) {
+                partitions.add(inferenceList.subList(start, i));
+                start = i;
+                characters = 0;
+            }
+            characters += length;
+        }
+        partitions.add(inferenceList.subList(start, inferenceList.size()));
+        return partitions;
+    }
+
+    /**
+     * Model calls of one sub batch, a call starts when a previous one completes so that at most the concurrency limit is in flight
+     */
+    private static final class Execution {
+        private final List<List<String>> partitions;
+        private final TriConsumer<List<String>, Consumer<List<?>>, Consumer<Exception>> batchInference;
+        private final Consumer<List<?>> handler;
+        private final Consumer<Exception> onException;
+        private final List<?>[] partitionResults;
+        private final AtomicInteger nextPartition = new AtomicInteger();
+        private final AtomicInteger pendingPartitions;
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        private Execution(
+            final List<List<String>> partitions,
+            final TriConsumer<List<String>, Consumer<List<?>>, Consumer<Exception>> batchInference,
+            final Consumer<List<?>> handler,
+            final Consumer<Exception> onException
+        ) {
+            this.partitions = partitions;
+            this.batchInference = batchInference;
+            this.handler = handler;
+            this.onException = onException;
+            this.partitionResults = new List<?>[partitions.size()];
+            this.pendingPartitions = new AtomicInteger(partitions.size());
+        }
+
+        private void start(final int concurrency) {
+            for (int i = 0; i < Math.min(concurrency, partitions.size()); i++) {
+                executeNext();
+            }
+        }
+
+        private void executeNext() {
+            final int partition = nextPartition.getAndIncrement();
+            if (partition >= partitions.size() || failed.get()) {
+                return;
+            }
+            try {
+                batchInference.apply(partitions.get(partition), results -> onResults(partition, results), this::onFailure);
+            } catch (Exception e) {
+                onFailure(e);
+            }
+        }
+
+        private void onResults(final int partition, final List<?> results) {
+            if (results.size() != partitions.get(partition).size()) {
+                onFailure(
+                    new IllegalStateException(
+                        String.format(
+                            Locale.ROOT,
+                            "Inference returned [%d] results for [%d] texts",
+                            results.size(),
+                            partitions.get(partition).size()
+                        )
+                    )
+                );
+                return;
+            }
+            partitionResults[partition] = results;
+            if (pendingPartitions.decrementAndGet() > 0) {
+                executeNext();
+                return;
+            }
+            if (failed.get()) {
+                return;
+            }
+            final List<Object> allResults = new ArrayList<>();
+            for (List<?> results : partitionResults) {
+                allResults.addAll(results);
+            }
+            handler.accept(allResults);
+        }
+
+        private void onFailure(final Exception e) {
+            if (failed.compareAndSet(false, true)) {
+                onException.accept(e);
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.Version;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -15,6 +16,8 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.neuralsearch.query.AbstractNeuralQueryBuilder;
 import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
+import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
+import org.opensearch.neuralsearch.query.NeuralSparseQueryTwoPhaseInfo;
 import org.opensearch.neuralsearch.sparse.common.SparseFieldUtils;
 import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
@@ -22,6 +25,7 @@ import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.neuralsearch.util.prune.PruneUtils;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.pipeline.AbstractProcessor;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
@@ -38,6 +42,8 @@ import static org.opensearch.neuralsearch.sparse.common.SparseConstants.SEISMIC;
 /**
  * A SearchRequestProcessor to generate two-phase NeuralSparseQueryBuilder,
  * and add it to the Rescore of a searchRequest.
+ * When single_pass is enabled and the whole query is a neural_sparse query, both phases are executed by the query
+ * itself on each shard and no rescorer is added.
  */
 @Setter
 @Getter
@@ -49,19 +55,23 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
     private PruneType pruneType;
     private float windowExpansion;
     private int maxWindowSize;
+    private boolean singlePass;
     private ClusterService clusterService;
     private static final String PARAMETER_KEY = "two_phase_parameter";
     private static final String ENABLE_KEY = "enabled";
     private static final String EXPANSION_KEY = "expansion_rate";
     private static final String MAX_WINDOW_SIZE_KEY = "max_window_size";
+    private static final String SINGLE_PASS_KEY = "single_pass";
     private static final boolean DEFAULT_ENABLED = true;
     private static final float DEFAULT_RATIO = 0.4f;
     private static final PruneType DEFAULT_PRUNE_TYPE = PruneType.MAX_RATIO;
     private static final float DEFAULT_WINDOW_EXPANSION = 5.0f;
     private static final int DEFAULT_MAX_WINDOW_SIZE = 10000;
+    private static final boolean DEFAULT_SINGLE_PASS = false;
     private static final int DEFAULT_BASE_QUERY_SIZE = 10;
     private static final int MAX_WINDOWS_SIZE_LOWER_BOUND = 50;
     private static final float WINDOW_EXPANSION_LOWER_BOUND = 1.0f;
+    private static final Version MINIMAL_SUPPORTED_VERSION_SINGLE_PASS = Version.V_3_7_0;
 
     protected NeuralSparseTwoPhaseProcessor(
         String tag,
@@ -71,7 +81,8 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
         float pruneRatio,
         PruneType pruneType,
         float windowExpansion,
-        int maxWindowSize
+        int maxWindowSize,
+        boolean singlePass
     ) {
         super(tag, description, ignoreFailure);
         this.enabled = enabled;
@@ -89,6 +100,7 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
             );
         }
         this.maxWindowSize = maxWindowSize;
+        this.singlePass = singlePass;
         this.clusterService = NeuralSearchClusterUtil.instance().getClusterService();
     }
 
@@ -104,6 +116,16 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
             return request;
         }
         QueryBuilder queryBuilder = request.source().query();
+        if (shouldExecuteInSinglePass(request)) {
+            NeuralSparseQueryBuilder neuralSparseQueryBuilder = (NeuralSparseQueryBuilder) queryBuilder;
+            Multimap<AbstractNeuralQueryBuilder<?>, Float> singlePassQueryBuilderMap = ArrayListMultimap.create();
+            singlePassQueryBuilderMap.put(neuralSparseQueryBuilder, neuralSparseQueryBuilder.boost());
+            validateSeismicQuery(request.indices(), singlePassQueryBuilderMap);
+            neuralSparseQueryBuilder.neuralSparseQueryTwoPhaseInfo(
+                new NeuralSparseQueryTwoPhaseInfo(pruneRatio, pruneType, getWindowSize(request))
+            );
+            return request;
+        }
         // Collect the nested NeuralSparseQueryBuilder in the whole query.
         Multimap<AbstractNeuralQueryBuilder<?>, Float> queryBuilderMap = collectNeuralQueryBuilderWithSparseEmbedding(
             queryBuilder,
@@ -128,6 +150,43 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
         return TYPE;
     }
 
+    /**
+     * The single pass execution only keeps the refined candidates of each shard, so it is only used when the
+     * neural_sparse query is the whole query, nothing else consumes or reorders the matching docs, the requested page
+     * fits in the window and total hits are not tracked beyond the window. Otherwise we fall back to the rescore
+     * execution. When track_total_hits is not set, total hits are counted up to the window of each shard.
+     */
+    private boolean shouldExecuteInSinglePass(final SearchRequest request) {
+        SearchSourceBuilder source = request.source();
+        if (!singlePass || !(source.query() instanceof NeuralSparseQueryBuilder)) {
+            return false;
+        }
+        if (Objects.nonNull(source.aggregations())
+            || Objects.nonNull(source.rescores())
+            || Objects.nonNull(source.postFilter())
+            || (Objects.nonNull(source.sorts()) && !source.sorts().isEmpty())
+            || Objects.nonNull(source.searchAfter())
+            || Objects.nonNull(source.collapse())
+            || Objects.nonNull(source.minScore())) {
+            return false;
+        }
+        int windowSize = getWindowSize(request);
+        int from = Math.max(source.from(), 0);
+        int size = source.size() == -1 ? DEFAULT_BASE_QUERY_SIZE : source.size();
+        if (from + size > windowSize) {
+            return false;
+        }
+        // only candidates match, so hits.total is only correct when it is not counted past the window of a shard.
+        // Without an explicit track_total_hits the request accepts the count of the window.
+        Integer trackTotalHitsUpTo = source.trackTotalHitsUpTo();
+        if (Objects.nonNull(trackTotalHitsUpTo)
+            && trackTotalHitsUpTo != SearchContext.TRACK_TOTAL_HITS_DISABLED
+            && trackTotalHitsUpTo > windowSize) {
+            return false;
+        }
+        return NeuralSearchClusterUtil.instance().getClusterMinVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_SINGLE_PASS);
+    }
+
     private QueryBuilder getNestedQueryBuilderFromNeuralSparseQueryBuilderMap(
         final Multimap<AbstractNeuralQueryBuilder<?>, Float> queryBuilderFloatMap
     ) {
@@ -202,6 +261,11 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
         final SearchRequest searchRequest
     ) {
         RescorerBuilder<QueryRescorerBuilder> twoPhaseRescorer = new QueryRescorerBuilder(nestedTwoPhaseQueryBuilder);
+        twoPhaseRescorer.windowSize(getWindowSize(searchRequest));
+        return twoPhaseRescorer;
+    }
+
+    private int getWindowSize(final SearchRequest searchRequest) {
         int requestSize = searchRequest.source().size();
         int windowSize = (int) ((requestSize == -1 ? DEFAULT_BASE_QUERY_SIZE : requestSize) * windowExpansion);
         if (windowSize > maxWindowSize || windowSize < 0) {
@@ -214,8 +278,7 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
                 )
             );
         }
-        twoPhaseRescorer.windowSize(windowSize);
-        return twoPhaseRescorer;
+        return windowSize;
     }
 
     private void validateSeismicQuery(String[] indices, Multimap<AbstractNeuralQueryBuilder<?>, Float> queryBuilderMap) {
@@ -255,6 +318,7 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
             float windowExpansion = DEFAULT_WINDOW_EXPANSION;
             int maxWindowSize = DEFAULT_MAX_WINDOW_SIZE;
             PruneType pruneType = DEFAULT_PRUNE_TYPE;
+            boolean singlePass = DEFAULT_SINGLE_PASS;
             if (Objects.nonNull(twoPhaseConfigMap)) {
                 pruneRatio = ((Number) twoPhaseConfigMap.getOrDefault(PruneUtils.PRUNE_RATIO_FIELD, pruneRatio)).floatValue();
                 windowExpansion = ((Number) twoPhaseConfigMap.getOrDefault(EXPANSION_KEY, windowExpansion)).floatValue();
@@ -262,6 +326,7 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
                 pruneType = PruneType.fromString(
                     twoPhaseConfigMap.getOrDefault(PruneUtils.PRUNE_TYPE_FIELD, pruneType.getValue()).toString()
                 );
+                singlePass = Boolean.parseBoolean(twoPhaseConfigMap.getOrDefault(SINGLE_PASS_KEY, singlePass).toString());
             }
             if (!PruneUtils.isValidPruneRatio(pruneType, pruneRatio)) {
                 throw new IllegalArgumentException(
@@ -283,7 +348,8 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
                 pruneRatio,
                 pruneType,
                 windowExpansion,
-                maxWindowSize
+                maxWindowSize,
+                singlePass
             );
         }
     }
@@ -114,7 +114,8 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
             generateAndSetMapInference(ingestDocument, processMap, inferenceList, pruneType, pruneRatio, handler);
             return;
         }
-        openSearchClient.execute(GetAction.INSTANCE, new GetRequest(index.toString(), id.toString()), ActionListener.wrap(response -> {
+        GetRequest getRequest = new GetRequest(index.toString(), id.toString()).fetchSourceContext(getExistingDocumentFetchSourceContext());
+        openSearchClient.execute(GetAction.INSTANCE, getRequest, ActionListener.wrap(response -> {
             final Map<String, Object> existingDocument = response.getSourceAsMap();
             if (existingDocument == null || existingDocument.isEmpty()) {
                 generateAndSetMapInference(ingestDocument, processMap, inferenceList, pruneType, pruneRatio, handler);
@@ -334,6 +335,12 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
         );
     }
 
+    @Override
+    protected String getInferenceCacheScope() {
+        // cached sparse vectors are pruned, processors with other pruning must not share them
+        return String.format(Locale.ROOT, "%s:%s:%s", super.getInferenceCacheScope(), pruneType.getValue(), pruneRatio);
+    }
+
     @Override
     public void subBatchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
         EventStatsManager.increment(EventStatName.SPARSE_ENCODING_PROCESSOR_EXECUTIONS);
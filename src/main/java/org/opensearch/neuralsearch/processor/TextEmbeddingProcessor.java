@@ -85,7 +85,7 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
         }
         openSearchClient.execute(
             GetAction.INSTANCE,
-            new GetRequest(index.toString(), id.toString()),
+            new GetRequest(index.toString(), id.toString()).fetchSourceContext(getExistingDocumentFetchSourceContext()),
             ActionListener.wrap(
                 response -> reuseOrGenerateEmbedding(
                     response,
@@ -6,25 +6,37 @@ package org.opensearch.neuralsearch.processor;
 
 import static org.opensearch.neuralsearch.processor.EmbeddingContentType.PASSAGE;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.action.get.GetAction;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetAction;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.env.Environment;
-import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -40,7 +52,7 @@ import static org.opensearch.neuralsearch.processor.EmbeddingContentType.PASSAGE
  * and field_map can be used to indicate which fields needs embedding and the corresponding keys for the embedding results.
  */
 @Log4j2
-public class TextImageEmbeddingProcessor extends AbstractProcessor {
+public class TextImageEmbeddingProcessor extends AbstractBatchingProcessor {
 
     public static final String TYPE = "text_image_embedding";
     public static final String MODEL_ID_FIELD = "model_id";
@@ -63,12 +75,14 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
     private final OpenSearchClient openSearchClient;
     private final MLCommonsClientAccessor mlCommonsClientAccessor;
     private final TextImageEmbeddingInferenceFilter inferenceFilter;
+    private final FetchSourceContext existingDocumentFetchSourceContext;
     private final Environment environment;
     private final ClusterService clusterService;
 
     public TextImageEmbeddingProcessor(
         final String tag,
         final String description,
+        final int batchSize,
         final String modelId,
         final String embedding,
         final Map<String, String> fieldMap,
@@ -79,7 +93,7 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
         final Environment environment,
         final ClusterService clusterService
     ) {
-        super(tag, description);
+        super(tag, description, batchSize);
         if (StringUtils.isBlank(modelId)) throw new IllegalArgumentException("model_id is null or empty, can not process it");
         validateEmbeddingConfiguration(fieldMap);
 
@@ -92,6 +106,14 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
         this.skipExisting = skipExisting;
         this.inferenceFilter = inferenceFilter;
         this.openSearchClient = openSearchClient;
+        // only input fields and the embedding are compared when reusing embeddings of the existing document
+        Set<String> existingDocumentIncludes = new LinkedHashSet<>(fieldMap.values());
+        existingDocumentIncludes.add(embedding);
+        this.existingDocumentFetchSourceContext = new FetchSourceContext(
+            true,
+            existingDocumentIncludes.toArray(new String[0]),
+            new String[0]
+        );
     }
 
     private void validateEmbeddingConfiguration(final Map<String, String> fieldMap) {
@@ -148,7 +170,7 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
             }
             openSearchClient.execute(
                 GetAction.INSTANCE,
-                new GetRequest(index.toString(), id.toString()),
+                new GetRequest(index.toString(), id.toString()).fetchSourceContext(existingDocumentFetchSourceContext),
                 ActionListener.wrap(
                     response -> reuseOrGenerateEmbedding(response, ingestDocument, knnMap, inferenceMap, handler),
                     e -> handler.accept(null, e)
@@ -160,6 +182,216 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
 
     }
 
+    /**
+     * Batch execution of documents, existing documents are fetched by one multi-get request when skip existing is enabled and
+     * documents with identical text and image share one model call. Failure of a model call fails only the documents of that call.
+     * @param ingestDocumentWrappers documents of the sub batch
+     * @param batchHandler receives the documents once all of them are processed
+     */
+    @Override
+    public void subBatchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> batchHandler) {
+        EventStatsManager.increment(EventStatName.TEXT_IMAGE_EMBEDDING_PROCESSOR_EXECUTIONS);
+        // the documents are handed over once, even if a listener fails after the handler already ran
+        AtomicBoolean handled = new AtomicBoolean();
+        Consumer<List<IngestDocumentWrapper>> handler = documents -> {
+            if (handled.compareAndSet(false, true)) {
+                batchHandler.accept(documents);
+            }
+        };
+        try {
+            if (CollectionUtils.isEmpty(ingestDocumentWrappers)) {
+                handler.accept(ingestDocumentWrappers);
+                return;
+            }
+            List<DataForInference> dataForInferences = getDataForInference(ingestDocumentWrappers);
+            if (dataForInferences.isEmpty()) {
+                handler.accept(ingestDocumentWrappers);
+                return;
+            }
+            if (skipExisting == false) {
+                generateAndSetInferences(ingestDocumentWrappers, dataForInferences, handler);
+                return;
+            }
+            EventStatsManager.increment(EventStatName.SKIP_EXISTING_EXECUTIONS);
+            MultiGetRequest multiGetRequest = buildMultiGetRequest(dataForInferences);
+            if (multiGetRequest.getItems().isEmpty()) {
+                generateAndSetInferences(ingestDocumentWrappers, dataForInferences, handler);
+                return;
+            }
+            openSearchClient.execute(
+                MultiGetAction.INSTANCE,
+                multiGetRequest,
+                ActionListener.wrap(
+                    response -> generateAndSetInferences(
+                        ingestDocumentWrappers,
+                        filterExistingEmbeddings(multiGetRequest, response, dataForInferences),
+                        handler
+                    ),
+                    e -> updateWithExceptions(ingestDocumentWrappers, handler, e)
+                )
+            );
+        } catch (Exception e) {
+            updateWithExceptions(ingestDocumentWrappers, handler, e);
+        }
+    }
+
+    // collects documents that need inference, documents with invalid input fields are failed individually
+    private List<DataForInference> getDataForInference(final List<IngestDocumentWrapper> ingestDocumentWrappers) {
+        List<DataForInference> dataForInferences = new ArrayList<>();
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            if (Objects.nonNull(ingestDocumentWrapper.getException())) {
+                continue;
+            }
+            try {
+                Map<String, String> knnMap = buildMapWithKnnKeyAndOriginalValue(ingestDocumentWrapper.getIngestDocument());
+                if (createInferences(knnMap).isEmpty() == false) {
+                    dataForInferences.add(new DataForInference(ingestDocumentWrapper, knnMap));
+                }
+            } catch (Exception e) {
+                ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), e);
+            }
+        }
+        return dataForInferences;
+    }
+
+    private MultiGetRequest buildMultiGetRequest(final List<DataForInference> dataForInferences) {
+        MultiGetRequest multiGetRequest = new MultiGetRequest();
+        for (DataForInference dataForInference : dataForInferences) {
+            Map<String, Object> sourceAndMetadataMap = dataForInference.ingestDocumentWrapper().getIngestDocument().getSourceAndMetadata();
+            Object index = sourceAndMetadataMap.get(INDEX_FIELD);
+            Object id = sourceAndMetadataMap.get(ID_FIELD);
+            if (Objects.nonNull(index) && Objects.nonNull(id)) {
+                multiGetRequest.add(
+                    new MultiGetRequest.Item(index.toString(), id.toString()).fetchSourceContext(existingDocumentFetchSourceContext)
+                );
+            }
+        }
+        return multiGetRequest;
+    }
+
+    // copies embeddings of existing documents with identical text and image, returns documents that still need inference
+    private List<DataForInference> filterExistingEmbeddings(
+        final MultiGetRequest multiGetRequest,
+        final MultiGetResponse response,
+        final List<DataForInference> dataForInferences
+    ) {
+        // the same id can exist in several target indices of the batch; responses are in the order of the request items, whose
+        // index is the one of the ingest document, also when the response resolved an alias to a concrete index
+        Map<DocumentKey, Map<String, Object>> existingDocuments = new HashMap<>();
+        MultiGetItemResponse[] items = response.getResponses();
+        for (int i = 0; i < items.length && i < multiGetRequest.getItems().size(); i++) {
+            MultiGetItemResponse item = items[i];
+            if (item.isFailed() == false && item.getResponse().isExists()) {
+                MultiGetRequest.Item requestItem = multiGetRequest.getItems().get(i);
+                existingDocuments.put(new DocumentKey(requestItem.index(), requestItem.id()), item.getResponse().getSourceAsMap());
+            }
+        }
+        List<DataForInference> filteredDataForInferences = new ArrayList<>();
+        for (DataForInference dataForInference : dataForInferences) {
+            IngestDocument ingestDocument = dataForInference.ingestDocumentWrapper().getIngestDocument();
+            Object index = ingestDocument.getSourceAndMetadata().get(INDEX_FIELD);
+            Object id = ingestDocument.getSourceAndMetadata().get(ID_FIELD);
+            Map<String, Object> existingDocument = Objects.isNull(index) || Objects.isNull(id)
+                ? null
+                : existingDocuments.get(new DocumentKey(index.toString(), id.toString()));
+            if (existingDocument == null || existingDocument.isEmpty()) {
+                filteredDataForInferences.add(dataForInference);
+                continue;
+            }
+            Map<String, String> filteredKnnMap = inferenceFilter.filterAndCopyExistingEmbeddings(
+                ingestDocument,
+                existingDocument,
+                dataForInference.knnMap(),
+                embedding
+            );
+            if (createInferences(filteredKnnMap).isEmpty() == false) {
+                filteredDataForInferences.add(dataForInference);
+            }
+        }
+        return filteredDataForInferences;
+    }
+
+    /**
+     * Runs one model call per distinct text and image of the documents and sets the embeddings to all documents of the call.
+     * The multimodal model input holds one text and image pair, so documents can't be packed into a single model call.
+     */
+    private void generateAndSetInferences(
+        final List<IngestDocumentWrapper> ingestDocumentWrappers,
+        final List<DataForInference> dataForInferences,
+        final Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        Map<Map<String, String>, List<IngestDocumentWrapper>> ingestDocumentWrappersByInference = new LinkedHashMap<>();
+        for (DataForInference dataForInference : dataForInferences) {
+            ingestDocumentWrappersByInference.computeIfAbsent(createInferences(dataForInference.knnMap()), key -> new ArrayList<>())
+                .add(dataForInference.ingestDocumentWrapper());
+        }
+        if (ingestDocumentWrappersByInference.isEmpty()) {
+            handler.accept(ingestDocumentWrappers);
+            return;
+        }
+        AtomicInteger pendingInferences = new AtomicInteger(ingestDocumentWrappersByInference.size());
+        for (Map.Entry<Map<String, String>, List<IngestDocumentWrapper>> entry : ingestDocumentWrappersByInference.entrySet()) {
+            List<IngestDocumentWrapper> inferenceDocumentWrappers = entry.getValue();
+            // a model call completes once, whether its listener runs or the call throws before or after calling it
+            AtomicBoolean completed = new AtomicBoolean();
+            Runnable onInferenceCompleted = () -> {
+                if (completed.compareAndSet(false, true) && pendingInferences.decrementAndGet() == 0) {
+                    handler.accept(ingestDocumentWrappers);
+                }
+            };
+            try {
+                mlCommonsClientAccessor.inferenceSentencesMap(
+                    MapInferenceRequest.builder().modelId(this.modelId).inputObjects(entry.getKey()).embeddingContentType(PASSAGE).build(),
+                    ActionListener.runAfter(ActionListener.wrap(vectors -> {
+                        for (int i = 0; i < inferenceDocumentWrappers.size(); i++) {
+                            // every document gets its own copy of a shared embedding
+                            List<Number> documentVectors = i == 0 ? vectors : new ArrayList<>(vectors);
+                            setVectorFieldsToDocument(inferenceDocumentWrappers.get(i).getIngestDocument(), documentVectors);
+                        }
+                    }, e -> failDocuments(inferenceDocumentWrappers, e)), onInferenceCompleted)
+                );
+            } catch (Exception e) {
+                // only documents of this model call fail, the other calls are already running or still to be started
+                if (completed.get() == false) {
+                    failDocuments(inferenceDocumentWrappers, e);
+                }
+                onInferenceCompleted.run();
+            }
+        }
+    }
+
+    private void failDocuments(final List<IngestDocumentWrapper> ingestDocumentWrappers, final Exception e) {
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), e);
+        }
+    }
+
+    // sets the exception to documents that didn't fail before and hands over all documents
+    private void updateWithExceptions(
+        final List<IngestDocumentWrapper> ingestDocumentWrappers,
+        final Consumer<List<IngestDocumentWrapper>> handler,
+        final Exception e
+    ) {
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            if (Objects.isNull(ingestDocumentWrapper.getException())) {
+                ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), e);
+            }
+        }
+        handler.accept(ingestDocumentWrappers);
+    }
+
+    /**
+     * Document of a sub batch with its input fields for inference
+     */
+    private record DataForInference(IngestDocumentWrapper ingestDocumentWrapper, Map<String, String> knnMap) {
+    }
+
+    /**
+     * Index and id of an existing document
+     */
+    private record DocumentKey(String index, String id) {
+    }
+
     private void setVectorFieldsToDocument(final IngestDocument ingestDocument, final List<Number> vectors) {
         Objects.requireNonNull(vectors, "embedding failed, inference returns null result!");
         log.debug("Text embedding result fetched, starting build vector output!");
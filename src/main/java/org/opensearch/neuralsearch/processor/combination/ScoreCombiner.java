@@ -28,6 +28,7 @@ import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
+import org.opensearch.neuralsearch.executors.HybridNormalizationExecutor;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 
 import lombok.extern.log4j.Log4j2;
@@ -77,10 +78,11 @@ public class ScoreCombiner {
         Sort sort = combineScoresDTO.getSort();
         Float minScore = combineScoresDTO.getMinScore();
         boolean isSingleShard = combineScoresDTO.isSingleShard();
-        combineScoresDTO.getQueryTopDocs()
-            .forEach(
-                compoundQueryTopDocs -> combineShardScores(scoreCombinationTechnique, compoundQueryTopDocs, sort, isSingleShard, minScore)
-            );
+        // shards are combined independently, each task only updates its own CompoundTopDocs
+        HybridNormalizationExecutor.forEachShard(
+            combineScoresDTO.getQueryTopDocs(),
+            compoundQueryTopDocs -> combineShardScores(scoreCombinationTechnique, compoundQueryTopDocs, sort, isSingleShard, minScore)
+        );
     }
 
     private void combineShardScores(
@@ -94,6 +96,10 @@ public class ScoreCombiner {
             return;
         }
         List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
+        if (Objects.isNull(sort)) {
+            combineShardScoresByScore(scoreCombinationTechnique, compoundQueryTopDocs, minScore);
+            return;
+        }
 
         // - create map of normalized scores results returned from the single shard
         Map<Integer, float[]> normalizedScoresPerDoc = getNormalizedScoresPerDocument(topDocsPerSubQuery);
@@ -133,6 +139,43 @@ public class ScoreCombiner {
         );
     }
 
+    /**
+     * Combination for results sorted by score. Same steps as for field sort, but scores are kept in primitive arrays
+     * indexed by row of the doc in the shard, and docs are ordered with a primitive sort.
+     */
+    private void combineShardScoresByScore(
+        final ScoreCombinationTechnique scoreCombinationTechnique,
+        final CompoundTopDocs compoundQueryTopDocs,
+        final Float minScore
+    ) {
+        List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
+        ShardScoreTable shardScoreTable = ShardScoreTable.of(topDocsPerSubQuery);
+        float[] combinedScores = shardScoreTable.combine(scoreCombinationTechnique);
+        int[] sortedRows = shardScoreTable.sortedRows(combinedScores, minScore);
+
+        long maxHits = compoundQueryTopDocs.getTotalHits().value();
+        TotalHits newTotalHits = getTotalHits(
+            getTotalHits(topDocsPerSubQuery, maxHits),
+            shardScoreTable.numOfDocs(),
+            sortedRows.length,
+            isMinScoreAvailable(minScore, null)
+        );
+
+        // ShardId will be -1 when index has multiple shards, fetch phase is executed before normalization for single shard
+        int shardId = -1;
+        if (!compoundQueryTopDocs.getScoreDocs().isEmpty()) {
+            shardId = compoundQueryTopDocs.getScoreDocs().get(0).shardIndex;
+        }
+        int numOfHits = (int) Math.min(maxHits, sortedRows.length);
+        List<ScoreDoc> scoreDocs = new ArrayList<>(numOfHits);
+        for (int i = 0; i < numOfHits; i++) {
+            int row = sortedRows[i];
+            scoreDocs.add(new ScoreDoc(shardScoreTable.docId(row), combinedScores[row], shardId));
+        }
+        compoundQueryTopDocs.setScoreDocs(scoreDocs);
+        compoundQueryTopDocs.setTotalHits(newTotalHits);
+    }
+
     private static TotalHits getTotalHits(
         final TotalHits existingTotalHits,
         final int originalSize,
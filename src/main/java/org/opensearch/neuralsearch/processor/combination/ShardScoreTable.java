@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.NumericUtils;
+
+/**
+ * Normalized scores of the docs of one shard, one row per unique doc id and one column per sub query. Doc ids are mapped
+ * to rows with an open addressing table and scores are kept in a single float array, so no boxed doc ids or per doc
+ * arrays are created.
+ */
+final class ShardScoreTable {
+    private static final int EMPTY = -1;
+
+    private final int numOfSubQueries;
+    private final int[] rowsByHash;
+    private final int[] docIds;
+    private final float[] scores;
+    private int numOfDocs;
+
+    private ShardScoreTable(final int numOfSubQueries, final int maxNumOfDocs) {
+        this.numOfSubQueries = numOfSubQueries;
+        // keep load factor at or below 0.5
+        int capacity = Integer.highestOneBit(Math.max(1, maxNumOfDocs) * 2 - 1) << 1;
+        this.rowsByHash = new int[capacity];
+        Arrays.fill(rowsByHash, EMPTY);
+        this.docIds = new int[maxNumOfDocs];
+        this.scores = new float[maxNumOfDocs * numOfSubQueries];
+    }
+
+    /**
+     * Build table from sub query results of a shard
+     * @param topDocsPerSubQuery normalized results of each sub query
+     * @return table of normalized scores
+     */
+    static ShardScoreTable of(final List<TopDocs> topDocsPerSubQuery) {
+        int maxNumOfDocs = 0;
+        for (TopDocs topDocs : topDocsPerSubQuery) {
+            maxNumOfDocs += topDocs.scoreDocs.length;
+        }
+        ShardScoreTable table = new ShardScoreTable(topDocsPerSubQuery.size(), maxNumOfDocs);
+        for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
+            for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(subQueryIndex).scoreDocs) {
+                table.scores[table.getOrAddRow(scoreDoc.doc) * table.numOfSubQueries + subQueryIndex] = scoreDoc.score;
+            }
+        }
+        return table;
+    }
+
+    private int getOrAddRow(final int docId) {
+        int mask = rowsByHash.length - 1;
+        int index = mix(docId) & mask;
+        while (rowsByHash[index] != EMPTY) {
+            int row = rowsByHash[index];
+            if (docIds[row] == docId) {
+                return row;
+            }
+            index = (index + 1) & mask;
+        }
+        int row = numOfDocs++;
+        rowsByHash[index] = row;
+        docIds[row] = docId;
+        return row;
+    }
+
+    private static int mix(final int docId) {
+        int h = docId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    int numOfDocs() {
+        return numOfDocs;
+    }
+
+    int docId(final int row) {
+        return docIds[row];
+    }
+
+    /**
+     * Combine scores of every row
+     * @param scoreCombinationTechnique technique to combine the sub query scores of a doc
+     * @return combined score per row
+     */
+    float[] combine(final ScoreCombinationTechnique scoreCombinationTechnique) {
+        float[] combinedScores = new float[numOfDocs];
+        // combination techniques only read the scores, so one buffer is reused for all rows
+        float[] rowScores = new float[numOfSubQueries];
+        for (int row = 0; row < numOfDocs; row++) {
+            System.arraycopy(scores, row * numOfSubQueries, rowScores, 0, numOfSubQueries);
+            combinedScores[row] = scoreCombinationTechnique.combine(rowScores);
+        }
+        return combinedScores;
+    }
+
+    /**
+     * Rows sorted by combined score descending, ties by doc id ascending
+     * @param combinedScores combined score per row
+     * @param minScore rows with a lower combined score are left out, null keeps all rows
+     * @return sorted rows
+     */
+    int[] sortedRows(final float[] combinedScores, final Float minScore) {
+        // pack score and doc id in a long, so docs are sorted with a primitive sort
+        long[] keys = new long[numOfDocs];
+        int numOfKeys = 0;
+        for (int row = 0; row < numOfDocs; row++) {
+            if (minScore != null && (combinedScores[row] >= minScore) == false) {
+                continue;
+            }
+            keys[numOfKeys++] = ((long) ~NumericUtils.floatToSortableInt(combinedScores[row]) << 32) | (docIds[row] & 0xFFFFFFFFL);
+        }
+        Arrays.sort(keys, 0, numOfKeys);
+        int[] rows = new int[numOfKeys];
+        for (int i = 0; i < numOfKeys; i++) {
+            // doc is in the table, so this is a lookup
+            rows[i] = getOrAddRow((int) keys[i]);
+        }
+        return rows;
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Set;
 
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
+import org.opensearch.neuralsearch.executors.HybridNormalizationExecutor;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.neuralsearch.processor.dto.ExplainDTO;
 import org.opensearch.neuralsearch.processor.dto.NormalizeScoresDTO;
@@ -57,10 +58,7 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
         List<Float> normsPerSubquery = getL2Norm(queryTopDocs);
 
         // do normalization using actual score and l2 norm
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
+        HybridNormalizationExecutor.forEachShard(queryTopDocs, compoundQueryTopDocs -> {
             List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
             for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
                 TopDocs subQueryTopDoc = topDocsPerSubQuery.get(j);
@@ -68,7 +66,7 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
                     scoreDoc.score = normalizeSingleScore(scoreDoc.score, normsPerSubquery.get(j));
                 }
             }
-        }
+        });
     }
 
     @Override
@@ -20,6 +20,7 @@ import org.apache.commons.lang3.Validate;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.ml.repackage.com.google.common.annotations.VisibleForTesting;
+import org.opensearch.neuralsearch.executors.HybridNormalizationExecutor;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 
 import com.google.common.primitives.Floats;
@@ -89,10 +90,7 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
         final List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
         MinMaxScores minMaxScores = getMinMaxScoresResult(queryTopDocs);
         // do normalization using actual score and min and max scores for corresponding sub query
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
+        HybridNormalizationExecutor.forEachShard(queryTopDocs, compoundQueryTopDocs -> {
             List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
             if (isBoundsAndSubQueriesCountMismatched(topDocsPerSubQuery)) {
                 throw new IllegalArgumentException(
@@ -117,7 +115,7 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
                     );
                 }
             }
-        }
+        });
     }
 
     private boolean isBoundsAndSubQueriesCountMismatched(List<TopDocs> topDocsPerSubQuery) {
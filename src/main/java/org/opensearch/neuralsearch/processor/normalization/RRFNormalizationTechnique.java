@@ -6,13 +6,13 @@ package org.opensearch.neuralsearch.processor.normalization;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Locale;
-import java.util.PriorityQueue;
 import java.util.Set;
 
 import lombok.NonNull;
@@ -22,6 +22,7 @@ import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.common.TriConsumer;
+import org.opensearch.neuralsearch.executors.HybridNormalizationExecutor;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 
 import lombok.ToString;
@@ -77,60 +78,66 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
     public void normalize(final NormalizeScoresDTO normalizeScoresDTO) {
         final List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
 
-        Map<Integer, Map<String, Integer>> sortedDocIdsPerSubqueryByGlobalRank = normalizeScoresDTO.isSingleShard()
-            ? Map.of()
-            : sortDocumentsAsPerGlobalRankInIndividualQuery(queryTopDocs);
+        int[][][] globalRanks = normalizeScoresDTO.isSingleShard() ? null : getGlobalRanksPerSubQuery(queryTopDocs);
 
-        for (int referenceShardId = 0; referenceShardId < queryTopDocs.size(); referenceShardId++) {
-            processTopDocs(
+        // ranks are global, assigning them to the results of each shard is independent of other shards
+        HybridNormalizationExecutor.forEachShard(
+            queryTopDocs.size(),
+            referenceShardId -> processTopDocs(
                 queryTopDocs.get(referenceShardId),
                 (docId, score, subQueryIndex) -> {},
-                sortedDocIdsPerSubqueryByGlobalRank,
+                globalRanks,
                 referenceShardId
-            );
-        }
+            )
+        );
     }
 
-    private Map<Integer, Map<String, Integer>> sortDocumentsAsPerGlobalRankInIndividualQuery(
-        @NonNull final List<CompoundTopDocs> queryTopDocs
-    ) {
-        // Map: subQueryIndex -> PQ that contains ScoreDocs from all shards
-        Map<Integer, PriorityQueue<ShardResultPerSubQuery>> scoreDocsPerSubquery = new HashMap<>();
+    /**
+     * Rank of every result across all shards, per sub query. Ranks are stored by position of the result in the shard
+     * sub query results, as ranks[referenceShardId][subQueryIndex][position], so no per doc key is needed.
+     */
+    private int[][][] getGlobalRanksPerSubQuery(@NonNull final List<CompoundTopDocs> queryTopDocs) {
+        int[][][] ranks = new int[queryTopDocs.size()][][];
+        int numOfSubQueries = 0;
         for (int referenceShardId = 0; referenceShardId < queryTopDocs.size(); referenceShardId++) {
             CompoundTopDocs compoundTopDocs = queryTopDocs.get(referenceShardId);
             if (Objects.isNull(compoundTopDocs)) {
                 continue;
             }
-            // List of subquery results
             List<TopDocs> topDocs = compoundTopDocs.getTopDocs();
-            for (int topDocIndex = 0; topDocIndex < topDocs.size(); topDocIndex++) {
-                TopDocs topDoc = topDocs.get(topDocIndex);
-                scoreDocsPerSubquery.putIfAbsent(topDocIndex, new PriorityQueue<>(comparator));
-                ScoreDoc[] scoreDocs = topDoc.scoreDocs;
-                // Insert all the scoreDocs in priority queue that holds results across all shards for the subquery
-                for (int scoreDocIndex = 0; scoreDocIndex < scoreDocs.length; scoreDocIndex++) {
-                    scoreDocsPerSubquery.get(topDocIndex).add(new ShardResultPerSubQuery(scoreDocs[scoreDocIndex], referenceShardId));
-                }
+            ranks[referenceShardId] = new int[topDocs.size()][];
+            for (int subQueryIndex = 0; subQueryIndex < topDocs.size(); subQueryIndex++) {
+                ranks[referenceShardId][subQueryIndex] = new int[topDocs.get(subQueryIndex).scoreDocs.length];
             }
+            numOfSubQueries = Math.max(numOfSubQueries, topDocs.size());
         }
 
-        Map<Integer, Map<String, Integer>> globallySortedDocIdMap = new HashMap<>();
-        // Traverse all scoreDocs per subquery and add it in the map with docId-shardId order.
-        // We created docId-shardId format because docId can be same across different shards but the combination is unique.
-        for (Map.Entry<Integer, PriorityQueue<ShardResultPerSubQuery>> entry : scoreDocsPerSubquery.entrySet()) {
-            int subQueryNumber = entry.getKey();
-            globallySortedDocIdMap.putIfAbsent(subQueryNumber, new HashMap<>());
-
-            PriorityQueue<ShardResultPerSubQuery> sortedScoreDocsAcrossAllShards = entry.getValue();
-            // first rank
-            int rank = 0;
-            while (!sortedScoreDocsAcrossAllShards.isEmpty()) {
-                ShardResultPerSubQuery shardResultPerSubQuery = sortedScoreDocsAcrossAllShards.poll();
-                globallySortedDocIdMap.get(subQueryNumber)
-                    .put(shardResultPerSubQuery.scoreDoc.doc + "_" + shardResultPerSubQuery.referenceShardId, rank++);
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            int numOfResults = 0;
+            for (int referenceShardId = 0; referenceShardId < queryTopDocs.size(); referenceShardId++) {
+                if (Objects.nonNull(ranks[referenceShardId]) && subQueryIndex < ranks[referenceShardId].length) {
+                    numOfResults += ranks[referenceShardId][subQueryIndex].length;
+                }
+            }
+            // sort results of the sub query from all shards, rank is the position in that order
+            ShardResultPerSubQuery[] results = new ShardResultPerSubQuery[numOfResults];
+            int index = 0;
+            for (int referenceShardId = 0; referenceShardId < queryTopDocs.size(); referenceShardId++) {
+                if (Objects.isNull(ranks[referenceShardId]) || subQueryIndex >= ranks[referenceShardId].length) {
+                    continue;
+                }
+                ScoreDoc[] scoreDocs = queryTopDocs.get(referenceShardId).getTopDocs().get(subQueryIndex).scoreDocs;
+                for (int position = 0; position < scoreDocs.length; position++) {
+                    results[index++] = new ShardResultPerSubQuery(scoreDocs[position], referenceShardId, position);
+                }
+            }
+            Arrays.sort(results, comparator);
+            for (int rank = 0; rank < results.length; rank++) {
+                ShardResultPerSubQuery result = results[rank];
+                ranks[result.referenceShardId][subQueryIndex][result.position] = rank;
             }
         }
-        return globallySortedDocIdMap;
+        return ranks;
     }
 
     @Override
@@ -147,9 +154,7 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
     public Map<DocIdAtSearchShard, ExplanationDetails> explain(final ExplainDTO explainDTO) {
         final List<CompoundTopDocs> queryTopDocs = explainDTO.getQueryTopDocs();
         Map<DocIdAtSearchShard, List<Float>> normalizedScores = new HashMap<>();
-        Map<Integer, Map<String, Integer>> sortedDocIdsPerSubqueryByGlobalRank = explainDTO.isSingleShard()
-            ? Map.of()
-            : sortDocumentsAsPerGlobalRankInIndividualQuery(queryTopDocs);
+        int[][][] globalRanks = explainDTO.isSingleShard() ? null : getGlobalRanksPerSubQuery(queryTopDocs);
         for (int referenceShardId = 0; referenceShardId < queryTopDocs.size(); referenceShardId++) {
             CompoundTopDocs compoundQueryTopDocs = queryTopDocs.get(referenceShardId);
             if (Objects.isNull(compoundQueryTopDocs)) {
@@ -166,7 +171,7 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
                     numberOfSubQueries,
                     score
                 ),
-                sortedDocIdsPerSubqueryByGlobalRank,
+                globalRanks,
                 referenceShardId
             );
         }
@@ -177,7 +182,7 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
     private void processTopDocs(
         CompoundTopDocs compoundQueryTopDocs,
         TriConsumer<DocIdAtSearchShard, Float, Integer> scoreProcessor,
-        Map<Integer, Map<String, Integer>> sortedDocIdMapPerSubqueryByGlobalRank,
+        int[][][] globalRanks,
         int referenceShardId
     ) {
         if (Objects.isNull(compoundQueryTopDocs)) {
@@ -188,10 +193,9 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
         SearchShard searchShard = compoundQueryTopDocs.getSearchShard();
 
         for (int topDocsIndex = 0; topDocsIndex < topDocsList.size(); topDocsIndex++) {
-            Map<String, Integer> docIdToRankMap = sortedDocIdMapPerSubqueryByGlobalRank.isEmpty()
-                ? Map.of()
-                : sortedDocIdMapPerSubqueryByGlobalRank.get(topDocsIndex);
-            processTopDocsEntry(topDocsList.get(topDocsIndex), searchShard, topDocsIndex, scoreProcessor, docIdToRankMap, referenceShardId);
+            // ranks are positions in the shard results when there is a single shard
+            int[] ranks = Objects.isNull(globalRanks) ? null : globalRanks[referenceShardId][topDocsIndex];
+            processTopDocsEntry(topDocsList.get(topDocsIndex), searchShard, topDocsIndex, scoreProcessor, ranks);
         }
     }
 
@@ -200,17 +204,11 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
         SearchShard searchShard,
         int topDocsIndex,
         TriConsumer<DocIdAtSearchShard, Float, Integer> scoreProcessor,
-        Map<String, Integer> docIdToRankMap,
-        int referenceShardId
+        int[] ranks
     ) {
         for (int position = 0; position < topDocs.scoreDocs.length; position++) {
             ScoreDoc scoreDoc = topDocs.scoreDocs[position];
-            Integer rank = docIdToRankMap.isEmpty() ? position : docIdToRankMap.get(scoreDoc.doc + "_" + referenceShardId);
-            if (Objects.isNull(rank) || rank < 0) {
-                throw new IllegalStateException(
-                    "Document not found in global ranking map: doc=" + scoreDoc.doc + ", shard=" + referenceShardId
-                );
-            }
+            int rank = Objects.isNull(ranks) ? position : ranks[position];
             float normalizedScore = calculateNormalizedScore(rank);
             DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(scoreDoc.doc, searchShard);
             scoreProcessor.apply(docIdAtSearchShard, normalizedScore, topDocsIndex);
@@ -255,7 +253,8 @@ public class RRFNormalizationTechnique implements ScoreNormalizationTechnique, E
      * Record to store shard results per subquery
      * @param scoreDoc scoreDoc result
      * @param referenceShardId reference shard Id for identifying scoreDoc
+     * @param position position of scoreDoc in the shard results of the subquery
      */
-    private record ShardResultPerSubQuery(ScoreDoc scoreDoc, int referenceShardId) {
+    private record ShardResultPerSubQuery(ScoreDoc scoreDoc, int referenceShardId, int position) {
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization;
+
+import lombok.Getter;
+
+/**
+ * Running statistics of sub query scores that can be built per shard and merged, so scores don't need to be buffered
+ * to compute them. Mean and variance are accumulated with Welford's algorithm and merged with Chan's parallel formula.
+ * Results are the ones of commons-math DescriptiveStatistics: NaN when there are no values and bias corrected
+ * standard deviation.
+ */
+public final class ScoreStatistics {
+    @Getter
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private double mean;
+    // sum of squared differences from the mean
+    private double m2;
+
+    /**
+     * Add single score
+     * @param score score of a doc
+     */
+    public void add(final double score) {
+        count++;
+        if (count == 1) {
+            min = score;
+            max = score;
+        } else {
+            min = Math.min(min, score);
+            max = Math.max(max, score);
+        }
+        double delta = score - mean;
+        mean += delta / count;
+        m2 += delta * (score - mean);
+    }
+
+    /**
+     * Merge statistics of another set of scores into this one
+     * @param other statistics to merge
+     */
+    public void merge(final ScoreStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            min = other.min;
+            max = other.max;
+            mean = other.mean;
+            m2 = other.m2;
+            return;
+        }
+        long totalCount = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / totalCount;
+        m2 += other.m2 + delta * delta * count * other.count / totalCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        count = totalCount;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    public double getStandardDeviation() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (count == 1) {
+            return 0.0;
+        }
+        return Math.sqrt(m2 / (count - 1));
+    }
+}
@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.processor.normalization;
 
 import lombok.ToString;
+import org.opensearch.neuralsearch.executors.HybridNormalizationExecutor;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.neuralsearch.processor.dto.ExplainDTO;
 import org.opensearch.neuralsearch.processor.dto.NormalizeScoresDTO;
@@ -16,7 +17,6 @@ import java.util.Locale;
 
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 
 import com.google.common.primitives.Floats;
 import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
@@ -58,10 +58,7 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
         ZScores zscores = getZScoreResults(queryTopDocs);
 
         // do normalization using actual score and z-scores for corresponding sub query
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
+        HybridNormalizationExecutor.forEachShard(queryTopDocs, compoundQueryTopDocs -> {
             List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
             for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
                 TopDocs subQueryTopDoc = topDocsPerSubQuery.get(j);
@@ -75,7 +72,7 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
                     );
                 }
             }
-        }
+        });
     }
 
     @Override
@@ -126,32 +123,13 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
         return getDocIdAtQueryForNormalization(normalizedScores, this);
     }
 
-    private static float[] calculateMaxScorePerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] maxPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            maxPerSubQuery[i] = (float) statsPerSubquery[i].getMax();
-        }
-
-        return maxPerSubQuery;
-    }
-
-    private static float[] calculateMinScorePerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] minPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            minPerSubQuery[i] = (float) statsPerSubquery[i].getMin();
-        }
-
-        return minPerSubQuery;
-    }
-
-    private static DescriptiveStatistics[] calculateStatsPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = new DescriptiveStatistics[numOfSubqueries];
+    /**
+     * Statistics are computed per shard and merged, so the result is independent of how shard results are grouped
+     */
+    private static ScoreStatistics[] calculateStatsPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
+        ScoreStatistics[] statsPerSubquery = new ScoreStatistics[numOfSubqueries];
         for (int i = 0; i < numOfSubqueries; i++) {
-            statsPerSubquery[i] = new DescriptiveStatistics();
+            statsPerSubquery[i] = new ScoreStatistics();
         }
 
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
@@ -160,46 +138,32 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
             }
             List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
             for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
-                TopDocs topDocs = topDocsPerSubQuery.get(subQueryIndex);
-                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    statsPerSubquery[subQueryIndex].addValue(scoreDoc.score);
+                ScoreStatistics shardStats = new ScoreStatistics();
+                for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(subQueryIndex).scoreDocs) {
+                    shardStats.add(scoreDoc.score);
                 }
+                statsPerSubquery[subQueryIndex].merge(shardStats);
             }
         }
 
         return statsPerSubquery;
     }
 
-    private static float[] calculateMeanPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
+    private ZScores getZScoreResults(final List<CompoundTopDocs> queryTopDocs) {
+        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
 
+        // to be done for each subquery, single pass over all scores
+        ScoreStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
+        float[] maxPerSubquery = new float[numOfSubqueries];
+        float[] minPerSubquery = new float[numOfSubqueries];
         float[] meanPerSubQuery = new float[numOfSubqueries];
+        float[] stdPerSubquery = new float[numOfSubqueries];
         for (int i = 0; i < numOfSubqueries; i++) {
+            maxPerSubquery[i] = (float) statsPerSubquery[i].getMax();
+            minPerSubquery[i] = (float) statsPerSubquery[i].getMin();
             meanPerSubQuery[i] = (float) statsPerSubquery[i].getMean();
+            stdPerSubquery[i] = (float) statsPerSubquery[i].getStandardDeviation();
         }
-
-        return meanPerSubQuery;
-    }
-
-    private static float[] calculateStandardDeviationPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] stdPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            stdPerSubQuery[i] = (float) statsPerSubquery[i].getStandardDeviation();
-        }
-
-        return stdPerSubQuery;
-    }
-
-    private ZScores getZScoreResults(final List<CompoundTopDocs> queryTopDocs) {
-        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
-
-        // to be done for each subquery
-        float[] maxPerSubquery = calculateMaxScorePerSubquery(queryTopDocs, numOfSubqueries);
-        float[] minPerSubquery = calculateMinScorePerSubquery(queryTopDocs, numOfSubqueries);
-        float[] meanPerSubQuery = calculateMeanPerSubquery(queryTopDocs, numOfSubqueries);
-        float[] stdPerSubquery = calculateStandardDeviationPerSubquery(queryTopDocs, numOfSubqueries);
         return new ZScores(meanPerSubQuery, stdPerSubquery, maxPerSubquery, minPerSubquery);
     }
 
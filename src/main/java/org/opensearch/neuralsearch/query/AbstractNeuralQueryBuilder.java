@@ -121,6 +121,11 @@ public abstract class AbstractNeuralQueryBuilder<QB extends AbstractNeuralQueryB
             && NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_TWO.equals(neuralSparseQueryTwoPhaseInfo.getStatus());
     }
 
+    public boolean isSparseTwoPhaseSinglePass() {
+        return Objects.nonNull(neuralSparseQueryTwoPhaseInfo)
+            && NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.SINGLE_PASS.equals(neuralSparseQueryTwoPhaseInfo.getStatus());
+    }
+
     public boolean isSparseTwoPhaseOne() {
         return Objects.nonNull(neuralSparseQueryTwoPhaseInfo)
             && NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_ONE.equals(neuralSparseQueryTwoPhaseInfo.getStatus());
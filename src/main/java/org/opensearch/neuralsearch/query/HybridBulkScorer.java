@@ -13,11 +13,18 @@ import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Bulk scorer for hybrid query
@@ -27,6 +34,8 @@ public class HybridBulkScorer extends BulkScorer {
     private static final int SHIFT = 12;
     private static final int WINDOW_SIZE = 1 << SHIFT;
     private static final int MASK = WINDOW_SIZE - 1;
+    // above this number of matches in a window, filling whole score columns is cheaper than clearing them doc by doc
+    private static final int SPARSE_RESET_MAX_MATCHES = WINDOW_SIZE >> 3;
 
     private final long cost;
     private final Scorer[] scorers;
@@ -41,6 +50,10 @@ public class HybridBulkScorer extends BulkScorer {
     @Getter
     private final int maxDoc;
     private int[] docIds;
+    // per sub query matching docs of the window, only allocated when sub queries are scored in parallel
+    private final FixedBitSet[] subQueryMatching;
+    // docs that can still make it to the collector's top hits, null if the collector can't skip docs
+    private DocIdSetIterator competitiveIterator;
 
     /**
      * Constructor for HybridBulkScorer
@@ -49,6 +62,17 @@ public class HybridBulkScorer extends BulkScorer {
      * @param maxDoc maximum document id
      */
     public HybridBulkScorer(List<Scorer> scorers, boolean needsScores, int maxDoc) {
+        this(scorers, needsScores, maxDoc, false);
+    }
+
+    /**
+     * Constructor for HybridBulkScorer
+     * @param scorers list of scorers for each sub query
+     * @param needsScores whether the scorer needs scores
+     * @param maxDoc maximum document id
+     * @param parallelSubQueryScoring whether sub queries of a window are scored concurrently on the hybrid query executor
+     */
+    public HybridBulkScorer(List<Scorer> scorers, boolean needsScores, int maxDoc, boolean parallelSubQueryScoring) {
         long cost = 0;
         int numOfQueries = scorers.size();
         this.scorers = new Scorer[numOfQueries];
@@ -69,11 +93,20 @@ public class HybridBulkScorer extends BulkScorer {
         this.hybridQueryDocIdStream = new HybridQueryDocIdStream(this);
         this.docIds = new int[numOfQueries];
         Arrays.fill(docIds, DocIdSetIterator.NO_MORE_DOCS);
+        this.subQueryMatching = parallelSubQueryScoring ? new FixedBitSet[numOfQueries] : null;
+        if (parallelSubQueryScoring) {
+            for (int subQueryIndex = 0; subQueryIndex < numOfQueries; subQueryIndex++) {
+                if (Objects.nonNull(this.scorers[subQueryIndex])) {
+                    subQueryMatching[subQueryIndex] = new FixedBitSet(WINDOW_SIZE);
+                }
+            }
+        }
     }
 
     @Override
     public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
         collector.setScorer(hybridSubQueryScorer);
+        competitiveIterator = collector.competitiveIterator();
         // making sure we are not going over the global limit defined by maxDoc
         max = Math.min(max, maxDoc);
         // advance all scorers to the segment's minimum doc id
@@ -93,6 +126,12 @@ public class HybridBulkScorer extends BulkScorer {
         if (topDoc >= max) {
             return;
         }
+        if (Objects.nonNull(competitiveIterator)) {
+            topDoc = skipNonCompetitiveDocs(topDoc, max, docIds);
+            if (topDoc >= max) {
+                return;
+            }
+        }
 
         final int windowBase = topDoc & ~MASK; // take the least maximum docId and find the window where it belongs
         final int windowMin = Math.max(min, windowBase);
@@ -121,47 +160,211 @@ public class HybridBulkScorer extends BulkScorer {
         int windowMax,
         int windowBase
     ) throws IOException {
-        for (int subQueryIndex = 0; subQueryIndex < scorers.length; subQueryIndex++) {
-            if (Objects.isNull(scorers[subQueryIndex]) || docIds[subQueryIndex] >= max) {
-                continue;
-            }
-            // Propagate competitive score threshold to sub-query scorer so that its ImpactsDISI
-            // can skip posting list blocks where maxScore < threshold (WAND/block-max optimization).
-            // minScores[] is updated by the collector's priority queue overflow feedback loop.
-            float minScore = hybridSubQueryScorer.getMinScores()[subQueryIndex];
-            if (minScore > 0) {
-                scorers[subQueryIndex].setMinCompetitiveScore(minScore);
-            }
-            DocIdSetIterator it = scorers[subQueryIndex].iterator();
-            int doc = docIds[subQueryIndex];
-            if (doc < windowMin) {
-                doc = it.advance(windowMin);
-            }
-            while (doc < windowMax) {
-                if (Objects.isNull(acceptDocs) || acceptDocs.get(doc)) {
-                    int d = doc & MASK;
-                    if (needsScores) {
-                        float score = scorers[subQueryIndex].score();
-                        // collect score only in case it's gt competitive score
-                        if (score > hybridSubQueryScorer.getMinScores()[subQueryIndex]) {
-                            matching.set(d);
-                            windowScores[subQueryIndex][d] = score;
-                        }
-                    } else {
-                        matching.set(d);
-                    }
+        if (Objects.isNull(subQueryMatching) || scoreSubQueriesInParallel(acceptDocs, docIds, windowMin, windowMax) == false) {
+            for (int subQueryIndex = 0; subQueryIndex < scorers.length; subQueryIndex++) {
+                if (Objects.isNull(scorers[subQueryIndex]) || docIds[subQueryIndex] >= max) {
+                    continue;
                 }
-                doc = it.nextDoc();
+                docIds[subQueryIndex] = scoreSubQuery(subQueryIndex, matching, acceptDocs, docIds[subQueryIndex], windowMin, windowMax);
             }
-            docIds[subQueryIndex] = doc;
         }
 
+        if (Objects.nonNull(competitiveIterator)) {
+            retainCompetitiveDocs(windowBase);
+        }
         hybridQueryDocIdStream.setBase(windowBase);
         collector.collect(hybridQueryDocIdStream);
 
         resetWindowState();
     }
 
+    /**
+     * Score sub queries of the window concurrently on the hybrid query executor, one task per sub query. Every sub query
+     * owns its scorer, its score column and its matching bitset, so tasks don't share mutable state; matches are merged
+     * once all of them are done. Tasks the executor rejects are run on the calling thread, so a busy pool makes scoring
+     * sequential instead of failing the query. Competitive scores collected in the previous window are pushed to the
+     * scorers of every task.
+     * @return false if less than two sub queries have docs in the window, in which case nothing has been scored
+     */
+    private boolean scoreSubQueriesInParallel(Bits acceptDocs, int[] docIds, int windowMin, int windowMax) throws IOException {
+        List<FutureTask<Void>> tasks = new ArrayList<>(scorers.length);
+        for (int subQueryIndex = 0; subQueryIndex < scorers.length; subQueryIndex++) {
+            if (Objects.isNull(scorers[subQueryIndex]) || docIds[subQueryIndex] >= windowMax) {
+                continue;
+            }
+            final int index = subQueryIndex;
+            tasks.add(new FutureTask<>(() -> {
+                docIds[index] = scoreSubQuery(index, subQueryMatching[index], acceptDocs, docIds[index], windowMin, windowMax);
+                return null;
+            }));
+        }
+        if (tasks.size() < 2) {
+            return false;
+        }
+        Executor executor = HybridQueryExecutor.getThreadPoolExecutor();
+        // the first task is left for the calling thread
+        for (int taskIndex = 1; taskIndex < tasks.size(); taskIndex++) {
+            try {
+                executor.execute(tasks.get(taskIndex));
+            } catch (RejectedExecutionException e) {
+                log.debug("hybrid query executor rejected sub query scoring, remaining sub queries are scored by the caller", e);
+                break;
+            }
+        }
+        // running a task that another thread already started or completed is a no-op
+        for (FutureTask<Void> task : tasks) {
+            task.run();
+        }
+        for (FutureTask<Void> task : tasks) {
+            awaitSubQueryScoring(task);
+        }
+        for (FixedBitSet subQueryBits : subQueryMatching) {
+            if (Objects.nonNull(subQueryBits)) {
+                matching.or(subQueryBits);
+                subQueryBits.clear();
+            }
+        }
+        return true;
+    }
+
+    private void awaitSubQueryScoring(FutureTask<Void> task) throws IOException {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ThreadInterruptedException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Collect matching docs and scores of one sub query for the window
+     * @return first doc id of the sub query that is outside of this window
+     */
+    private int scoreSubQuery(int subQueryIndex, FixedBitSet windowMatching, Bits acceptDocs, int doc, int windowMin, int windowMax)
+        throws IOException {
+        Scorer scorer = scorers[subQueryIndex];
+        // Propagate competitive score threshold to sub-query scorer so that its ImpactsDISI
+        // can skip posting list blocks where maxScore < threshold (WAND/block-max optimization).
+        // minScores[] is updated by the collector's priority queue overflow feedback loop.
+        float minScore = hybridSubQueryScorer.getMinScores()[subQueryIndex];
+        if (minScore > 0) {
+            scorer.setMinCompetitiveScore(minScore);
+        }
+        DocIdSetIterator it = scorer.iterator();
+        if (doc < windowMin) {
+            doc = it.advance(windowMin);
+        }
+        // score one sub query column for the whole window, branches that don't depend on the doc are resolved once
+        if (needsScores) {
+            return scoreColumn(scorer, it, windowMatching, acceptDocs, doc, windowMax, windowScores[subQueryIndex], minScore);
+        }
+        return matchColumn(it, windowMatching, acceptDocs, doc, windowMax);
+    }
+
+    /**
+     * Collect matching docs of one sub query and their scores into the window
+     * @return first doc id of the sub query that is outside of this window
+     */
+    private int scoreColumn(
+        Scorer scorer,
+        DocIdSetIterator it,
+        FixedBitSet windowMatching,
+        Bits acceptDocs,
+        int doc,
+        int windowMax,
+        float[] columnScores,
+        float minScore
+    ) throws IOException {
+        for (; doc < windowMax; doc = it.nextDoc()) {
+            if (acceptDocs != null && acceptDocs.get(doc) == false) {
+                continue;
+            }
+            float score = scorer.score();
+            // collect score only in case it's gt competitive score
+            if (score > minScore) {
+                int d = doc & MASK;
+                windowMatching.set(d);
+                columnScores[d] = score;
+            }
+        }
+        return doc;
+    }
+
+    /**
+     * Collect matching docs of one sub query into the window when scores are not needed
+     * @return first doc id of the sub query that is outside of this window
+     */
+    private int matchColumn(DocIdSetIterator it, FixedBitSet windowMatching, Bits acceptDocs, int doc, int windowMax)
+        throws IOException {
+        for (; doc < windowMax; doc = it.nextDoc()) {
+            if (acceptDocs == null || acceptDocs.get(doc)) {
+                windowMatching.set(doc & MASK);
+            }
+        }
+        return doc;
+    }
+
+    /**
+     * Move all sub-query scorers to the next competitive doc, so blocks of docs that can't make it to the collector's
+     * top hits are neither scored nor collected
+     * @return next doc id to score
+     */
+    private int skipNonCompetitiveDocs(int topDoc, int max, int[] docIds) throws IOException {
+        int competitiveDoc = competitiveIterator.docID();
+        if (competitiveDoc < topDoc) {
+            competitiveDoc = competitiveIterator.advance(topDoc);
+        }
+        if (competitiveDoc == topDoc) {
+            return topDoc;
+        }
+        int target = Math.min(competitiveDoc, max);
+        for (int subQueryIndex = 0; subQueryIndex < scorers.length; subQueryIndex++) {
+            if (Objects.nonNull(scorers[subQueryIndex]) && docIds[subQueryIndex] < target) {
+                docIds[subQueryIndex] = scorers[subQueryIndex].iterator().advance(target);
+            }
+        }
+        return getNextDocIdCandidate(docIds);
+    }
+
+    /**
+     * Drop matches of the window that are not competitive, scores of dropped docs are cleared as the window reset only
+     * clears slots of matching docs
+     */
+    private void retainCompetitiveDocs(int windowBase) throws IOException {
+        long[] bitArray = matching.getBits();
+        for (int idx = 0; idx < bitArray.length; idx++) {
+            long bits = bitArray[idx];
+            while (bits != 0L) {
+                int numberOfTrailingZeros = Long.numberOfTrailingZeros(bits);
+                int d = (idx << 6) | numberOfTrailingZeros;
+                int doc = windowBase | d;
+                int competitiveDoc = competitiveIterator.docID();
+                if (competitiveDoc < doc) {
+                    competitiveDoc = competitiveIterator.advance(doc);
+                }
+                if (competitiveDoc != doc) {
+                    bitArray[idx] &= ~(1L << numberOfTrailingZeros);
+                    for (float[] windowScore : windowScores) {
+                        windowScore[d] = 0.0f;
+                    }
+                }
+                bits ^= 1L << numberOfTrailingZeros;
+            }
+        }
+    }
+
     /**
      * Advance all scorers to the next document that is >= min
      */
@@ -202,10 +405,31 @@ public class HybridBulkScorer extends BulkScorer {
      * Reset the internal state for the next window of documents
      */
     private void resetWindowState() {
+        // scores are only written for docs set in the matching bitset, so only those slots need to be cleared
+        if (needsScores) {
+            if (matching.cardinality() > SPARSE_RESET_MAX_MATCHES) {
+                for (float[] windowScore : windowScores) {
+                    Arrays.fill(windowScore, 0.0f);
+                }
+            } else {
+                clearMatchingScores();
+            }
+        }
         matching.clear();
+    }
 
-        for (float[] windowScore : windowScores) {
-            Arrays.fill(windowScore, 0.0f);
+    private void clearMatchingScores() {
+        long[] bitArray = matching.getBits();
+        for (int idx = 0; idx < bitArray.length; idx++) {
+            long bits = bitArray[idx];
+            while (bits != 0L) {
+                int numberOfTrailingZeros = Long.numberOfTrailingZeros(bits);
+                int d = (idx << 6) | numberOfTrailingZeros;
+                for (float[] windowScore : windowScores) {
+                    windowScore[d] = 0.0f;
+                }
+                bits ^= 1L << numberOfTrailingZeros;
+            }
         }
     }
 
@@ -213,4 +437,5 @@ public class HybridBulkScorer extends BulkScorer {
     public long cost() {
         return cost;
     }
+
 }
@@ -43,6 +43,7 @@ import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 
 import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForPaginationInHybridQuery;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_PARALLEL_SUB_QUERY_SCORING_ENABLED;
 
 /**
  * Class abstract creation of a Query type "hybrid". Hybrid query will allow execution of multiple sub-queries and
@@ -161,7 +162,10 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
             return Queries.newMatchNoDocsQuery(String.format(Locale.ROOT, "no clauses for %s query", NAME));
         }
         validatePaginationDepth(paginationDepth, queryShardContext);
-        HybridQueryContext hybridQueryContext = HybridQueryContext.builder().paginationDepth(paginationDepth).build();
+        HybridQueryContext hybridQueryContext = HybridQueryContext.builder()
+            .paginationDepth(paginationDepth)
+            .parallelSubQueryScoring(isParallelSubQueryScoringEnabled(queryShardContext))
+            .build();
         return new HybridQuery(queryCollection, hybridQueryContext);
     }
 
@@ -399,6 +403,11 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         }
     }
 
+    private static boolean isParallelSubQueryScoringEnabled(final QueryShardContext queryShardContext) {
+        IndexSettings indexSettings = queryShardContext.getIndexSettings();
+        return Objects.nonNull(indexSettings) && HYBRID_PARALLEL_SUB_QUERY_SCORING_ENABLED.get(indexSettings.getSettings());
+    }
+
     /**
      * visit method to parse the HybridQueryBuilder by a visitor
      */
@@ -4,6 +4,8 @@
  */
 package org.opensearch.neuralsearch.query;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -12,6 +14,13 @@ import lombok.Getter;
  */
 @Builder
 @Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class HybridQueryContext {
     private Integer paginationDepth;
+    // score sub queries of a segment concurrently on the hybrid query executor
+    private boolean parallelSubQueryScoring;
+
+    HybridQueryContext(Integer paginationDepth) {
+        this(paginationDepth, false);
+    }
 }
@@ -36,6 +36,8 @@ public final class HybridQueryWeight extends Weight {
     @Getter(AccessLevel.PACKAGE)
     private final List<Weight> weights;
     private final ScoreMode scoreMode;
+    @Getter(AccessLevel.PACKAGE)
+    private final boolean parallelSubQueryScoring;
 
     /**
      * Construct the Weight for this Query searched by searcher. Recursively construct subquery weights.
@@ -50,6 +52,7 @@ public final class HybridQueryWeight extends Weight {
             }
         }).collect(Collectors.toList());
         this.scoreMode = scoreMode;
+        this.parallelSubQueryScoring = hybridQuery.getQueryContext().isParallelSubQueryScoring();
     }
 
     /**
@@ -78,6 +78,6 @@ public class HybridScorerSupplier extends ScorerSupplier {
                 scorers.add(null);
             }
         }
-        return new HybridBulkScorer(scorers, scoreMode.needsScores(), context.reader().maxDoc());
+        return new HybridBulkScorer(scorers, scoreMode.needsScores(), context.reader().maxDoc(), weight.isParallelSubQueryScoring());
     }
 }
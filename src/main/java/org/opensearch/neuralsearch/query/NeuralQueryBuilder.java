@@ -16,7 +16,6 @@ import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isCluster
 import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForDefaultDenseModelIdSupport;
 import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForRadialSearch;
 import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForSemanticFieldType;
-import static org.opensearch.neuralsearch.common.VectorUtil.vectorAsListToArray;
 import static org.opensearch.neuralsearch.constants.MappingConstants.PATH_SEPARATOR;
 import static org.opensearch.neuralsearch.constants.SemanticInfoFieldConstants.EMBEDDING_FIELD_NAME;
 import static org.opensearch.neuralsearch.constants.SemanticInfoFieldConstants.CHUNKS_FIELD_NAME;
@@ -103,9 +102,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.processor.MapInferenceRequest;
-import org.opensearch.neuralsearch.processor.TextInferenceRequest;
 import org.opensearch.neuralsearch.query.dto.NeuralQueryTargetFieldConfig;
-import org.opensearch.neuralsearch.util.TokenWeightUtil;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.neuralsearch.util.prune.PruneUtils;
 import org.opensearch.transport.RemoteClusterService;
@@ -918,15 +915,7 @@ public class NeuralQueryBuilder extends AbstractNeuralQueryBuilder<NeuralQueryBu
             inferenceInput.put(INPUT_IMAGE, queryImage());
         }
 
-        queryRewriteContext.registerAsyncAction(
-            ((client, actionListener) -> ML_CLIENT.inferenceSentencesMap(
-                MapInferenceRequest.builder().modelId(modelId()).inputObjects(inferenceInput).embeddingContentType(QUERY).build(),
-                ActionListener.wrap(floatList -> {
-                    vectorSetOnce.set(vectorAsListToArray(floatList));
-                    actionListener.onResponse(null);
-                }, actionListener::onFailure)
-            ))
-        );
+        registerDenseInference(modelId(), inferenceInput, vectorSetOnce, queryRewriteContext);
 
         return neuralQueryBuilder;
     }
@@ -1157,25 +1146,26 @@ public class NeuralQueryBuilder extends AbstractNeuralQueryBuilder<NeuralQueryBu
         for (String modelId : modelIds) {
             final SetOnce<Map<String, Float>> setOnce = new SetOnce<>();
             modelIdToQueryTokensSupplierMap.put(modelId, setOnce::get);
-            queryRewriteContext.registerAsyncAction(
-                ((client, actionListener) -> ML_CLIENT.inferenceSentencesWithMapResult(
-                    TextInferenceRequest.builder().modelId(modelId).inputTexts(List.of(queryText)).embeddingContentType(QUERY).build(),
-                    ActionListener.wrap(mapResultList -> {
-                        final Map<String, Float> queryTokens = TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0);
-                        if (isSparseTwoPhaseOne()) {
-                            Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = PruneUtils.splitSparseVector(
-                                neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType(),
-                                neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio(),
-                                queryTokens
-                            );
-                            setOnce.set(splitQueryTokens.v1());
-                            modelIdToTwoPhaseSharedQueryToken.put(modelId, splitQueryTokens.v2());
-                        } else {
-                            setOnce.set(queryTokens);
-                        }
-                        actionListener.onResponse(null);
-                    }, actionListener::onFailure)
-                ))
+            // inferences of the same model within the search request are batched into one model call
+            QueryRewriteInferenceBatcher.registerTokenWeightsInference(
+                queryRewriteContext,
+                ML_CLIENT,
+                modelId,
+                null,
+                queryText,
+                queryTokens -> {
+                    if (isSparseTwoPhaseOne()) {
+                        Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = PruneUtils.splitSparseVector(
+                            neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType(),
+                            neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio(),
+                            queryTokens
+                        );
+                        setOnce.set(splitQueryTokens.v1());
+                        modelIdToTwoPhaseSharedQueryToken.put(modelId, splitQueryTokens.v2());
+                    } else {
+                        setOnce.set(queryTokens);
+                    }
+                }
             );
         }
     }
@@ -1185,16 +1175,36 @@ public class NeuralQueryBuilder extends AbstractNeuralQueryBuilder<NeuralQueryBu
         for (String modelId : modelIds) {
             final SetOnce<float[]> vectorSetOnce = new SetOnce<>();
             modelIdToVectorSupplierMap.put(modelId, vectorSetOnce::get);
-            queryRewriteContext.registerAsyncAction(
-                ((client, actionListener) -> ML_CLIENT.inferenceSentencesMap(
-                    MapInferenceRequest.builder().modelId(modelId).inputObjects(inferenceInput).embeddingContentType(QUERY).build(),
-                    ActionListener.wrap(floatList -> {
-                        vectorSetOnce.set(vectorAsListToArray(floatList));
-                        actionListener.onResponse(null);
-                    }, actionListener::onFailure)
-                ))
+            registerDenseInference(modelId, inferenceInput, vectorSetOnce, queryRewriteContext);
+        }
+    }
+
+    private void registerDenseInference(
+        final String modelId,
+        final Map<String, String> inferenceInput,
+        final SetOnce<float[]> vectorSetOnce,
+        final QueryRewriteContext queryRewriteContext
+    ) {
+        if (inferenceInput.containsKey(INPUT_IMAGE) == false) {
+            // text inferences of the same model within the search request are batched into one model call
+            QueryRewriteInferenceBatcher.registerVectorInference(
+                queryRewriteContext,
+                ML_CLIENT,
+                modelId,
+                inferenceInput.get(INPUT_TEXT),
+                vectorSetOnce::set
             );
+            return;
         }
+        queryRewriteContext.registerAsyncAction(
+            ((client, actionListener) -> ML_CLIENT.inferenceSentencesMapAsFloatArray(
+                MapInferenceRequest.builder().modelId(modelId).inputObjects(inferenceInput).embeddingContentType(QUERY).build(),
+                ActionListener.wrap(vector -> {
+                    vectorSetOnce.set(vector);
+                    actionListener.onResponse(null);
+                }, actionListener::onFailure)
+            ))
+        );
     }
 
     private Map<String, String> getInferenceInputForDenseModel() {
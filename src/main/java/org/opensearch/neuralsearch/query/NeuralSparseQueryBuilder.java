@@ -31,12 +31,12 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.core.ParseField;
-import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.ParsingException;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryCoordinatorContext;
@@ -47,37 +47,33 @@ import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbe
 import org.opensearch.ml.common.input.parameter.textembedding.SparseEmbeddingFormat;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.NeuralQueryEnricherProcessor;
-import org.opensearch.neuralsearch.processor.TextInferenceRequest;
 import org.opensearch.neuralsearch.sparse.common.SparseFieldUtils;
 import org.opensearch.neuralsearch.sparse.mapper.SparseVectorFieldType;
 import org.opensearch.neuralsearch.sparse.query.SparseAnnQueryBuilder;
 import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
-import org.opensearch.neuralsearch.util.TokenWeightUtil;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.neuralsearch.util.prune.PruneUtils;
-import org.opensearch.transport.client.Client;
 
 import java.io.IOException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiConsumer;
 
 import static org.opensearch.neuralsearch.processor.EmbeddingContentType.QUERY;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.NEURAL_SPARSE_DOT_PRODUCT_QUERY_ENABLED;
 
 import static org.opensearch.neuralsearch.sparse.query.SparseAnnQueryBuilder.METHOD_PARAMETERS_FIELD;
 
 /**
  * SparseEncodingQueryBuilder is responsible for handling "neural_sparse" query types. It uses an ML NEURAL_SPARSE model
  * or SPARSE_TOKENIZE model to produce a Map with String keys and Float values for input text. Then it will be transformed
- * to Lucene FeatureQuery wrapped by Lucene BooleanQuery.
+ * to Lucene FeatureQuery wrapped by Lucene BooleanQuery, or to {@link SparseDotProductQuery} when it is enabled for the index.
  */
 
 @Getter
@@ -414,7 +410,7 @@ public class NeuralSparseQueryBuilder extends AbstractNeuralQueryBuilder<NeuralS
         boolean withTokenId = shouldInferenceWithTokenIdResponse(queryRewriteContext);
         validateForRewrite(queryText, modelId);
         SetOnce<Map<String, Float>> queryTokensSetOnce = new SetOnce<>();
-        queryRewriteContext.registerAsyncAction(getModelInferenceAsync(queryTokensSetOnce, withTokenId));
+        registerModelInference(queryRewriteContext, queryTokensSetOnce, withTokenId);
         return new NeuralSparseQueryBuilder().fieldName(fieldName)
             .queryText(queryText)
             .modelId(modelId)
@@ -474,22 +470,25 @@ public class NeuralSparseQueryBuilder extends AbstractNeuralQueryBuilder<NeuralS
         return isSeismicFieldType(fieldType);
     }
 
-    private BiConsumer<Client, ActionListener<?>> getModelInferenceAsync(SetOnce<Map<String, Float>> setOnce, boolean withTokenId) {
+    private void registerModelInference(
+        QueryRewriteContext queryRewriteContext,
+        SetOnce<Map<String, Float>> setOnce,
+        boolean withTokenId
+    ) {
         // When Two-phase shared query tokens is null,
         // it set queryTokensSupplier to the inference result which has all query tokens with score.
         // When Two-phase shared query tokens exist,
         // it splits the tokens using a threshold defined by a ratio of the maximum score of tokens, updating the token set
         // accordingly.
+        // Inferences of the same model within the search request are batched into one model call.
         final AsymmetricTextEmbeddingParameters parameters = withTokenId ? TOKEN_ID_PARAMETER : null;
-        return ((client, actionListener) -> ML_CLIENT.inferenceSentencesWithMapResult(
-            TextInferenceRequest.builder()
-                .modelId(modelId())
-                .inputTexts(List.of(queryText))
-                .embeddingContentType(QUERY)
-                .mlAlgoParams(parameters)
-                .build(),
-            ActionListener.wrap(mapResultList -> {
-                Map<String, Float> queryTokens = TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0);
+        QueryRewriteInferenceBatcher.registerTokenWeightsInference(
+            queryRewriteContext,
+            ML_CLIENT,
+            modelId(),
+            parameters,
+            queryText,
+            queryTokens -> {
                 if (isSparseTwoPhaseOne()) {
                     Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = PruneUtils.splitSparseVector(
                         neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType(),
@@ -501,9 +500,8 @@ public class NeuralSparseQueryBuilder extends AbstractNeuralQueryBuilder<NeuralS
                 } else {
                     setOnce.set(queryTokens);
                 }
-                actionListener.onResponse(null);
-            }, actionListener::onFailure)
-        ));
+            }
+        );
     }
 
     Map<String, Float> getQueryTokens(QueryShardContext context) {
@@ -573,11 +571,14 @@ public class NeuralSparseQueryBuilder extends AbstractNeuralQueryBuilder<NeuralS
             validateFieldType(ft);
         }
         Map<String, Float> queryTokens = getQueryTokens(context);
-        BooleanQuery.Builder builder = new BooleanQuery.Builder();
-        for (Map.Entry<String, Float> entry : queryTokens.entrySet()) {
-            builder.add(FeatureField.newLinearQuery(fieldName, entry.getKey(), entry.getValue()), BooleanClause.Occur.SHOULD);
+        if (!isSeismic) {
+            if (isSparseTwoPhaseSinglePass()) {
+                return buildSinglePassTwoPhaseQuery(context, queryTokens);
+            }
+            return buildRankFeaturesQuery(context, queryTokens);
         }
-        if (!isSeismic || sparseAnnQueryBuilder == null) {
+        BooleanQuery.Builder builder = buildFeatureFieldQuery(queryTokens);
+        if (sparseAnnQueryBuilder == null) {
             return builder.build();
         } else {
             QueryBuilder filter = sparseAnnQueryBuilder.filter();
@@ -601,6 +602,48 @@ public class NeuralSparseQueryBuilder extends AbstractNeuralQueryBuilder<NeuralS
         }
     }
 
+    private BooleanQuery.Builder buildFeatureFieldQuery(Map<String, Float> queryTokens) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (Map.Entry<String, Float> entry : queryTokens.entrySet()) {
+            builder.add(FeatureField.newLinearQuery(fieldName, entry.getKey(), entry.getValue()), BooleanClause.Occur.SHOULD);
+        }
+        return builder;
+    }
+
+    private Query buildRankFeaturesQuery(QueryShardContext context, Map<String, Float> queryTokens) {
+        // without query tokens, e.g. empty model output, the bool query without clauses matches nothing
+        if (isDotProductQueryEnabled(context) && queryTokens.isEmpty() == false) {
+            return new SparseDotProductQuery(fieldName, queryTokens);
+        }
+        return buildFeatureFieldQuery(queryTokens).build();
+    }
+
+    /**
+     * Build the query of a two-phase neural sparse query in single pass mode. The high score tokens select the top
+     * candidates of the shard, and the low score tokens are only evaluated on these candidates.
+     */
+    private Query buildSinglePassTwoPhaseQuery(QueryShardContext context, Map<String, Float> queryTokens) {
+        Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = PruneUtils.splitSparseVector(
+            neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType(),
+            neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio(),
+            queryTokens
+        );
+        if (splitQueryTokens.v1().isEmpty() || splitQueryTokens.v2().isEmpty()) {
+            return buildRankFeaturesQuery(context, queryTokens);
+        }
+        return new NeuralSparseTwoPhaseQuery(
+            buildRankFeaturesQuery(context, splitQueryTokens.v1()),
+            fieldName,
+            splitQueryTokens.v2(),
+            neuralSparseQueryTwoPhaseInfo.getTwoPhaseWindowSize()
+        );
+    }
+
+    private static boolean isDotProductQueryEnabled(QueryShardContext context) {
+        IndexSettings indexSettings = context.getIndexSettings();
+        return Objects.nonNull(indexSettings) && NEURAL_SPARSE_DOT_PRODUCT_QUERY_ENABLED.get(indexSettings.getSettings());
+    }
+
     private static void validateFieldType(MappedFieldType fieldType) {
         if (Objects.isNull(fieldType) || !fieldType.typeName().equals("rank_features")) {
             throw new IllegalArgumentException("[" + NAME + "] query only works on [rank_features] fields");
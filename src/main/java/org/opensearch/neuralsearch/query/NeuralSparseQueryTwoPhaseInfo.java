@@ -7,6 +7,7 @@ package org.opensearch.neuralsearch.query;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -24,6 +25,7 @@ import java.util.stream.Collectors;
  * This class encapsulates information related to the two-phase execution process
  * for a neural sparse query. It tracks the current processing phase, the ratio
  * used for pruning during the two-phase process, and the type of pruning applied.
+ * For the single pass execution it also carries the per shard window size of the candidates to refine.
  */
 @Getter
 @Setter
@@ -31,6 +33,9 @@ public class NeuralSparseQueryTwoPhaseInfo implements Writeable {
     private TwoPhaseStatus status = TwoPhaseStatus.NOT_ENABLED;
     private float twoPhasePruneRatio = 0F;
     private PruneType twoPhasePruneType = PruneType.NONE;
+    private int twoPhaseWindowSize = 0;
+
+    private static final Version MINIMAL_SUPPORTED_VERSION_SINGLE_PASS = Version.V_3_7_0;
 
     NeuralSparseQueryTwoPhaseInfo() {}
 
@@ -40,10 +45,18 @@ public class NeuralSparseQueryTwoPhaseInfo implements Writeable {
         this.twoPhasePruneType = twoPhasePruneType;
     }
 
+    public NeuralSparseQueryTwoPhaseInfo(float twoPhasePruneRatio, PruneType twoPhasePruneType, int twoPhaseWindowSize) {
+        this(TwoPhaseStatus.SINGLE_PASS, twoPhasePruneRatio, twoPhasePruneType);
+        this.twoPhaseWindowSize = twoPhaseWindowSize;
+    }
+
     NeuralSparseQueryTwoPhaseInfo(StreamInput in) throws IOException {
         this.status = TwoPhaseStatus.fromInt(in.readInt());
         this.twoPhasePruneRatio = in.readFloat();
         this.twoPhasePruneType = PruneType.fromString(in.readString());
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_SINGLE_PASS)) {
+            this.twoPhaseWindowSize = in.readVInt();
+        }
     }
 
     @Override
@@ -51,12 +64,17 @@ public class NeuralSparseQueryTwoPhaseInfo implements Writeable {
         out.writeInt(status.getValue());
         out.writeFloat(twoPhasePruneRatio);
         out.writeString(twoPhasePruneType.getValue());
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_SINGLE_PASS)) {
+            out.writeVInt(twoPhaseWindowSize);
+        }
     }
 
     public enum TwoPhaseStatus {
         NOT_ENABLED(0),
         PHASE_ONE(1),
-        PHASE_TWO(2);
+        PHASE_TWO(2),
+        // Both phases are executed by the same query, the low score tokens only refine the top candidates of each shard
+        SINGLE_PASS(3);
 
         private static final Map<Integer, TwoPhaseStatus> VALUE_MAP = Arrays.stream(values())
             .collect(Collectors.toUnmodifiableMap(status -> status.value, Function.identity()));
@@ -96,11 +114,12 @@ public class NeuralSparseQueryTwoPhaseInfo implements Writeable {
         equalsBuilder.append(twoPhasePruneType, info.getTwoPhasePruneType());
         equalsBuilder.append(twoPhasePruneRatio, info.getTwoPhasePruneRatio());
         equalsBuilder.append(status.getValue(), info.getStatus().getValue());
+        equalsBuilder.append(twoPhaseWindowSize, info.getTwoPhaseWindowSize());
         return equalsBuilder.isEquals();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(twoPhasePruneType, twoPhasePruneRatio, status.getValue());
+        return Objects.hash(twoPhasePruneType, twoPhasePruneRatio, status.getValue(), twoPhaseWindowSize);
     }
 }
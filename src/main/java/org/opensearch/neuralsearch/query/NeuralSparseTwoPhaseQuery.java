@@ -0,0 +1,359 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Two-phase neural sparse query executed in a single query phase. When its weight is created it collects the top
+ * window size documents of the shard on the high score tokens, then adds the contribution of the low score tokens
+ * to these candidates by reading their rank_features postings. The weight only matches the refined candidates,
+ * which replaces the rescore phase that the two-phase processor adds in its default mode. The refined candidates are
+ * kept for the reader they were computed on, so weights created again for the same reader, e.g. for explain in the
+ * fetch phase, don't repeat the phase one search.
+ */
+@Getter
+public class NeuralSparseTwoPhaseQuery extends Query {
+    @NonNull
+    private final Query phaseOneQuery;
+    @NonNull
+    private final String fieldName;
+    @NonNull
+    private final Map<String, Float> phaseTwoTokens;
+    private final int windowSize;
+    // refined candidates of the last reader, guarded by this and not part of equals and hashCode
+    @Getter(AccessLevel.NONE)
+    private Object candidatesContextIdentity;
+    @Getter(AccessLevel.NONE)
+    private Query candidatesQuery;
+
+    public NeuralSparseTwoPhaseQuery(
+        @NonNull Query phaseOneQuery,
+        @NonNull String fieldName,
+        @NonNull Map<String, Float> phaseTwoTokens,
+        int windowSize
+    ) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "two-phase window size must be positive, got [%d]", windowSize)
+            );
+        }
+        this.phaseOneQuery = phaseOneQuery;
+        this.fieldName = fieldName;
+        this.phaseTwoTokens = phaseTwoTokens;
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public Query rewrite(IndexSearcher indexSearcher) throws IOException {
+        Query rewrittenPhaseOneQuery = phaseOneQuery.rewrite(indexSearcher);
+        if (rewrittenPhaseOneQuery != phaseOneQuery) {
+            return new NeuralSparseTwoPhaseQuery(rewrittenPhaseOneQuery, fieldName, phaseTwoTokens, windowSize);
+        }
+        return super.rewrite(indexSearcher);
+    }
+
+    /**
+     * Collects the phase one candidates through the given searcher, so they are collected under the timeout and
+     * cancellation checks of the search, then refines them with the phase two tokens. Candidates are computed once
+     * per reader.
+     */
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        return getCandidatesQuery(searcher).createWeight(searcher, scoreMode, boost);
+    }
+
+    private synchronized Query getCandidatesQuery(IndexSearcher searcher) throws IOException {
+        Object contextIdentity = searcher.getIndexReader().getContext().id();
+        if (Objects.nonNull(candidatesQuery) && candidatesContextIdentity == contextIdentity) {
+            return candidatesQuery;
+        }
+        Query query = computeCandidatesQuery(searcher);
+        // candidates of a timed out phase one search are partial, they are not reused
+        if (searcher.timedOut() == false) {
+            candidatesContextIdentity = contextIdentity;
+            candidatesQuery = query;
+        }
+        return query;
+    }
+
+    private Query computeCandidatesQuery(IndexSearcher searcher) throws IOException {
+        IndexReader reader = searcher.getIndexReader();
+        TopDocs phaseOneResults = searcher.search(phaseOneQuery, new TopScoreDocCollectorManager(windowSize, null, windowSize));
+        if (phaseOneResults.scoreDocs.length == 0) {
+            return new MatchNoDocsQuery("no candidate for neural sparse two-phase query");
+        }
+
+        ScoreDoc[] candidates = phaseOneResults.scoreDocs.clone();
+        Arrays.sort(candidates, Comparator.comparingInt(scoreDoc -> scoreDoc.doc));
+        int[] docs = new int[candidates.length];
+        float[] scores = new float[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            docs[i] = candidates[i].doc;
+            scores[i] = candidates[i].score;
+        }
+        int candidateIndex = 0;
+        for (LeafReaderContext context : reader.leaves()) {
+            int leafStart = candidateIndex;
+            int leafEnd = context.docBase + context.reader().maxDoc();
+            while (candidateIndex < docs.length && docs[candidateIndex] < leafEnd) {
+                candidateIndex++;
+            }
+            if (leafStart < candidateIndex) {
+                addPhaseTwoScores(context, docs, scores, leafStart, candidateIndex);
+            }
+        }
+        return new CandidatesQuery(docs, scores, reader.getContext().id());
+    }
+
+    private void addPhaseTwoScores(LeafReaderContext context, int[] docs, float[] scores, int from, int to) throws IOException {
+        Terms terms = context.reader().terms(fieldName);
+        if (Objects.isNull(terms)) {
+            return;
+        }
+        TermsEnum termsEnum = terms.iterator();
+        for (Map.Entry<String, Float> entry : phaseTwoTokens.entrySet()) {
+            if (!termsEnum.seekExact(new BytesRef(entry.getKey()))) {
+                continue;
+            }
+            PostingsEnum postingsEnum = termsEnum.postings(null, PostingsEnum.FREQS);
+            float weight = entry.getValue();
+            // candidates are sorted by doc id, so each posting list is only advanced forward
+            for (int i = from; i < to; i++) {
+                int target = docs[i] - context.docBase;
+                int docId = postingsEnum.docID();
+                if (docId < target) {
+                    docId = postingsEnum.advance(target);
+                }
+                if (docId == DocIdSetIterator.NO_MORE_DOCS) {
+                    break;
+                }
+                if (docId == target) {
+                    scores[i] += weight * SparseDotProductScorer.decodeFeatureValue(postingsEnum.freq());
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString(String field) {
+        return String.format(
+            Locale.ROOT,
+            "NeuralSparseTwoPhaseQuery(phaseOne=%s, phaseTwoTokens=%s, windowSize=%d)",
+            phaseOneQuery.toString(field),
+            phaseTwoTokens,
+            windowSize
+        );
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        phaseOneQuery.visit(visitor.getSubVisitor(BooleanClause.Occur.SHOULD, this));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!sameClassAs(obj)) {
+            return false;
+        }
+        NeuralSparseTwoPhaseQuery other = (NeuralSparseTwoPhaseQuery) obj;
+        return windowSize == other.windowSize
+            && phaseOneQuery.equals(other.phaseOneQuery)
+            && fieldName.equals(other.fieldName)
+            && phaseTwoTokens.equals(other.phaseTwoTokens);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), phaseOneQuery, fieldName, phaseTwoTokens, windowSize);
+    }
+
+    /**
+     * Matches the refined candidates of the two-phase query with their final scores. Doc ids are global to the reader
+     * the candidates were computed on, and sorted.
+     */
+    static class CandidatesQuery extends Query {
+        private final int[] docs;
+        private final float[] scores;
+        private final Object contextIdentity;
+
+        CandidatesQuery(int[] docs, float[] scores, Object contextIdentity) {
+            this.docs = docs;
+            this.scores = scores;
+            this.contextIdentity = contextIdentity;
+        }
+
+        @Override
+        public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+            if (searcher.getIndexReader().getContext().id() != contextIdentity) {
+                throw new IllegalStateException("neural sparse two-phase candidates were computed on a different reader");
+            }
+            return new Weight(this) {
+                @Override
+                public Explanation explain(LeafReaderContext context, int doc) {
+                    int index = Arrays.binarySearch(docs, context.docBase + doc);
+                    if (index < 0) {
+                        return Explanation.noMatch("not a neural sparse two-phase candidate");
+                    }
+                    return Explanation.match(
+                        scores[index] * boost,
+                        "neural sparse two-phase score, sum of phase one and phase two tokens"
+                    );
+                }
+
+                @Override
+                public ScorerSupplier scorerSupplier(LeafReaderContext context) {
+                    int from = lowerBound(context.docBase);
+                    int to = lowerBound(context.docBase + context.reader().maxDoc());
+                    if (from == to) {
+                        return null;
+                    }
+                    return new DefaultScorerSupplier(new CandidatesScorer(context.docBase, from, to, boost));
+                }
+
+                @Override
+                public boolean isCacheable(LeafReaderContext ctx) {
+                    return true;
+                }
+            };
+        }
+
+        private int lowerBound(int doc) {
+            int index = Arrays.binarySearch(docs, doc);
+            return index < 0 ? -index - 1 : index;
+        }
+
+        @Override
+        public String toString(String field) {
+            return String.format(Locale.ROOT, "NeuralSparseTwoPhaseCandidates(%d docs)", docs.length);
+        }
+
+        @Override
+        public void visit(QueryVisitor visitor) {
+            visitor.visitLeaf(this);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!sameClassAs(obj)) {
+                return false;
+            }
+            CandidatesQuery other = (CandidatesQuery) obj;
+            return contextIdentity == other.contextIdentity && Arrays.equals(docs, other.docs) && Arrays.equals(scores, other.scores);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(classHash(), contextIdentity, Arrays.hashCode(docs), Arrays.hashCode(scores));
+        }
+
+        /**
+         * Iterates the candidates of one segment, in doc id order
+         */
+        private class CandidatesScorer extends Scorer {
+            private final int docBase;
+            private final int from;
+            private final int to;
+            private final float boost;
+            private final float maxScore;
+            private int index;
+
+            private final DocIdSetIterator iterator = new DocIdSetIterator() {
+                @Override
+                public int docID() {
+                    return currentDoc();
+                }
+
+                @Override
+                public int nextDoc() {
+                    index++;
+                    return currentDoc();
+                }
+
+                @Override
+                public int advance(int target) throws IOException {
+                    return slowAdvance(target);
+                }
+
+                @Override
+                public long cost() {
+                    return to - from;
+                }
+            };
+
+            CandidatesScorer(int docBase, int from, int to, float boost) {
+                this.docBase = docBase;
+                this.from = from;
+                this.to = to;
+                this.boost = boost;
+                this.index = from - 1;
+                float max = 0;
+                for (int i = from; i < to; i++) {
+                    max = Math.max(max, scores[i]);
+                }
+                this.maxScore = max * boost;
+            }
+
+            private int currentDoc() {
+                if (index < from) {
+                    return -1;
+                }
+                return index >= to ? DocIdSetIterator.NO_MORE_DOCS : docs[index] - docBase;
+            }
+
+            @Override
+            public int docID() {
+                return currentDoc();
+            }
+
+            @Override
+            public DocIdSetIterator iterator() {
+                return iterator;
+            }
+
+            @Override
+            public float getMaxScore(int upTo) {
+                return maxScore;
+            }
+
+            @Override
+            public float score() {
+                return scores[index] * boost;
+            }
+        }
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import static org.opensearch.neuralsearch.processor.EmbeddingContentType.QUERY;
+import static org.opensearch.neuralsearch.processor.TextImageEmbeddingProcessor.INPUT_TEXT;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_REWRITE_INFERENCE_BATCHING_ENABLED;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.MapInferenceRequest;
+import org.opensearch.neuralsearch.processor.TextInferenceRequest;
+import org.opensearch.neuralsearch.util.TokenWeightUtil;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Groups the query text inferences that neural and neural_sparse query builders register while a search request is
+ * rewritten. The first inference of a model registers one async action on the rewrite context, inferences of the same
+ * model and inference parameters registered before the async actions are executed join it, and the action runs one
+ * model call for all distinct query texts and hands each builder the result of its text. A hybrid query with several
+ * neural sub queries then needs one model call instead of one per sub query. Remote models are called once per query
+ * text, since their connectors may not accept several inputs.
+ */
+@Log4j2
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryRewriteInferenceBatcher {
+    private static volatile boolean enabled;
+    // contexts are referenced weakly, batches of a request that is abandoned before its async actions run don't leak
+    private static final Map<QueryRewriteContext, Map<BatchKey, Batch<?>>> PENDING_BATCHES = Collections.synchronizedMap(
+        new WeakHashMap<>()
+    );
+
+    /**
+     * Initialize batching of rewrite inferences from node settings
+     * @param settings node level settings
+     */
+    public static void initialize(final Settings settings) {
+        enabled = QUERY_REWRITE_INFERENCE_BATCHING_ENABLED.get(settings);
+    }
+
+    /**
+     * Register inference of the dense vector of a query text
+     * @param queryRewriteContext rewrite context of the search request
+     * @param mlClient client to run the inference
+     * @param modelId id of the dense model
+     * @param queryText query text
+     * @param vectorConsumer receives the vector of the query text before the async action completes
+     */
+    static void registerVectorInference(
+        final QueryRewriteContext queryRewriteContext,
+        final MLCommonsClientAccessor mlClient,
+        final String modelId,
+        final String queryText,
+        final Consumer<float[]> vectorConsumer
+    ) {
+        register(
+            queryRewriteContext,
+            new BatchKey(InferenceType.VECTOR, modelId, null),
+            queryText,
+            vectorConsumer,
+            (queryTexts, listener) -> inferVectors(mlClient, modelId, queryTexts, listener)
+        );
+    }
+
+    /**
+     * Register inference of the token weights of a query text
+     * @param queryRewriteContext rewrite context of the search request
+     * @param mlClient client to run the inference
+     * @param modelId id of the sparse model
+     * @param mlAlgoParams inference parameters, can be null
+     * @param queryText query text
+     * @param tokenWeightsConsumer receives the token weights of the query text before the async action completes
+     */
+    static void registerTokenWeightsInference(
+        final QueryRewriteContext queryRewriteContext,
+        final MLCommonsClientAccessor mlClient,
+        final String modelId,
+        final MLAlgoParams mlAlgoParams,
+        final String queryText,
+        final Consumer<Map<String, Float>> tokenWeightsConsumer
+    ) {
+        register(
+            queryRewriteContext,
+            new BatchKey(InferenceType.TOKEN_WEIGHTS, modelId, mlAlgoParams),
+            queryText,
+            tokenWeightsConsumer,
+            (queryTexts, listener) -> inferTokenWeights(mlClient, modelId, mlAlgoParams, queryTexts, listener)
+        );
+    }
+
+    /**
+     * @param queryRewriteContext rewrite context of a search request
+     * @return number of batches of the context that wait for their async action
+     */
+    static int pendingBatchCount(final QueryRewriteContext queryRewriteContext) {
+        Map<BatchKey, Batch<?>> contextBatches = PENDING_BATCHES.get(queryRewriteContext);
+        return Objects.isNull(contextBatches) ? 0 : contextBatches.size();
+    }
+
+    private static <O> void register(
+        final QueryRewriteContext queryRewriteContext,
+        final BatchKey key,
+        final String queryText,
+        final Consumer<O> resultConsumer,
+        final BiConsumer<List<String>, ActionListener<List<O>>> batchInference
+    ) {
+        if (enabled == false) {
+            Batch<O> batch = new Batch<>(batchInference);
+            batch.add(queryText, resultConsumer);
+            queryRewriteContext.registerAsyncAction((client, actionListener) -> batch.execute(actionListener));
+            return;
+        }
+        Batch<O> newBatch = null;
+        synchronized (PENDING_BATCHES) {
+            Map<BatchKey, Batch<?>> contextBatches = PENDING_BATCHES.computeIfAbsent(queryRewriteContext, context -> new HashMap<>());
+            @SuppressWarnings("unchecked")
+            Batch<O> batch = (Batch<O>) contextBatches.get(key);
+            if (Objects.isNull(batch)) {
+                batch = new Batch<>(batchInference);
+                contextBatches.put(key, batch);
+                newBatch = batch;
+            }
+            batch.add(queryText, resultConsumer);
+        }
+        if (Objects.nonNull(newBatch)) {
+            final Batch<O> registeredBatch = newBatch;
+            queryRewriteContext.registerAsyncAction((client, actionListener) -> {
+                // inferences registered after this point, e.g. in the next rewrite round, start a new batch
+                removeBatch(queryRewriteContext, key, registeredBatch);
+                registeredBatch.execute(actionListener);
+            });
+        }
+    }
+
+    private static void removeBatch(final QueryRewriteContext queryRewriteContext, final BatchKey key, final Batch<?> batch) {
+        synchronized (PENDING_BATCHES) {
+            Map<BatchKey, Batch<?>> contextBatches = PENDING_BATCHES.get(queryRewriteContext);
+            if (Objects.isNull(contextBatches)) {
+                return;
+            }
+            contextBatches.remove(key, batch);
+            if (contextBatches.isEmpty()) {
+                PENDING_BATCHES.remove(queryRewriteContext);
+            }
+        }
+    }
+
+    private static void inferVectors(
+        final MLCommonsClientAccessor mlClient,
+        final String modelId,
+        final List<String> queryTexts,
+        final ActionListener<List<float[]>> listener
+    ) {
+        // single text keeps the map inference of the neural query so the query embedding cache applies
+        final BiConsumer<String, ActionListener<float[]>> singleInference = (queryText, vectorListener) -> mlClient
+            .inferenceSentencesMapAsFloatArray(
+                MapInferenceRequest.builder()
+                    .modelId(modelId)
+                    .inputObjects(Map.of(INPUT_TEXT, queryText))
+                    .embeddingContentType(QUERY)
+                    .build(),
+                vectorListener
+            );
+        inferBatchOrPerText(
+            mlClient,
+            modelId,
+            queryTexts,
+            batchListener -> mlClient.inferenceSentencesAsFloatArrays(
+                TextInferenceRequest.builder().modelId(modelId).inputTexts(queryTexts).embeddingContentType(QUERY).build(),
+                batchListener
+            ),
+            singleInference,
+            listener
+        );
+    }
+
+    private static void inferTokenWeights(
+        final MLCommonsClientAccessor mlClient,
+        final String modelId,
+        final MLAlgoParams mlAlgoParams,
+        final List<String> queryTexts,
+        final ActionListener<List<Map<String, Float>>> listener
+    ) {
+        final BiConsumer<List<String>, ActionListener<List<Map<String, Float>>>> textsInference = (texts, tokenWeightsListener) -> mlClient
+            .inferenceSentencesWithMapResult(
+                TextInferenceRequest.builder()
+                    .modelId(modelId)
+                    .inputTexts(texts)
+                    .embeddingContentType(QUERY)
+                    .mlAlgoParams(mlAlgoParams)
+                    .build(),
+                ActionListener.wrap(
+                    mapResultList -> tokenWeightsListener.onResponse(TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList)),
+                    tokenWeightsListener::onFailure
+                )
+            );
+        inferBatchOrPerText(
+            mlClient,
+            modelId,
+            queryTexts,
+            batchListener -> textsInference.accept(queryTexts, batchListener),
+            (queryText, tokenWeightsListener) -> textsInference.accept(
+                List.of(queryText),
+                ActionListener.wrap(results -> tokenWeightsListener.onResponse(results.getFirst()), tokenWeightsListener::onFailure)
+            ),
+            listener
+        );
+    }
+
+    /**
+     * Runs one model call for all query texts when the model is known to infer every text of its input, remote models
+     * may only read the first inputs, e.g. a multimodal connector reads the second text as image. Other models, and
+     * batch calls that don't return one result per text, fall back to one model call per query text.
+     */
+    private static <O> void inferBatchOrPerText(
+        final MLCommonsClientAccessor mlClient,
+        final String modelId,
+        final List<String> queryTexts,
+        final Consumer<ActionListener<List<O>>> batchInference,
+        final BiConsumer<String, ActionListener<O>> singleInference,
+        final ActionListener<List<O>> listener
+    ) {
+        if (queryTexts.size() == 1) {
+            inferPerText(queryTexts, singleInference, listener);
+            return;
+        }
+        mlClient.getCachedModel(modelId, ActionListener.wrap(model -> {
+            if (model.getAlgorithm() == FunctionName.REMOTE) {
+                inferPerText(queryTexts, singleInference, listener);
+                return;
+            }
+            batchInference.accept(ActionListener.wrap(results -> {
+                if (results.size() == queryTexts.size()) {
+                    listener.onResponse(results);
+                    return;
+                }
+                log.debug(
+                    "Query inference of model [{}] returned [{}] results for [{}] query texts, inferring query texts one by one",
+                    modelId,
+                    results.size(),
+                    queryTexts.size()
+                );
+                inferPerText(queryTexts, singleInference, listener);
+            }, listener::onFailure));
+        }, listener::onFailure));
+    }
+
+    private static <O> void inferPerText(
+        final List<String> queryTexts,
+        final BiConsumer<String, ActionListener<O>> singleInference,
+        final ActionListener<List<O>> listener
+    ) {
+        final AtomicReferenceArray<O> results = new AtomicReferenceArray<>(queryTexts.size());
+        final AtomicInteger pending = new AtomicInteger(queryTexts.size());
+        final AtomicBoolean failed = new AtomicBoolean();
+        for (int i = 0; i < queryTexts.size(); i++) {
+            final int index = i;
+            singleInference.accept(queryTexts.get(i), ActionListener.wrap(result -> {
+                results.set(index, result);
+                if (pending.decrementAndGet() == 0 && failed.get() == false) {
+                    final List<O> orderedResults = new ArrayList<>(queryTexts.size());
+                    for (int j = 0; j < queryTexts.size(); j++) {
+                        orderedResults.add(results.get(j));
+                    }
+                    listener.onResponse(orderedResults);
+                }
+            }, e -> {
+                if (failed.compareAndSet(false, true)) {
+                    listener.onFailure(e);
+                }
+            }));
+        }
+    }
+
+    private enum InferenceType {
+        VECTOR,
+        TOKEN_WEIGHTS
+    }
+
+    private record BatchKey(InferenceType inferenceType, String modelId, MLAlgoParams mlAlgoParams) {
+    }
+
+    /**
+     * Query texts of one model call, identical texts of several builders are inferred once
+     */
+    private static final class Batch<O> {
+        private final BiConsumer<List<String>, ActionListener<List<O>>> batchInference;
+        private final Map<String, List<Consumer<O>>> consumersByQueryText = new LinkedHashMap<>();
+
+        private Batch(final BiConsumer<List<String>, ActionListener<List<O>>> batchInference) {
+            this.batchInference = batchInference;
+        }
+
+        private void add(final String queryText, final Consumer<O> resultConsumer) {
+            consumersByQueryText.computeIfAbsent(queryText, text -> new ArrayList<>()).add(resultConsumer);
+        }
+
+        private void execute(final ActionListener<?> actionListener) {
+            final List<String> queryTexts = new ArrayList<>(consumersByQueryText.keySet());
+            batchInference.accept(queryTexts, ActionListener.wrap(results -> {
+                if (results.size() != queryTexts.size()) {
+                    throw new IllegalStateException(
+                        String.format(
+                            Locale.ROOT,
+                            "Query inference returned [%d] results for [%d] query texts",
+                            results.size(),
+                            queryTexts.size()
+                        )
+                    );
+                }
+                for (int i = 0; i < queryTexts.size(); i++) {
+                    for (Consumer<O> resultConsumer : consumersByQueryText.get(queryTexts.get(i))) {
+                        resultConsumer.accept(results.get(i));
+                    }
+                }
+                actionListener.onResponse(null);
+            }, actionListener::onFailure));
+        }
+    }
+}
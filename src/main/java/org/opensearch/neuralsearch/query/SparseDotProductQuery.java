@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import lombok.Getter;
+import org.apache.lucene.index.ImpactsEnum;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Dot product query between a sparse query vector and a rank_features field. It produces the same scores as a
+ * BooleanQuery of linear FeatureField queries, but all tokens are scored by a single {@link SparseDotProductScorer}
+ * which reads the feature impacts and skips non-competitive documents with block-max MaxScore.
+ */
+@Getter
+public class SparseDotProductQuery extends Query {
+    private final String fieldName;
+    private final Map<String, Float> queryTokens;
+
+    public SparseDotProductQuery(String fieldName, Map<String, Float> queryTokens) {
+        this.fieldName = Objects.requireNonNull(fieldName, "field name must not be null");
+        if (Objects.isNull(queryTokens) || queryTokens.isEmpty()) {
+            throw new IllegalArgumentException("query tokens must not be empty");
+        }
+        for (Map.Entry<String, Float> entry : queryTokens.entrySet()) {
+            Float weight = entry.getValue();
+            if (Objects.isNull(weight) || !Float.isFinite(weight) || weight <= 0) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "weight of query token [%s] must be a positive finite number, got [%s]",
+                        entry.getKey(),
+                        weight
+                    )
+                );
+            }
+        }
+        // sorted copy so that equals, hashCode and toString do not depend on the iteration order of the caller's map
+        this.queryTokens = Collections.unmodifiableMap(new TreeMap<>(queryTokens));
+    }
+
+    @Override
+    public String toString(String field) {
+        return String.format(Locale.ROOT, "SparseDotProductQuery(field=%s, tokens=%s)", fieldName, queryTokens);
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        if (visitor.acceptField(fieldName)) {
+            Term[] terms = queryTokens.keySet().stream().map(token -> new Term(fieldName, token)).toArray(Term[]::new);
+            visitor.consumeTerms(this, terms);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!sameClassAs(obj)) {
+            return false;
+        }
+        SparseDotProductQuery other = (SparseDotProductQuery) obj;
+        return fieldName.equals(other.fieldName) && queryTokens.equals(other.queryTokens);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), fieldName, queryTokens);
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        return new SparseDotProductWeight(scoreMode, boost);
+    }
+
+    /**
+     * Weight that resolves query tokens to impacts enums of the current segment
+     */
+    private class SparseDotProductWeight extends Weight {
+        private final ScoreMode scoreMode;
+        private final float boost;
+
+        SparseDotProductWeight(ScoreMode scoreMode, float boost) {
+            super(SparseDotProductQuery.this);
+            this.scoreMode = scoreMode;
+            this.boost = boost;
+        }
+
+        @Override
+        public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+            Terms terms = context.reader().terms(fieldName);
+            if (Objects.isNull(terms)) {
+                return null;
+            }
+            TermsEnum termsEnum = terms.iterator();
+            List<ImpactsEnum> postings = new ArrayList<>(queryTokens.size());
+            float[] weights = new float[queryTokens.size()];
+            for (Map.Entry<String, Float> entry : queryTokens.entrySet()) {
+                if (termsEnum.seekExact(new BytesRef(entry.getKey()))) {
+                    weights[postings.size()] = entry.getValue() * boost;
+                    postings.add(termsEnum.impacts(PostingsEnum.FREQS));
+                }
+            }
+            if (postings.isEmpty()) {
+                return null;
+            }
+            Scorer scorer = new SparseDotProductScorer(postings.toArray(new ImpactsEnum[0]), weights, scoreMode);
+            return new DefaultScorerSupplier(scorer);
+        }
+
+        @Override
+        public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+            Terms terms = context.reader().terms(fieldName);
+            if (Objects.isNull(terms)) {
+                return Explanation.noMatch(String.format(Locale.ROOT, "no feature indexed in field [%s]", fieldName));
+            }
+            TermsEnum termsEnum = terms.iterator();
+            List<Explanation> details = new ArrayList<>();
+            double sum = 0;
+            for (Map.Entry<String, Float> entry : queryTokens.entrySet()) {
+                if (!termsEnum.seekExact(new BytesRef(entry.getKey()))) {
+                    continue;
+                }
+                PostingsEnum postingsEnum = termsEnum.postings(null, PostingsEnum.FREQS);
+                if (postingsEnum.advance(doc) != doc) {
+                    continue;
+                }
+                float weight = entry.getValue() * boost;
+                float featureValue = SparseDotProductScorer.decodeFeatureValue(postingsEnum.freq());
+                float score = weight * featureValue;
+                sum += score;
+                details.add(
+                    Explanation.match(
+                        score,
+                        String.format(Locale.ROOT, "weight(%s:%s), product of:", fieldName, entry.getKey()),
+                        Explanation.match(weight, "query token weight"),
+                        Explanation.match(featureValue, "document feature value")
+                    )
+                );
+            }
+            if (details.isEmpty()) {
+                return Explanation.noMatch(String.format(Locale.ROOT, "no matching feature in field [%s]", fieldName));
+            }
+            return Explanation.match((float) sum, "sum of:", details);
+        }
+
+        @Override
+        public boolean isCacheable(LeafReaderContext ctx) {
+            return true;
+        }
+    }
+}
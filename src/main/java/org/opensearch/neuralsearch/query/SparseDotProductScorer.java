@@ -0,0 +1,260 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import org.apache.lucene.index.Impact;
+import org.apache.lucene.index.Impacts;
+import org.apache.lucene.index.ImpactsEnum;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Scorer for {@link SparseDotProductQuery}. The score of a document is the sum of query token weight multiplied by the
+ * feature value stored in the rank_features field.
+ *
+ * When the collector sets a min competitive score, query tokens are partitioned per impact block into non-essential
+ * tokens, whose summed block max score cannot reach the min competitive score on their own, and essential tokens.
+ * Only essential tokens drive doc id iteration, non-essential tokens are advanced lazily and only while the document
+ * can still be competitive (block-max MaxScore).
+ */
+class SparseDotProductScorer extends Scorer {
+    // same encoding as org.apache.lucene.document.FeatureField, the feature value is stored in the term frequency
+    private static final int MAX_FREQ = Float.floatToIntBits(Float.MAX_VALUE) >>> 15;
+
+    private final ImpactsEnum[] postings;
+    private final float[] weights;
+    private final int numClauses;
+    private final boolean topScores;
+    private final long cost;
+
+    // per window state, clauses ordered by ascending window max score
+    private final float[] windowMaxScores;
+    private final int[] order;
+    private final double[] maxScoreSums;
+    private int numNonEssentialClauses;
+    private int windowUpTo = -1;
+
+    private float minCompetitiveScore;
+    private int doc = -1;
+    private float score;
+
+    private final DocIdSetIterator iterator = new DocIdSetIterator() {
+        @Override
+        public int docID() {
+            return doc;
+        }
+
+        @Override
+        public int nextDoc() throws IOException {
+            return advance(doc + 1);
+        }
+
+        @Override
+        public int advance(int target) throws IOException {
+            doc = doNext(target);
+            return doc;
+        }
+
+        @Override
+        public long cost() {
+            return cost;
+        }
+    };
+
+    SparseDotProductScorer(ImpactsEnum[] postings, float[] weights, ScoreMode scoreMode) {
+        this.postings = postings;
+        this.weights = weights;
+        this.numClauses = postings.length;
+        this.topScores = scoreMode == ScoreMode.TOP_SCORES;
+        this.windowMaxScores = new float[numClauses];
+        this.order = new int[numClauses];
+        this.maxScoreSums = new double[numClauses];
+        long totalCost = 0;
+        for (int i = 0; i < numClauses; i++) {
+            order[i] = i;
+            totalCost += postings[i].cost();
+        }
+        this.cost = totalCost;
+    }
+
+    @Override
+    public int docID() {
+        return doc;
+    }
+
+    @Override
+    public DocIdSetIterator iterator() {
+        return iterator;
+    }
+
+    @Override
+    public float score() throws IOException {
+        return score;
+    }
+
+    @Override
+    public void setMinCompetitiveScore(float minScore) throws IOException {
+        if (topScores && minScore > minCompetitiveScore) {
+            minCompetitiveScore = minScore;
+            updatePartition();
+        }
+    }
+
+    @Override
+    public int advanceShallow(int target) throws IOException {
+        int upTo = DocIdSetIterator.NO_MORE_DOCS;
+        for (ImpactsEnum postingsEnum : postings) {
+            if (postingsEnum.docID() == DocIdSetIterator.NO_MORE_DOCS) {
+                continue;
+            }
+            postingsEnum.advanceShallow(Math.max(target, postingsEnum.docID()));
+            upTo = Math.min(upTo, postingsEnum.getImpacts().getDocIdUpTo(0));
+        }
+        return upTo;
+    }
+
+    @Override
+    public float getMaxScore(int upTo) throws IOException {
+        double maxScore = 0;
+        for (int i = 0; i < numClauses; i++) {
+            maxScore += clauseMaxScore(i, upTo);
+        }
+        return (float) maxScore;
+    }
+
+    private int doNext(int target) throws IOException {
+        while (target != DocIdSetIterator.NO_MORE_DOCS) {
+            if (target > windowUpTo) {
+                updateWindow(target);
+                if (numNonEssentialClauses == numClauses) {
+                    // even the sum of all clauses cannot compete within this window
+                    target = nextWindowStart();
+                    continue;
+                }
+            }
+
+            int candidate = DocIdSetIterator.NO_MORE_DOCS;
+            for (int i = numNonEssentialClauses; i < numClauses; i++) {
+                ImpactsEnum postingsEnum = postings[order[i]];
+                int docId = postingsEnum.docID();
+                if (docId < target) {
+                    docId = postingsEnum.advance(target);
+                }
+                candidate = Math.min(candidate, docId);
+            }
+            if (candidate > windowUpTo) {
+                // non-essential clauses may become essential in the next window, so we cannot jump to the candidate
+                target = nextWindowStart();
+                continue;
+            }
+            if (candidate == DocIdSetIterator.NO_MORE_DOCS) {
+                break;
+            }
+
+            double candidateScore = 0;
+            for (int i = numNonEssentialClauses; i < numClauses; i++) {
+                int clause = order[i];
+                if (postings[clause].docID() == candidate) {
+                    candidateScore += clauseScore(clause);
+                }
+            }
+            boolean competitive = true;
+            for (int i = numNonEssentialClauses - 1; i >= 0; i--) {
+                if (candidateScore + maxScoreSums[i] < minCompetitiveScore) {
+                    competitive = false;
+                    break;
+                }
+                int clause = order[i];
+                ImpactsEnum postingsEnum = postings[clause];
+                int docId = postingsEnum.docID();
+                if (docId < candidate) {
+                    docId = postingsEnum.advance(candidate);
+                }
+                if (docId == candidate) {
+                    candidateScore += clauseScore(clause);
+                }
+            }
+            if (competitive) {
+                score = (float) candidateScore;
+                return candidate;
+            }
+            target = candidate + 1;
+        }
+        return DocIdSetIterator.NO_MORE_DOCS;
+    }
+
+    private int nextWindowStart() {
+        return windowUpTo == DocIdSetIterator.NO_MORE_DOCS ? DocIdSetIterator.NO_MORE_DOCS : windowUpTo + 1;
+    }
+
+    private void updateWindow(int target) throws IOException {
+        windowUpTo = advanceShallow(target);
+        for (int i = 0; i < numClauses; i++) {
+            windowMaxScores[i] = clauseMaxScore(i, windowUpTo);
+        }
+        // insertion sort, number of query tokens is small and this avoids boxing
+        for (int i = 1; i < numClauses; i++) {
+            int clause = order[i];
+            int j = i - 1;
+            while (j >= 0 && windowMaxScores[order[j]] > windowMaxScores[clause]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = clause;
+        }
+        double sum = 0;
+        for (int i = 0; i < numClauses; i++) {
+            sum += windowMaxScores[order[i]];
+            maxScoreSums[i] = sum;
+        }
+        updatePartition();
+    }
+
+    private void updatePartition() {
+        int numNonEssential = 0;
+        while (numNonEssential < numClauses && maxScoreSums[numNonEssential] < minCompetitiveScore) {
+            numNonEssential++;
+        }
+        numNonEssentialClauses = numNonEssential;
+    }
+
+    private float clauseScore(int clause) throws IOException {
+        return weights[clause] * decodeFeatureValue(postings[clause].freq());
+    }
+
+    private float clauseMaxScore(int clause, int upTo) throws IOException {
+        ImpactsEnum postingsEnum = postings[clause];
+        if (postingsEnum.docID() == DocIdSetIterator.NO_MORE_DOCS) {
+            return 0f;
+        }
+        Impacts impacts = postingsEnum.getImpacts();
+        for (int level = 0; level < impacts.numLevels(); level++) {
+            if (impacts.getDocIdUpTo(level) >= upTo) {
+                List<Impact> levelImpacts = impacts.getImpacts(level);
+                // impacts are sorted by increasing freq, and the linear function is monotonic in freq
+                return weights[clause] * decodeFeatureValue(levelImpacts.get(levelImpacts.size() - 1).freq);
+            }
+        }
+        return weights[clause] * Float.MAX_VALUE;
+    }
+
+    /**
+     * Decode a rank_features term frequency back to the feature value, mirrors FeatureField#decodeFeatureValue
+     * @param freq term frequency
+     * @return feature value
+     */
+    static float decodeFeatureValue(float freq) {
+        if (freq > MAX_FREQ) {
+            return Float.MAX_VALUE;
+        }
+        int tf = (int) freq;
+        int featureBits = tf << 15;
+        return Float.intBitsToFloat(featureBits);
+    }
+}
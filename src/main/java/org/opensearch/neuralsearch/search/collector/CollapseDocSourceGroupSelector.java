@@ -190,6 +190,22 @@ abstract class CollapseDocSourceGroupSelector<T> extends GroupSelector<T> {
             }
         }
 
+        /**
+         * @return segment ordinal of the current value, or -1 if the current doc has no value
+         */
+        int currentOrd() {
+            return ord;
+        }
+
+        /**
+         * Copy of the value of an ordinal of the current segment, ordinals stay valid until the next reader is set
+         * @param ord segment ordinal
+         * @return deep copy of the value
+         */
+        BytesRef copyValueOfOrd(int ord) throws IOException {
+            return BytesRef.deepCopyOf(values.lookupOrd(ord));
+        }
+
         @Override
         public void setNextReader(LeafReaderContext readerContext) throws IOException {
             LeafReader reader = readerContext.reader();
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import java.io.IOException;
+
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * Union of competitive iterators of sub-query comparators. Comparators replace their competitive docs when the bottom of
+ * the queue changes, so sub iterators are only advanced on demand and their current docs are not cached.
+ */
+final class DisjunctionCompetitiveIterator extends DocIdSetIterator {
+    private final DocIdSetIterator[] iterators;
+    private final long cost;
+    private int doc = -1;
+
+    DisjunctionCompetitiveIterator(final DocIdSetIterator[] iterators) {
+        this.iterators = iterators;
+        long cost = 0;
+        for (DocIdSetIterator iterator : iterators) {
+            cost += iterator.cost();
+        }
+        this.cost = cost;
+    }
+
+    @Override
+    public int docID() {
+        return doc;
+    }
+
+    @Override
+    public int nextDoc() throws IOException {
+        if (doc == NO_MORE_DOCS) {
+            return doc;
+        }
+        return advance(doc + 1);
+    }
+
+    @Override
+    public int advance(final int target) throws IOException {
+        int minDoc = NO_MORE_DOCS;
+        for (DocIdSetIterator iterator : iterators) {
+            int iteratorDoc = iterator.docID();
+            if (iteratorDoc < target) {
+                iteratorDoc = iterator.advance(target);
+            }
+            minDoc = Math.min(minDoc, iteratorDoc);
+        }
+        doc = minDoc;
+        return doc;
+    }
+
+    @Override
+    public long cost() {
+        return cost;
+    }
+}
@@ -21,7 +21,6 @@ import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
 import org.apache.lucene.search.grouping.GroupSelector;
-import org.apache.lucene.util.BytesRef;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.neuralsearch.query.HybridSubQueryScorer;
 import org.opensearch.neuralsearch.search.HitsThresholdChecker;
@@ -48,6 +47,10 @@ import java.util.Objects;
  * downstream in the normalization pipeline (CollapseDataCollector and related classes). This
  * collector's job is to collect the top {@code numHits} competitive docs per sub-query with
  * their group values attached.
+ *
+ * <p>For keyword fields slots keep the segment ordinal of the group value instead of a copy of it. Ordinals are
+ * resolved to {@code BytesRef} once per slot when the collector leaves a segment and in {@link #topDocs()}, so docs
+ * that are replaced in the queue within a segment don't copy the group value.
  */
 
 @Log4j2
@@ -57,6 +60,8 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
     private float maxScore = 0.0f;
     private final Sort sort;
     private final GroupSelector<T> groupSelector;
+    // Set for keyword fields, group values are collected as segment ordinals
+    private final CollapseDocSourceGroupSelector.Keyword keywordGroupSelector;
     private int docBase;
     private final int numHits;
     private final boolean isSortByScore;
@@ -68,6 +73,8 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
     private FieldValueHitQueue<FieldValueHitQueue.Entry>[] subQueryQueues;
     // groupValueBySlot[subQuery][slot] = the collapse group value for that slot
     private Object[][] groupValueBySlot;
+    // groupOrdBySlot[subQuery][slot] = segment ordinal of the group value not resolved yet, -1 if value is in groupValueBySlot
+    private int[][] groupOrdBySlot;
     // Per-sub-query bottom entry tracker (the weakest entry currently in the queue)
     private FieldValueHitQueue.Entry[] bottomEntries;
     // Whether each sub-query's queue has reached capacity
@@ -89,6 +96,7 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
         HitsThresholdChecker hitsThresholdChecker
     ) {
         this.groupSelector = groupSelector;
+        this.keywordGroupSelector = groupSelector instanceof CollapseDocSourceGroupSelector.Keyword keyword ? keyword : null;
         this.collapseField = collapseField;
         this.sort = groupSort;
 
@@ -153,6 +161,7 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
         if (subQueryQueues == null) {
             return topDocsList;
         }
+        resolveGroupOrds();
 
         for (int subQuery = 0; subQuery < subQueryQueues.length; subQuery++) {
             FieldValueHitQueue<FieldValueHitQueue.Entry> queue = subQueryQueues[subQuery];
@@ -187,13 +196,8 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
                 }
                 fieldDocs[i] = new FieldDoc(entry.doc, entry.score, fields);
 
-                // Look up the group value stored for this slot
-                Object groupValue = groupValueBySlot[subQuery][entry.slot];
-                if (groupValue instanceof BytesRef) {
-                    collapseValues[i] = BytesRef.deepCopyOf((BytesRef) groupValue);
-                } else {
-                    collapseValues[i] = groupValue;
-                }
+                // Group values are copies owned by the collector, no need to copy them again
+                collapseValues[i] = groupValueBySlot[subQuery][entry.slot];
             }
 
             topDocsList.add(
@@ -224,9 +228,31 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
         return ScoreMode.COMPLETE;
     }
 
+    /**
+     * Replaces segment ordinals of group values with copies of the values, must be called before the group selector
+     * moves to the next segment
+     */
+    private void resolveGroupOrds() throws IOException {
+        if (Objects.isNull(groupOrdBySlot)) {
+            return;
+        }
+        for (int subQuery = 0; subQuery < groupOrdBySlot.length; subQuery++) {
+            int[] groupOrds = groupOrdBySlot[subQuery];
+            Object[] groupValues = groupValueBySlot[subQuery];
+            int size = subQueryQueues[subQuery].size();
+            for (int slot = 0; slot < size; slot++) {
+                if (groupOrds[slot] >= 0) {
+                    groupValues[slot] = keywordGroupSelector.copyValueOfOrd(groupOrds[slot]);
+                    groupOrds[slot] = -1;
+                }
+            }
+        }
+    }
+
     @Override
     public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
         docBase = context.docBase;
+        resolveGroupOrds();
         groupSelector.setNextReader(context);
 
         return new HybridLeafCollector() {
@@ -292,6 +318,12 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
                 }
                 subQueryQueues = new FieldValueHitQueue[numSubQueries];
                 groupValueBySlot = new Object[numSubQueries][numHits];
+                if (Objects.nonNull(keywordGroupSelector)) {
+                    groupOrdBySlot = new int[numSubQueries][numHits];
+                    for (int[] groupOrds : groupOrdBySlot) {
+                        Arrays.fill(groupOrds, -1);
+                    }
+                }
                 bottomEntries = new FieldValueHitQueue.Entry[numSubQueries];
                 queueFull = new boolean[numSubQueries];
                 leafComparators = new LeafFieldComparator[numSubQueries];
@@ -364,8 +396,7 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
                     bottom.doc = docBase + doc;
                     bottom.score = score;
 
-                    // Store group value for this slot (already deep-copied by copyValue() above)
-                    groupValueBySlot[subQuery][bottom.slot] = groupSelector.copyValue();
+                    storeGroupValue(subQuery, bottom.slot);
 
                     // Update the queue and get the new bottom
                     bottomEntries[subQuery] = subQueryQueues[subQuery].updateTop();
@@ -393,8 +424,7 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
                 FieldValueHitQueue.Entry entry = new FieldValueHitQueue.Entry(slot, docBase + doc);
                 entry.score = score;
 
-                // Store group value for this slot
-                groupValueBySlot[subQuery][slot] = groupSelector.copyValue();
+                storeGroupValue(subQuery, slot);
 
                 bottomEntries[subQuery] = subQueryQueues[subQuery].add(entry);
 
@@ -405,6 +435,15 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
                 }
             }
 
+            private void storeGroupValue(int subQuery, int slot) {
+                if (Objects.nonNull(keywordGroupSelector)) {
+                    groupOrdBySlot[subQuery][slot] = keywordGroupSelector.currentOrd();
+                    groupValueBySlot[subQuery][slot] = null;
+                } else {
+                    groupValueBySlot[subQuery][slot] = groupSelector.copyValue();
+                }
+            }
+
             /**
              * Increments the total hit count and checks if the threshold has been reached.
              * If the threshold is reached, sets the total hits relation to GREATER_THAN_OR_EQUAL_TO
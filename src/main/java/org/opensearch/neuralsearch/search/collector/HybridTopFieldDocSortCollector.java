@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 import java.util.ArrayList;
+import java.util.Objects;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.AccessLevel;
@@ -15,6 +16,8 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.FieldValueHitQueue;
 import org.apache.lucene.search.ScoreDoc;
@@ -124,6 +127,7 @@ public abstract class HybridTopFieldDocSortCollector implements HybridSearchColl
     }
 
     protected abstract class HybridTopDocSortLeafCollector extends HybridLeafCollector {
+        private final LeafReaderContext context;
         private boolean collectedAllCompetitiveHits = false;
 
         /**
@@ -134,10 +138,40 @@ public abstract class HybridTopFieldDocSortCollector implements HybridSearchColl
         */
         private boolean initializeLeafComparatorsPerSegmentOnce;
 
-        public HybridTopDocSortLeafCollector() {
+        public HybridTopDocSortLeafCollector(LeafReaderContext context) {
+            this.context = context;
             this.initializeLeafComparatorsPerSegmentOnce = true;
         }
 
+        @Override
+        public void setScorer(Scorable scorer) throws IOException {
+            super.setScorer(scorer);
+            // bulk scorer asks for the competitive iterator before the first doc is collected, so comparators of the segment
+            // are initialized as soon as the number of sub-queries is known
+            if (Objects.nonNull(compoundQueryScorer)) {
+                initializePriorityQueuesWithComparators(context, compoundQueryScorer.getSubQueryScores().length);
+            }
+        }
+
+        /**
+         * A doc can be skipped only if it's not competitive for any of the sub-queries, so the competitive iterator is the
+         * union of competitive iterators of all sub-query comparators. If any of them can't skip, no doc is skipped.
+         */
+        @Override
+        public DocIdSetIterator competitiveIterator() throws IOException {
+            if (Objects.isNull(comparators) || initializeLeafComparatorsPerSegmentOnce) {
+                return null;
+            }
+            DocIdSetIterator[] competitiveIterators = new DocIdSetIterator[comparators.length];
+            for (int i = 0; i < comparators.length; i++) {
+                competitiveIterators[i] = comparators[i].competitiveIterator();
+                if (Objects.isNull(competitiveIterators[i])) {
+                    return null;
+                }
+            }
+            return competitiveIterators.length == 1 ? competitiveIterators[0] : new DisjunctionCompetitiveIterator(competitiveIterators);
+        }
+
         /*
         Increment total hit count and validate if threshold is reached.
          */
@@ -263,6 +297,10 @@ public abstract class HybridTopFieldDocSortCollector implements HybridSearchColl
                 comparators[subQueryNumber] = new MultiLeafFieldComparator(leafFieldComparators, reverseMuls);
             }
             comparators[subQueryNumber].setScorer(compoundQueryScorer);
+            // comparators are created per segment, the ones of later segments have to learn that threshold has been reached
+            if (scoreMode().isExhaustive() == false && hitsThresholdChecker.isThresholdReached()) {
+                comparators[subQueryNumber].setHitsThresholdReached();
+            }
         }
 
         private void setAfterFieldValueInFieldCompartor(int subQueryNumber) {
@@ -13,14 +13,12 @@ import java.util.Objects;
 
 import lombok.Getter;
 import org.apache.lucene.index.LeafReaderContext;
-import org.apache.lucene.search.HitQueue;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
-import org.apache.lucene.util.PriorityQueue;
 
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.query.HybridSubQueryScorer;
@@ -39,7 +37,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
     private int totalHits;
     private int[] collectedHitsPerSubQuery;
     private final int numOfHits;
-    private List<PriorityQueue<ScoreDoc>> compoundScores;
+    private List<TopScoreDocHeap> compoundScores;
     @Getter
     private float maxScore = 0.0f;
 
@@ -81,7 +79,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
         return topDocs;
     }
 
-    private TopDocs topDocsPerQuery(int start, int howMany, PriorityQueue<ScoreDoc> pq, int totalHits) {
+    private TopDocs topDocsPerQuery(int start, int howMany, TopScoreDocHeap heap, int totalHits) {
         if (howMany < 0) {
             throw new IllegalArgumentException(
                 String.format(Locale.ROOT, "Number of hits requested must be greater than 0 but value was %d", howMany)
@@ -98,24 +96,12 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
             return EMPTY_TOPDOCS;
         }
 
-        int size = howMany - start;
-        ScoreDoc[] results = new ScoreDoc[size];
-
-        // Get the requested results from pq.
-        populateResults(results, size, pq);
+        // ScoreDocs are materialized only here, heap holds primitive doc ids and scores during collection
+        ScoreDoc[] results = heap.drainToSortedScoreDocs();
 
         return new TopDocs(new TotalHits(totalHits, totalHitsRelation), results);
     }
 
-    protected void populateResults(ScoreDoc[] results, int howMany, PriorityQueue<ScoreDoc> pq) {
-        for (int i = howMany - 1; i >= 0 && pq.size() > 0; i--) {
-            // adding to array if index is within [0..array_length - 1]
-            if (i < results.length) {
-                results[i] = pq.pop();
-            }
-        }
-    }
-
     /**
      * Leaf collector to collect top docs for each sub query
      */
@@ -155,14 +141,11 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
                     totalHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
                 }
                 collectedHitsPerSubQuery[subQueryIndex]++;
-                PriorityQueue<ScoreDoc> pq = compoundScores.get(subQueryIndex);
-                ScoreDoc currentDoc = new ScoreDoc(docWithBase, score);
-                maxScore = Math.max(currentDoc.score, maxScore);
+                maxScore = Math.max(score, maxScore);
                 // this way we're inserting into heap and do nothing else unless we reach the capacity
-                // after that we pull out the lowest score element on each insert
-                ScoreDoc evictedScoreDoc = pq.insertWithOverflow(currentDoc);
-                if (Objects.nonNull(evictedScoreDoc)) {
-                    float newThresholdScore = evictedScoreDoc.score;
+                // after that we pull out the lowest score element on each insert, or skip the doc if it can't beat it
+                float newThresholdScore = compoundScores.get(subQueryIndex).insertWithOverflow(docWithBase, score);
+                if (!Float.isNaN(newThresholdScore)) {
                     minScoreThresholds[subQueryIndex] = Math.max(minScoreThresholds[subQueryIndex], newThresholdScore);
                     compoundQueryScorer.getMinScores()[subQueryIndex] = Math.max(
                         compoundQueryScorer.getMinScores()[subQueryIndex],
@@ -183,7 +166,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
             if (Objects.isNull(compoundScores)) {
                 compoundScores = new ArrayList<>(compoundQueryScorer.getNumOfSubQueries());
                 for (int i = 0; i < compoundQueryScorer.getNumOfSubQueries(); i++) {
-                    compoundScores.add(new HitQueue(numOfHits, false));
+                    compoundScores.add(new TopScoreDocHeap(numOfHits));
                 }
                 collectedHitsPerSubQuery = new int[compoundQueryScorer.getNumOfSubQueries()];
             }
@@ -30,7 +30,7 @@ public final class PagingFieldCollector extends HybridTopFieldDocSortCollector {
     public LeafCollector getLeafCollector(LeafReaderContext context) {
         docBase = context.docBase;
         final int afterDoc = after.doc - docBase;
-        return new HybridTopDocSortLeafCollector() {
+        return new HybridTopDocSortLeafCollector(context) {
             @Override
             public void collect(int doc) throws IOException {
                 // In profiler mode, populate scores from HybridQueryScorer before reading them
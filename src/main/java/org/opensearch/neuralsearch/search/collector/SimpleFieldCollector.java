@@ -25,7 +25,7 @@ public final class SimpleFieldCollector extends HybridTopFieldDocSortCollector {
     public LeafCollector getLeafCollector(LeafReaderContext context) {
         docBase = context.docBase;
 
-        return new HybridTopDocSortLeafCollector() {
+        return new HybridTopDocSortLeafCollector(context) {
             @Override
             public void collect(int doc) throws IOException {
                 // In profiler mode, populate scores from HybridQueryScorer before reading them
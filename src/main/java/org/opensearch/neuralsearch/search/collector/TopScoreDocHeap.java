@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * Bounded min heap of (doc, score) entries backed by preallocated primitive arrays. It keeps the same order as
+ * Lucene's HitQueue: an entry is smaller when its score is lower, or when scores are equal and its doc id is higher.
+ * ScoreDoc instances are only created when the heap is drained.
+ */
+final class TopScoreDocHeap {
+    private final int capacity;
+    private final int[] docs;
+    private final float[] scores;
+    private int size;
+
+    TopScoreDocHeap(int capacity) {
+        this.capacity = capacity;
+        this.docs = new int[capacity];
+        this.scores = new float[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds an entry, evicting the smallest one when the heap is full.
+     * @param doc doc id
+     * @param score score of the doc
+     * @return score of the evicted entry, which is the score of the new entry when it cannot replace the smallest one,
+     * or NaN if the heap was not full and nothing was evicted
+     */
+    float insertWithOverflow(int doc, float score) {
+        if (size < capacity) {
+            docs[size] = doc;
+            scores[size] = score;
+            upHeap(size);
+            size++;
+            return Float.NaN;
+        }
+        // bottom pre-check, the entry is rejected without touching the heap when it does not beat the smallest entry
+        if (size == 0 || lessThan(doc, score, docs[0], scores[0])) {
+            return score;
+        }
+        float evictedScore = scores[0];
+        docs[0] = doc;
+        scores[0] = score;
+        downHeap(0);
+        return evictedScore;
+    }
+
+    /**
+     * Removes all entries and returns them sorted by descending score, ties by ascending doc id
+     * @return sorted score docs
+     */
+    ScoreDoc[] drainToSortedScoreDocs() {
+        ScoreDoc[] results = new ScoreDoc[size];
+        for (int i = results.length - 1; i >= 0; i--) {
+            results[i] = new ScoreDoc(docs[0], scores[0]);
+            size--;
+            if (size > 0) {
+                docs[0] = docs[size];
+                scores[0] = scores[size];
+                downHeap(0);
+            }
+        }
+        return results;
+    }
+
+    private static boolean lessThan(int doc1, float score1, int doc2, float score2) {
+        if (score1 == score2) {
+            return doc1 > doc2;
+        }
+        return score1 < score2;
+    }
+
+    private void upHeap(int index) {
+        int doc = docs[index];
+        float score = scores[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!lessThan(doc, score, docs[parent], scores[parent])) {
+                break;
+            }
+            docs[index] = docs[parent];
+            scores[index] = scores[parent];
+            index = parent;
+        }
+        docs[index] = doc;
+        scores[index] = score;
+    }
+
+    private void downHeap(int index) {
+        int doc = docs[index];
+        float score = scores[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && lessThan(docs[right], scores[right], docs[child], scores[child])) {
+                child = right;
+            }
+            if (!lessThan(docs[child], scores[child], doc, score)) {
+                break;
+            }
+            docs[index] = docs[child];
+            scores[index] = scores[child];
+            index = child;
+        }
+        docs[index] = doc;
+        scores[index] = score;
+    }
+}
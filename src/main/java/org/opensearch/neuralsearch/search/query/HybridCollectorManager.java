@@ -76,16 +76,7 @@ public class HybridCollectorManager implements CollectorManager<Collector, Reduc
             validateSortCriteria(searchContext, searchContext.trackScores(), searchContext.minimumScore());
         }
 
-        boolean isSingleShard = searchContext.numberOfShards() == 1;
-        // In case of single shard, it can happen that fetch phase might execute before normalization phase. Moreover, The pagination logic
-        // lies in the fetch phase.
-        // If the fetch phase gets executed before the normalization phase, then the result will be not paginated as per normalized score.
-        // Therefore, to avoid it we will update from value in search context to 0. This will stop fetch phase to trim results prematurely.
-        // Later in the normalization phase we will update QuerySearchResult object with the right from value, to handle the effective
-        // trimming of results.
-        if (isSingleShard && searchContext.from() > 0) {
-            searchContext.from(0);
-        }
+        resetFromForSingleShard(searchContext);
 
         // Earlier we use to initiate Collector manager on the basis of concurrent search/non-concurrent search.
         // This we use to do because createHybridCollectorManager was called from HybridAggregationProcessor. But now we don't call it from
@@ -110,6 +101,22 @@ public class HybridCollectorManager implements CollectorManager<Collector, Reduc
         );
     }
 
+    /**
+     * In case of single shard, it can happen that fetch phase might execute before normalization phase. Moreover, The pagination logic
+     * lies in the fetch phase.
+     * If the fetch phase gets executed before the normalization phase, then the result will be not paginated as per normalized score.
+     * Therefore, to avoid it we will update from value in search context to 0. This will stop fetch phase to trim results prematurely.
+     * Later in the normalization phase we will update QuerySearchResult object with the right from value, to handle the effective
+     * trimming of results.
+     * @param searchContext search context of the shard
+     */
+    static void resetFromForSingleShard(final SearchContext searchContext) {
+        boolean isSingleShard = searchContext.numberOfShards() == 1;
+        if (isSingleShard && searchContext.from() > 0) {
+            searchContext.from(0);
+        }
+    }
+
     @Override
     public Collector newCollector() {
         return HybridCollectorFactory.createCollector(
@@ -7,6 +7,7 @@ package org.opensearch.neuralsearch.search.query;
 import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import lombok.NoArgsConstructor;
@@ -16,6 +17,7 @@ import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DisjunctionMaxQuery;
 import org.apache.lucene.search.Query;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.lucene.search.function.FunctionScoreQuery;
 import org.opensearch.common.lucene.search.function.ScriptScoreQuery;
 import org.opensearch.common.settings.Settings;
@@ -27,6 +29,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.query.QueryCollectorContext;
 import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QueryPhaseSearcherWrapper;
+import org.opensearch.search.query.QuerySearchResult;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -68,10 +71,41 @@ public class HybridQueryPhaseSearcher extends QueryPhaseSearcherWrapper {
         } else {
             phaseQuery = extractHybridQuery(searchContext, query);
             validateHybridQuery((HybridQuery) phaseQuery);
+            HybridQueryResultsCache.Key cacheKey = HybridQueryResultsCache.getKey(searchContext, (HybridQuery) phaseQuery);
+            if (Objects.nonNull(cacheKey)) {
+                return searchWithResultsCache(searchContext, searcher, phaseQuery, collectors, hasFilterCollector, hasTimeout, cacheKey);
+            }
         }
         return super.searchWith(searchContext, searcher, phaseQuery, collectors, hasFilterCollector, hasTimeout);
     }
 
+    /**
+     * Serve results of the shard from the hybrid results cache, or search and cache complete results on a cache miss.
+     * Cacheable searches collect only hybrid top docs and are never rescored.
+     */
+    private boolean searchWithResultsCache(
+        final SearchContext searchContext,
+        final ContextIndexSearcher searcher,
+        final Query query,
+        final LinkedList<QueryCollectorContext> collectors,
+        final boolean hasFilterCollector,
+        final boolean hasTimeout,
+        final HybridQueryResultsCache.Key cacheKey
+    ) throws IOException {
+        QuerySearchResult queryResult = searchContext.queryResult();
+        TopDocsAndMaxScore cachedTopDocs = HybridQueryResultsCache.get(cacheKey);
+        if (Objects.nonNull(cachedTopDocs)) {
+            HybridCollectorManager.resetFromForSingleShard(searchContext);
+            queryResult.topDocs(cachedTopDocs, null);
+            return false;
+        }
+        boolean shouldRescore = super.searchWith(searchContext, searcher, query, collectors, hasFilterCollector, hasTimeout);
+        if (queryResult.searchTimedOut() == false && queryResult.hasConsumedTopDocs() == false) {
+            HybridQueryResultsCache.put(cacheKey, queryResult.topDocs());
+        }
+        return shouldRescore;
+    }
+
     /**
      * Validate the query from neural-search plugin point of view. Current main goal for validation is to block cases
      * when hybrid query is wrapped into other compound queries.
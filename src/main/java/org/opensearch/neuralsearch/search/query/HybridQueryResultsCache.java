@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.query;
+
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.neuralsearch.query.HybridQuery;
+import org.opensearch.search.internal.SearchContext;
+
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_RESULTS_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_RESULTS_CACHE_EXPIRE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_RESULTS_CACHE_SIZE;
+import static org.opensearch.neuralsearch.util.SecurityUtil.isSecurityEnabled;
+
+/**
+ * Node level cache of hybrid query results of a shard. When pagination_depth is set a shard collects the same top docs
+ * for every page of a hybrid query, as long as it searches the same reader, and that's always the case for a point in time.
+ * Results are cached per reader, query and collection parameters, so next pages are served without scoring sub queries
+ * again. Entries of a reader that has been refreshed away are never hit again and leave the cache by expiration or size.
+ * The key has no caller identity, with document level security users of the same reader see different results, so the
+ * cache is not created on nodes with the security plugin enabled.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HybridQueryResultsCache {
+    private static final long SCORE_DOC_BYTES = RamUsageEstimator.shallowSizeOfInstance(ScoreDoc.class);
+    private static final long TERM_BYTES = RamUsageEstimator.shallowSizeOfInstance(Term.class)
+        + RamUsageEstimator.shallowSizeOfInstance(BytesRef.class);
+    private static final long ENTRY_OVERHEAD_BYTES = RamUsageEstimator.shallowSizeOfInstance(Key.class)
+        + RamUsageEstimator.shallowSizeOfInstance(TopDocsAndMaxScore.class)
+        + RamUsageEstimator.shallowSizeOfInstance(TopDocs.class);
+    private static volatile Cache<Key, TopDocsAndMaxScore> cache;
+
+    /**
+     * Create the cache from node settings, cache of zero size is not created
+     * @param settings node level settings
+     */
+    public static void initialize(final Settings settings) {
+        long maxBytes = HYBRID_RESULTS_CACHE_SIZE.get(settings).getBytes();
+        if (maxBytes <= 0 || isSecurityEnabled(settings)) {
+            cache = null;
+            return;
+        }
+        cache = CacheBuilder.<Key, TopDocsAndMaxScore>builder()
+            .setMaximumWeight(maxBytes)
+            .setExpireAfterAccess(HYBRID_RESULTS_CACHE_EXPIRE.get(settings))
+            .weigher((key, value) -> ramBytesUsed(key.query()) + ramBytesUsed(value))
+            .build();
+    }
+
+    /**
+     * Build cache key for the shard search, results are cacheable only if they don't depend on the requested page
+     * and nothing but hybrid query top docs is collected
+     * @param searchContext search context of the shard
+     * @param query hybrid query to execute
+     * @return cache key or null if results of this search can't be cached
+     */
+    static Key getKey(final SearchContext searchContext, final HybridQuery query) {
+        if (Objects.isNull(cache) || isEnabled(searchContext) == false) {
+            return null;
+        }
+        Integer paginationDepth = Objects.isNull(query.getQueryContext()) ? null : query.getQueryContext().getPaginationDepth();
+        if (Objects.isNull(paginationDepth)
+            || Objects.nonNull(searchContext.scrollContext())
+            || Objects.nonNull(searchContext.sort())
+            || Objects.nonNull(searchContext.collapse())
+            || Objects.nonNull(searchContext.searchAfter())
+            || Objects.nonNull(searchContext.aggregations())
+            || Objects.nonNull(searchContext.parsedPostFilter())
+            || Objects.nonNull(searchContext.getProfilers())
+            || searchContext.rescore().isEmpty() == false
+            || searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) {
+            return null;
+        }
+        IndexReader.CacheHelper cacheHelper = searchContext.searcher().getIndexReader().getReaderCacheHelper();
+        if (Objects.isNull(cacheHelper)) {
+            return null;
+        }
+        return new Key(
+            cacheHelper.getKey(),
+            query,
+            paginationDepth,
+            searchContext.trackTotalHitsUpTo(),
+            searchContext.minimumScore(),
+            searchContext.numberOfShards() == 1
+        );
+    }
+
+    /**
+     * Get cached results
+     * @param key cache key
+     * @return copy of cached results or null if there are no results for the key
+     */
+    static TopDocsAndMaxScore get(final Key key) {
+        Cache<Key, TopDocsAndMaxScore> currentCache = cache;
+        if (Objects.isNull(currentCache)) {
+            return null;
+        }
+        TopDocsAndMaxScore topDocsAndMaxScore = currentCache.get(key);
+        return Objects.isNull(topDocsAndMaxScore) ? null : copy(topDocsAndMaxScore);
+    }
+
+    /**
+     * Put results of a shard search to the cache
+     * @param key cache key
+     * @param topDocsAndMaxScore results of the shard search
+     */
+    static void put(final Key key, final TopDocsAndMaxScore topDocsAndMaxScore) {
+        Cache<Key, TopDocsAndMaxScore> currentCache = cache;
+        if (Objects.nonNull(currentCache)) {
+            // results are handed to the coordinator that can update score docs in place, cache keeps its own copy
+            currentCache.put(key, copy(topDocsAndMaxScore));
+        }
+    }
+
+    private static boolean isEnabled(final SearchContext searchContext) {
+        IndexSettings indexSettings = searchContext.getQueryShardContext().getIndexSettings();
+        return Objects.nonNull(indexSettings) && HYBRID_RESULTS_CACHE_ENABLED.get(indexSettings.getSettings());
+    }
+
+    private static TopDocsAndMaxScore copy(final TopDocsAndMaxScore topDocsAndMaxScore) {
+        ScoreDoc[] scoreDocs = topDocsAndMaxScore.topDocs.scoreDocs;
+        ScoreDoc[] copiedScoreDocs = new ScoreDoc[scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            copiedScoreDocs[i] = new ScoreDoc(scoreDocs[i].doc, scoreDocs[i].score, scoreDocs[i].shardIndex);
+        }
+        return new TopDocsAndMaxScore(new TopDocs(topDocsAndMaxScore.topDocs.totalHits, copiedScoreDocs), topDocsAndMaxScore.maxScore);
+    }
+
+    /**
+     * Estimate of the query kept by the key, every query of the tree counts with its own estimate and terms with their bytes
+     */
+    private static long ramBytesUsed(final Query query) {
+        final long[] bytes = new long[1];
+        query.visit(new QueryVisitor() {
+            @Override
+            public void consumeTerms(Query termsQuery, Term... terms) {
+                bytes[0] += RamUsageEstimator.sizeOf(termsQuery, RamUsageEstimator.QUERY_DEFAULT_RAM_BYTES_USED);
+                for (Term term : terms) {
+                    bytes[0] += TERM_BYTES + term.bytes().length;
+                }
+            }
+
+            @Override
+            public void visitLeaf(Query leafQuery) {
+                bytes[0] += RamUsageEstimator.sizeOf(leafQuery, RamUsageEstimator.QUERY_DEFAULT_RAM_BYTES_USED);
+            }
+
+            @Override
+            public QueryVisitor getSubVisitor(BooleanClause.Occur occur, Query parent) {
+                bytes[0] += RamUsageEstimator.shallowSizeOf(parent);
+                return this;
+            }
+        });
+        return bytes[0];
+    }
+
+    private static long ramBytesUsed(final TopDocsAndMaxScore topDocsAndMaxScore) {
+        int numOfScoreDocs = topDocsAndMaxScore.topDocs.scoreDocs.length;
+        return ENTRY_OVERHEAD_BYTES + RamUsageEstimator.shallowSizeOf(topDocsAndMaxScore.topDocs.scoreDocs)
+            + (long) numOfScoreDocs * SCORE_DOC_BYTES;
+    }
+
+    /**
+     * Identity of a shard search, reader key is compared by identity and stays the same for a point in time
+     */
+    record Key(Object readerKey, Query query, int paginationDepth, int trackTotalHitsUpTo, Float minScore, boolean singleShard) {
+    }
+}
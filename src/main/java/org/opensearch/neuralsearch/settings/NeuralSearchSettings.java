@@ -8,6 +8,7 @@ import org.opensearch.common.settings.Setting;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
 /**
@@ -86,6 +87,187 @@ public final class NeuralSearchSettings {
         Setting.Property.Deprecated
     );
 
+    /**
+     * Enables the single dot product query for neural_sparse queries on rank_features fields instead of a BooleanQuery
+     * of per-token FeatureField queries. Scores are the same, the dot product query skips non-competitive documents
+     * with block-max MaxScore. Default is false.
+     */
+    public static final Setting<Boolean> NEURAL_SPARSE_DOT_PRODUCT_QUERY_ENABLED = Setting.boolSetting(
+        "index.neural_search.neural_sparse.dot_product_query_enabled",
+        false,
+        Setting.Property.IndexScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables concurrent scoring of hybrid query sub queries within a segment on the hybrid query executor, so segment
+     * latency follows the slowest sub query instead of the sum of all of them. Intended for low throughput, latency
+     * sensitive workloads with idle cores. Default is false.
+     */
+    public static final Setting<Boolean> HYBRID_PARALLEL_SUB_QUERY_SCORING_ENABLED = Setting.boolSetting(
+        "index.neural_search.hybrid_parallel_sub_query_scoring_enabled",
+        false,
+        Setting.Property.IndexScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables caching of hybrid query shard results on the node, so next pages of a hybrid query with pagination_depth are
+     * served without executing sub queries again while the shard reader stays the same, e.g. for a point in time. Default is false.
+     */
+    public static final Setting<Boolean> HYBRID_RESULTS_CACHE_ENABLED = Setting.boolSetting(
+        "index.neural_search.hybrid_results_cache_enabled",
+        false,
+        Setting.Property.IndexScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Memory limit for the node level hybrid query results cache. Default is 1% of the JVM heap, 0 disables the cache.
+     */
+    public static final Setting<ByteSizeValue> HYBRID_RESULTS_CACHE_SIZE = Setting.memorySizeSetting(
+        "plugins.neural_search.hybrid_results_cache.size",
+        "1%",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Time after the last access when an entry of the hybrid query results cache expires. Default is 5 minutes.
+     */
+    public static final Setting<TimeValue> HYBRID_RESULTS_CACHE_EXPIRE = Setting.positiveTimeSetting(
+        "plugins.neural_search.hybrid_results_cache.expire",
+        TimeValue.timeValueMinutes(5),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Memory limit for the node level cache of query embeddings and query token weights produced by ML models for neural
+     * and neural_sparse queries. Default is 1% of the JVM heap, 0 disables the cache. The cache is not used when security is
+     * enabled.
+     */
+    public static final Setting<ByteSizeValue> QUERY_EMBEDDING_CACHE_SIZE = Setting.memorySizeSetting(
+        "plugins.neural_search.query_embedding_cache.size",
+        "1%",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Time after which a cached query embedding expires and the model is called again. Default is 10 minutes.
+     */
+    public static final Setting<TimeValue> QUERY_EMBEDDING_CACHE_EXPIRE = Setting.positiveTimeSetting(
+        "plugins.neural_search.query_embedding_cache.expire",
+        TimeValue.timeValueMinutes(10),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Max time a query inference waits for other query inferences of the same model to be sent to the model in one batch.
+     * Applies to neural_sparse query inferences, default is 0 that disables batching. Batching is not used when security is
+     * enabled.
+     */
+    public static final Setting<TimeValue> QUERY_INFERENCE_BATCH_MAX_WAIT = Setting.timeSetting(
+        "plugins.neural_search.query_inference_batching.max_wait",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Max number of query inferences sent to the model in one batch, a full batch is sent without waiting. Default is 16.
+     */
+    public static final Setting<Integer> QUERY_INFERENCE_BATCH_MAX_SIZE = Setting.intSetting(
+        "plugins.neural_search.query_inference_batching.max_size",
+        16,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Enables batching of the query text inferences that neural and neural_sparse queries of one search request register
+     * during rewrite, query texts of the same model are inferred by one model call. Default is false.
+     */
+    public static final Setting<Boolean> QUERY_REWRITE_INFERENCE_BATCHING_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.query_rewrite_inference_batching.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Max number of characters of the texts sent to the model in one call by text_embedding and sparse_encoding processors
+     * in batch mode. Texts of a sub batch above the limit are split into several model calls, a single text is never split.
+     * Default is 0, which sends all texts of a sub batch in one call.
+     */
+    public static final Setting<Integer> INGEST_INFERENCE_BATCH_MAX_CHARACTERS = Setting.intSetting(
+        "plugins.neural_search.ingest_inference_batching.max_characters",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Max number of model calls of one ingest sub batch that run concurrently when its texts are split by
+     * {@link #INGEST_INFERENCE_BATCH_MAX_CHARACTERS}. Default is 4.
+     */
+    public static final Setting<Integer> INGEST_INFERENCE_BATCH_MAX_CONCURRENT_REQUESTS = Setting.intSetting(
+        "plugins.neural_search.ingest_inference_batching.max_concurrent_requests",
+        4,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Memory limit for the node level cache of embeddings and token weights produced by text_embedding and sparse_encoding
+     * processors in batch mode, keyed by model and text content. Default is 0 that disables the cache.
+     */
+    public static final Setting<ByteSizeValue> INGEST_EMBEDDING_CACHE_SIZE = Setting.memorySizeSetting(
+        "plugins.neural_search.ingest_embedding_cache.size",
+        "0b",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Time after which a cached ingest embedding expires and the model is called again, e.g. to pick up a redeployed model.
+     * Default is 1 hour.
+     */
+    public static final Setting<TimeValue> INGEST_EMBEDDING_CACHE_EXPIRE = Setting.positiveTimeSetting(
+        "plugins.neural_search.ingest_embedding_cache.expire",
+        TimeValue.timeValueHours(1),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Max number of concurrent ingest inference requests of one model on a node, ingest requests above the limit wait for a
+     * running one to complete. Default is 0, which means no limit.
+     */
+    public static final Setting<Integer> INFERENCE_LIMIT_INGEST_MAX_CONCURRENT_REQUESTS = Setting.intSetting(
+        "plugins.neural_search.inference_limit.ingest.max_concurrent_requests",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Max number of concurrent search inference requests of one model on a node, e.g. query rewrites, rerank and highlighting.
+     * Search requests above the limit wait for a running one to complete. Default is 0, which means no limit.
+     */
+    public static final Setting<Integer> INFERENCE_LIMIT_SEARCH_MAX_CONCURRENT_REQUESTS = Setting.intSetting(
+        "plugins.neural_search.inference_limit.search.max_concurrent_requests",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Max number of inference requests of one model and request class that wait for a limited concurrent request to complete,
+     * requests beyond are rejected with a retryable error. Default is 1000.
+     */
+    public static final Setting<Integer> INFERENCE_LIMIT_MAX_QUEUED_REQUESTS = Setting.intSetting(
+        "plugins.neural_search.inference_limit.max_queued_requests",
+        1000,
+        0,
+        Setting.Property.NodeScope
+    );
+
     public static Setting<Integer> SPARSE_ALGO_PARAM_INDEX_THREAD_QTY_SETTING = Setting.intSetting(
         SPARSE_ALGO_PARAM_INDEX_THREAD_QTY,
         DEFAULT_INDEX_THREAD_QTY,
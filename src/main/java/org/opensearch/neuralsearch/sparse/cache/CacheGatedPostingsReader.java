@@ -83,4 +83,13 @@ public class CacheGatedPostingsReader implements ClusteredPostingReader {
     public long size() {
         return luceneReader.getTerms(fieldName).size();
     }
+
+    /**
+     * Returns the max weight of each token of the field in this segment, as a dense vector indexed by token.
+     *
+     * @return dense vector of token max weights, or null if the segment does not store them
+     */
+    public byte[] getTermMaxWeights() {
+        return luceneReader.getTermMaxWeights(fieldName);
+    }
 }
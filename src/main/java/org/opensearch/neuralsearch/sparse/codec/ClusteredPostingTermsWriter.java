@@ -11,7 +11,6 @@ import org.apache.lucene.codecs.DocValuesFormat;
 import org.apache.lucene.codecs.DocValuesProducer;
 import org.apache.lucene.codecs.NormsProducer;
 import org.apache.lucene.codecs.PushPostingsWriterBase;
-import org.apache.lucene.backward_codecs.lucene101.Lucene101PostingsFormat;
 import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.NumericDocValues;
@@ -104,7 +103,7 @@ public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
 
     @Override
     public BlockTermState newTermState() throws IOException {
-        return new Lucene101PostingsFormat.IntBlockTermState();
+        return new SparseTermState();
     }
 
     @Override
@@ -157,6 +156,7 @@ public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
         // write file
         state.blockFilePointer = postingOut.getFilePointer();
         postingOut.writeVLong(clusters.size());
+        byte maxWeight = 0;
         for (DocumentCluster cluster : clusters) {
             postingOut.writeVLong(cluster.size());
             Iterator<DocWeight> iterator = cluster.iterator();
@@ -164,6 +164,9 @@ public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
                 DocWeight docWeight = iterator.next();
                 postingOut.writeVInt(docWeight.getDocID());
                 postingOut.writeByte(docWeight.getWeight());
+                if (ByteQuantizationUtil.compareUnsignedByte(maxWeight, docWeight.getWeight()) < 0) {
+                    maxWeight = docWeight.getWeight();
+                }
             }
             postingOut.writeByte((byte) (cluster.isShouldNotSkip() ? 1 : 0));
             if (cluster.getSummary() == null) {
@@ -178,6 +181,9 @@ public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
                 }
             }
         }
+        if (state instanceof SparseTermState sparseTermState) {
+            sparseTermState.maxWeight = maxWeight;
+        }
     }
 
     @Override
@@ -46,7 +46,9 @@ public class SparsePostingsConsumer extends FieldsConsumer {
 
     // Initial format
     public static final int VERSION_START = 1;
-    public static final int VERSION_CURRENT = VERSION_START;
+    // Terms file stores the max weight of each term
+    public static final int VERSION_TERM_MAX_WEIGHT = 2;
+    public static final int VERSION_CURRENT = VERSION_TERM_MAX_WEIGHT;
 
     /** Extension of terms file */
     static final String TERMS_EXTENSION = "sit";
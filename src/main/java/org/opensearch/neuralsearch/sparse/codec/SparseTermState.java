@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import org.apache.lucene.codecs.BlockTermState;
+import org.apache.lucene.index.TermState;
+
+/**
+ * Term state of a clustered posting. Besides the posting file pointer, it carries the max quantized weight of the
+ * term in the segment, which is written to the terms file as the term upper bound.
+ */
+public class SparseTermState extends BlockTermState {
+    /** Max quantized doc weight of the term, compared as unsigned byte. An unknown bound is kept as the max value. */
+    public byte maxWeight = (byte) -1;
+
+    @Override
+    public void copyFrom(TermState other) {
+        super.copyFrom(other);
+        if (other instanceof SparseTermState sparseTermState) {
+            maxWeight = sparseTermState.maxWeight;
+        }
+    }
+
+    @Override
+    public SparseTermState clone() {
+        return (SparseTermState) super.clone();
+    }
+}
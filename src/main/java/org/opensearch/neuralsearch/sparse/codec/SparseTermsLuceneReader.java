@@ -32,6 +32,8 @@ import java.util.Set;
 @Log4j2
 public class SparseTermsLuceneReader extends FieldsProducer {
     private final Map<String, Map<BytesRef, Long>> fieldToTerms = new HashMap<>();
+    // dense vector of the max weight of each token in the segment, only available since VERSION_TERM_MAX_WEIGHT
+    private final Map<String, byte[]> fieldToTermMaxWeights = new HashMap<>();
     private IndexInput termsIn;
     private IndexInput postingIn;
     private final CodecUtilWrapper codecUtilWrapper;
@@ -51,7 +53,7 @@ public class SparseTermsLuceneReader extends FieldsProducer {
         boolean success = false;
         try {
             termsIn = state.directory.openInput(termsFileName, state.context);
-            this.codecUtilWrapper.checkIndexHeader(
+            int version = this.codecUtilWrapper.checkIndexHeader(
                 termsIn,
                 SparsePostingsConsumer.CODEC_NAME,
                 SparsePostingsConsumer.VERSION_START,
@@ -78,6 +80,10 @@ public class SparseTermsLuceneReader extends FieldsProducer {
                 int fieldId = termsIn.readVInt();
                 int numberOfTerms = (int) termsIn.readVLong();
                 Map<BytesRef, Long> terms = new HashMap<>(numberOfTerms);
+                boolean hasMaxWeights = version >= SparsePostingsConsumer.VERSION_TERM_MAX_WEIGHT;
+                // max weights can only be indexed by token when all terms are non-negative integers
+                boolean validTokens = hasMaxWeights;
+                List<SparseVector.Item> maxWeights = new ArrayList<>(hasMaxWeights ? numberOfTerms : 0);
                 for (int j = 0; j < numberOfTerms; j++) {
                     int byteLength = termsIn.readVInt();
                     BytesRef term = new BytesRef(byteLength);
@@ -89,8 +95,21 @@ public class SparseTermsLuceneReader extends FieldsProducer {
                     }
                     long fileOffset = termsIn.readVLong();
                     terms.put(term, fileOffset);
+                    if (hasMaxWeights) {
+                        byte maxWeight = termsIn.readByte();
+                        Integer token = parseToken(term);
+                        if (token == null) {
+                            validTokens = false;
+                        } else if (validTokens) {
+                            maxWeights.add(new SparseVector.Item(token, maxWeight));
+                        }
+                    }
+                }
+                String fieldName = state.fieldInfos.fieldInfo(fieldId).getName();
+                fieldToTerms.put(fieldName, terms);
+                if (validTokens) {
+                    fieldToTermMaxWeights.put(fieldName, new SparseVector(maxWeights).toDenseVector());
                 }
-                fieldToTerms.put(state.fieldInfos.fieldInfo(fieldId).getName(), terms);
             }
             success = true;
         } catch (Exception e) {
@@ -126,6 +145,25 @@ public class SparseTermsLuceneReader extends FieldsProducer {
         return termsMapping.keySet();
     }
 
+    /**
+     * Get the max weight of each token of a field in this segment, as a dense vector indexed by token. The dot product
+     * between a query vector and it is an upper bound of the score of any document of the segment.
+     * @param field field name
+     * @return dense vector of token max weights, or null if the segment was written without term max weights
+     */
+    public byte[] getTermMaxWeights(String field) {
+        return fieldToTermMaxWeights.get(field);
+    }
+
+    private static Integer parseToken(BytesRef term) {
+        try {
+            int token = Integer.parseInt(term.utf8ToString());
+            return token < 0 ? null : token;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     public PostingClusters read(String field, BytesRef term) throws IOException {
         Map<BytesRef, Long> termsMapping = fieldToTerms.get(field);
         if (termsMapping == null) {
@@ -78,7 +78,7 @@ public class SparseTermsLuceneWriter {
     }
 
     /**
-     * Writes a term with its block term state.
+     * Writes a term with its block term state and its max weight in the segment.
      *
      * @param term the term bytes
      * @param state the block term state
@@ -88,6 +88,8 @@ public class SparseTermsLuceneWriter {
         this.termsOut.writeVInt(term.length);
         this.termsOut.writeBytes(term.bytes, term.offset, term.length);
         this.termsOut.writeVLong(state.blockFilePointer);
+        // without a known max weight, write the largest unsigned byte so that the term bound stays valid
+        this.termsOut.writeByte(state instanceof SparseTermState sparseTermState ? sparseTermState.maxWeight : (byte) -1);
     }
 
     /**
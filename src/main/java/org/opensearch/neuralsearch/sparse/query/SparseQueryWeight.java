@@ -6,11 +6,13 @@ package org.opensearch.neuralsearch.sparse.query;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.Terms;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
@@ -32,6 +34,7 @@ import org.opensearch.neuralsearch.sparse.cache.CacheKey;
 import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCache;
 import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCacheItem;
 import org.opensearch.neuralsearch.sparse.codec.SparseBinaryDocValuesPassThrough;
+import org.opensearch.neuralsearch.sparse.codec.SparseTerms;
 import org.opensearch.neuralsearch.sparse.common.PredicateUtils;
 import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil;
 import org.opensearch.neuralsearch.sparse.query.explain.SparseExplanationBuilder;
@@ -48,6 +51,7 @@ public class SparseQueryWeight extends Weight {
     private final float boost;
     private final Weight fallbackQueryWeight;
     private final ForwardIndexCache forwardIndexCache;
+    private final TopKScoreThreshold topKScoreThreshold;
 
     public SparseQueryWeight(
         SparseVectorQuery query,
@@ -60,6 +64,7 @@ public class SparseQueryWeight extends Weight {
         this.boost = boost;
         this.forwardIndexCache = forwardIndexCache;
         this.fallbackQueryWeight = query.getFallbackQuery().createWeight(searcher, scoreMode, boost);
+        this.topKScoreThreshold = new TopKScoreThreshold(query.getQueryContext().getK());
     }
 
     @Override
@@ -102,6 +107,9 @@ public class SparseQueryWeight extends Weight {
             return fallbackQueryWeight.scorerSupplier(context);
         }
         final Scorer scorer = selectScorer(query, context, info);
+        if (scorer == null) {
+            return null;
+        }
         return new ScorerSupplier() {
             @Override
             public Scorer get(long leadCost) throws IOException {
@@ -164,7 +172,11 @@ public class SparseQueryWeight extends Weight {
                 }
             }
         }
-        return new OrderedPostingWithClustersScorer(
+        boolean unfiltered = query.getFilter() == null;
+        if (unfiltered && !isSegmentCompetitive(query, context, simScorer)) {
+            return null;
+        }
+        OrderedPostingWithClustersScorer scorer = new OrderedPostingWithClustersScorer(
             query.getFieldName(),
             query.getQueryContext(),
             query.getQueryVector(),
@@ -174,6 +186,36 @@ public class SparseQueryWeight extends Weight {
             simScorer,
             filterBitIterator
         );
+        if (unfiltered) {
+            for (Pair<Integer, Integer> result : scorer.getResults()) {
+                topKScoreThreshold.offer(simScorer.score(result.getRight(), 0));
+            }
+        }
+        return scorer;
+    }
+
+    /**
+     * Checks the segment upper bound, the dot product between the query vector and the max weight of each token in the
+     * segment, against the k-th best score found in the other segments. A segment that cannot reach it is skipped
+     * before reading any posting.
+     */
+    private boolean isSegmentCompetitive(SparseVectorQuery query, LeafReaderContext context, Similarity.SimScorer simScorer)
+        throws IOException {
+        float threshold = topKScoreThreshold.get();
+        if (threshold == Float.NEGATIVE_INFINITY) {
+            return true;
+        }
+        // read terms from the segment reader, terms of wrapping readers are not SparseTerms
+        Terms terms = Lucene.segmentReader(context.reader()).terms(query.getFieldName());
+        if (!(terms instanceof SparseTerms sparseTerms)) {
+            return true;
+        }
+        byte[] termMaxWeights = sparseTerms.getReader().getTermMaxWeights();
+        if (termMaxWeights == null) {
+            return true;
+        }
+        float upperBound = simScorer.score(query.getQueryVector().dotProduct(termMaxWeights), 0);
+        return upperBound >= threshold;
     }
 
     private SparseVectorReader getCacheGatedForwardIndexReader(SparseVectorForwardIndex index, LeafReader leafReader, String fieldName)
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.query;
+
+import java.util.PriorityQueue;
+
+/**
+ * Score of the k-th best document found so far by a sparse ANN query across the segments of a shard.
+ * Segments are searched concurrently with concurrent segment search, so updates are synchronized.
+ */
+public class TopKScoreThreshold {
+    private final int k;
+    private final PriorityQueue<Float> topScores = new PriorityQueue<>();
+    private volatile float threshold = Float.NEGATIVE_INFINITY;
+
+    public TopKScoreThreshold(int k) {
+        this.k = k;
+    }
+
+    /**
+     * Adds the score of a document found in a segment
+     * @param score document score
+     */
+    public synchronized void offer(float score) {
+        if (topScores.size() < k) {
+            topScores.add(score);
+        } else if (score > topScores.peek()) {
+            topScores.poll();
+            topScores.add(score);
+        } else {
+            return;
+        }
+        if (topScores.size() == k) {
+            threshold = topScores.peek();
+        }
+    }
+
+    /**
+     * @return score of the k-th best document found so far, or negative infinity when less than k documents were found
+     */
+    public float get() {
+        return threshold;
+    }
+}
@@ -27,6 +27,12 @@ public interface EventStat {
      */
     void increment();
 
+    /**
+     * Increments the stat by the given amount
+     * @param amount the amount to add
+     */
+    void increment(long amount);
+
     /**
      * Resets the stat value
      */
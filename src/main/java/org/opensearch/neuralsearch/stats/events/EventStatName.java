@@ -272,6 +272,64 @@ public enum EventStatName implements StatName {
         "processors.search",
         EventStatType.TIMESTAMPED_EVENT_COUNTER,
         Version.V_3_3_0
+    ),
+    /** Counts query inferences served from the query embedding cache */
+    QUERY_EMBEDDING_CACHE_HITS(
+        "query_embedding_cache_hits",
+        "query.embedding_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_7_0
+    ),
+    /** Counts query inferences not found in the query embedding cache */
+    QUERY_EMBEDDING_CACHE_MISSES(
+        "query_embedding_cache_misses",
+        "query.embedding_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_7_0
+    ),
+    /** Counts batched inferences of query inputs */
+    QUERY_INFERENCE_BATCHES("query_inference_batches", "query.inference_batching", EventStatType.TIMESTAMPED_EVENT_COUNTER, Version.V_3_7_0),
+    /** Counts query inputs submitted for batched inference */
+    QUERY_INFERENCE_BATCHED_REQUESTS(
+        "query_inference_batched_requests",
+        "query.inference_batching",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_7_0
+    ),
+    /** Counts ingest texts whose inference result was found in the ingest embedding cache */
+    INGEST_EMBEDDING_CACHE_HITS(
+        "ingest_embedding_cache_hits",
+        "processors.ingest.embedding_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_7_0
+    ),
+    /** Counts distinct ingest texts not found in the ingest embedding cache */
+    INGEST_EMBEDDING_CACHE_MISSES(
+        "ingest_embedding_cache_misses",
+        "processors.ingest.embedding_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_7_0
+    ),
+    /** Counts ML inference requests that waited for a free slot of the per model concurrency limit */
+    ML_INFERENCE_QUEUED_REQUESTS(
+        "ml_inference_queued_requests",
+        "ml_inference.concurrency_limit",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_7_0
+    ),
+    /** Counts ML inference requests rejected because the queue of the per model concurrency limit was full */
+    ML_INFERENCE_REJECTED_REQUESTS(
+        "ml_inference_rejected_requests",
+        "ml_inference.concurrency_limit",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_7_0
+    ),
+    /** Sums the milliseconds queued ML inference requests waited for a free slot of the per model concurrency limit */
+    ML_INFERENCE_QUEUE_WAIT_MILLIS(
+        "ml_inference_queue_wait_millis",
+        "ml_inference.concurrency_limit",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_7_0
     );
 
     private final String nameString;
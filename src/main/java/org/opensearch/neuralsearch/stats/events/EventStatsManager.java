@@ -43,6 +43,16 @@ public class EventStatsManager {
         instance().inc(eventStatName);
     }
 
+    /**
+     * Static helper to increment the counter for a specified event statistic by an amount on the singleton
+     *
+     * @param eventStatName The name of the event stat to increment
+     * @param amount The amount to add
+     */
+    public static void increment(EventStatName eventStatName, long amount) {
+        instance().inc(eventStatName, amount);
+    }
+
     /**
      * Initializes dependencies for the EventStats manager
      * @param settingsAccessor
@@ -62,6 +72,18 @@ public class EventStatsManager {
         }
     }
 
+    /**
+     *  Instance level method to increment the counter for a specified event statistic by an amount.
+     *
+     * @param eventStatName The name of the event stat to increment
+     * @param amount The amount to add
+     */
+    public void inc(EventStatName eventStatName, long amount) {
+        if (settingsAccessor.isStatsEnabled()) {
+            eventStatName.getEventStat().increment(amount);
+        }
+    }
+
     /**
      * Retrieves snapshots of specified event statistics.
      *
@@ -55,15 +55,24 @@ public class TimestampedEventStat implements EventStat {
      * Increments the counter
      */
     public void increment() {
-        totalCounter.increment();
+        increment(1);
+    }
+
+    /**
+     * Increments the counter by the given amount, e.g. a duration that is summed up over events
+     * @param amount the amount to add
+     */
+    public void increment(long amount) {
+        totalCounter.add(amount);
         lastEventTimestamp = getCurrentTimeInMillis();
-        incrementCurrentBucket();
+        incrementCurrentBucket(amount);
     }
 
     /**
      * Helper to increment the current bucket based on system time
+     * @param amount the amount to add
      */
-    private void incrementCurrentBucket() {
+    private void incrementCurrentBucket(long amount) {
         long now = getCurrentTimeInMillis();
 
         // Align current time to current minute
@@ -79,7 +88,7 @@ public class TimestampedEventStat implements EventStat {
         if (bucketTimestamp != currentBucketTime && bucket.timestamp.compareAndSet(bucketTimestamp, currentBucketTime)) {
             bucket.count.reset();
         }
-        bucket.count.add(1);
+        bucket.count.add(amount);
     }
 
     /**
@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.opensearch.common.settings.Settings;
+
+/**
+ * Utility class for checks related to the security plugin
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SecurityUtil {
+    private static final List<String> SECURITY_SETTINGS_PREFIXES = List.of("plugins.security.", "opendistro_security.");
+    private static final String SECURITY_DISABLED_SETTING = "plugins.security.disabled";
+
+    /**
+     * Check if the security plugin is configured and not disabled on this node. Results that are shared between
+     * requests must not be served from caches when it is enabled, as such caches don't know the user of a request.
+     * @param settings node level settings
+     * @return true if security is enabled
+     */
+    public static boolean isSecurityEnabled(final Settings settings) {
+        boolean securityConfigured = SECURITY_SETTINGS_PREFIXES.stream()
+            .anyMatch(prefix -> settings.getByPrefix(prefix).isEmpty() == false);
+        return securityConfigured && settings.getAsBoolean(SECURITY_DISABLED_SETTING, false) == false;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HybridNormalizationExecutorTests extends OpenSearchTestCase {
+
+    public void testInitialize_whenThreadPoolIsNull_thenFail() {
+        expectThrows(IllegalArgumentException.class, () -> HybridNormalizationExecutor.initialize(null));
+    }
+
+    public void testForEachShard_whenManyShards_thenEveryNonNullShardProcessed() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(HybridNormalizationExecutor.getThreadPoolName())).thenReturn(
+            OpenSearchExecutors.newDirectExecutorService()
+        );
+        HybridNormalizationExecutor.initialize(threadPool);
+
+        List<Integer> shardResults = Arrays.asList(1, 2, null, 3, 4, 5, null, 6);
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        HybridNormalizationExecutor.forEachShard(shardResults, processed::add);
+
+        List<Integer> sorted = new ArrayList<>(processed);
+        Collections.sort(sorted);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), sorted);
+    }
+
+    public void testForEachShard_whenActionFails_thenExceptionPropagated() {
+        List<Integer> shardResults = List.of(1, 2, 3, 4, 5);
+        expectThrows(IllegalArgumentException.class, () -> HybridNormalizationExecutor.forEachShard(shardResults, shardResult -> {
+            if (shardResult == 3) {
+                throw new IllegalArgumentException("bad shard result");
+            }
+        }));
+    }
+
+    public void testForEachShard_whenPoolRejectsTasks_thenShardsProcessedByCaller() {
+        ExecutorService rejectingExecutor = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException("queue is full")).when(rejectingExecutor).execute(any(Runnable.class));
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(HybridNormalizationExecutor.getThreadPoolName())).thenReturn(rejectingExecutor);
+        HybridNormalizationExecutor.initialize(threadPool);
+        try {
+            List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+            HybridNormalizationExecutor.forEachShard(6, processed::add);
+
+            List<Integer> sorted = new ArrayList<>(processed);
+            Collections.sort(sorted);
+            assertEquals(List.of(0, 1, 2, 3, 4, 5), sorted);
+        } finally {
+            when(threadPool.executor(HybridNormalizationExecutor.getThreadPoolName())).thenReturn(
+                OpenSearchExecutors.newDirectExecutorService()
+            );
+            HybridNormalizationExecutor.initialize(threadPool);
+        }
+    }
+}
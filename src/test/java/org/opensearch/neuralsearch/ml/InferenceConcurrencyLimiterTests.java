@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.neuralsearch.ml.InferenceConcurrencyLimiter.CallClass;
+import org.opensearch.neuralsearch.processor.EmbeddingContentType;
+import org.opensearch.neuralsearch.processor.TextInferenceRequest;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class InferenceConcurrencyLimiterTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model";
+    private static final String USER_HEADER = "user";
+
+    private ThreadPool threadPool;
+    private ThreadContext threadContext;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        TestUtils.initializeEventStatsManager();
+        threadPool = mock(ThreadPool.class);
+        threadContext = new ThreadContext(Settings.EMPTY);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        when(threadPool.executor(ThreadPool.Names.GENERIC)).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+    }
+
+    public void testExecute_whenLimitReached_thenQueuedUntilRelease() {
+        InferenceConcurrencyLimiter limiter = new InferenceConcurrencyLimiter(threadPool, 1, 0, 10);
+        List<String> started = new ArrayList<>();
+        List<Runnable> releases = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("first", started, releases), failures::add);
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("second", started, releases), failures::add);
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("third", started, releases), failures::add);
+
+        assertEquals(List.of("first"), started);
+        assertEquals(2, limiter.queuedRequests(MODEL_ID, CallClass.INGEST));
+
+        releases.get(0).run();
+        // releasing twice must not free a second slot
+        releases.get(0).run();
+        assertEquals(List.of("first", "second"), started);
+        assertEquals(1, limiter.queuedRequests(MODEL_ID, CallClass.INGEST));
+
+        releases.get(1).run();
+        assertEquals(List.of("first", "second", "third"), started);
+        assertEquals(0, limiter.queuedRequests(MODEL_ID, CallClass.INGEST));
+        assertTrue(failures.isEmpty());
+    }
+
+    public void testExecute_whenQueueFull_thenRejected() {
+        InferenceConcurrencyLimiter limiter = new InferenceConcurrencyLimiter(threadPool, 1, 0, 1);
+        List<String> started = new ArrayList<>();
+        List<Runnable> releases = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("first", started, releases), failures::add);
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("second", started, releases), failures::add);
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("third", started, releases), failures::add);
+
+        assertEquals(List.of("first"), started);
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof OpenSearchRejectedExecutionException);
+        assertTrue(failures.get(0).getMessage().contains("ingest inference request for model [model] rejected"));
+    }
+
+    public void testExecute_whenDifferentModelOrCallClass_thenSeparateLimits() {
+        InferenceConcurrencyLimiter limiter = new InferenceConcurrencyLimiter(threadPool, 1, 1, 10);
+        List<String> started = new ArrayList<>();
+        List<Runnable> releases = new ArrayList<>();
+
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("ingest", started, releases), e -> fail());
+        limiter.execute(MODEL_ID, CallClass.SEARCH, inference("search", started, releases), e -> fail());
+        limiter.execute("other-model", CallClass.INGEST, inference("other", started, releases), e -> fail());
+
+        assertEquals(List.of("ingest", "search", "other"), started);
+    }
+
+    public void testExecute_whenLimitDisabled_thenNotQueued() {
+        InferenceConcurrencyLimiter limiter = new InferenceConcurrencyLimiter(threadPool, 1, 0, 0);
+        List<String> started = new ArrayList<>();
+        List<Runnable> releases = new ArrayList<>();
+
+        limiter.execute(MODEL_ID, CallClass.SEARCH, inference("first", started, releases), e -> fail());
+        limiter.execute(MODEL_ID, CallClass.SEARCH, inference("second", started, releases), e -> fail());
+
+        assertEquals(List.of("first", "second"), started);
+        assertEquals(0, limiter.queuedRequests(MODEL_ID, CallClass.SEARCH));
+    }
+
+    public void testExecute_whenInferenceThrows_thenSlotReleased() {
+        InferenceConcurrencyLimiter limiter = new InferenceConcurrencyLimiter(threadPool, 1, 0, 10);
+        List<String> started = new ArrayList<>();
+        List<Runnable> releases = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+
+        limiter.execute(MODEL_ID, CallClass.INGEST, release -> { throw new IllegalStateException("boom"); }, failures::add);
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("second", started, releases), failures::add);
+
+        assertEquals(1, failures.size());
+        assertEquals("boom", failures.get(0).getMessage());
+        assertEquals(List.of("second"), started);
+    }
+
+    public void testExecute_whenQueuedInferenceRuns_thenCallerContextRestored() {
+        InferenceConcurrencyLimiter limiter = new InferenceConcurrencyLimiter(threadPool, 1, 0, 10);
+        List<Runnable> releases = new ArrayList<>();
+        List<String> users = new ArrayList<>();
+        Consumer<Runnable> inference = release -> {
+            users.add(threadContext.getHeader(USER_HEADER));
+            releases.add(release);
+        };
+
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader(USER_HEADER, "first");
+            limiter.execute(MODEL_ID, CallClass.INGEST, inference, e -> fail());
+        }
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader(USER_HEADER, "second");
+            limiter.execute(MODEL_ID, CallClass.INGEST, inference, e -> fail());
+        }
+        // the first inference completes on a thread that still carries its own context
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader(USER_HEADER, "first");
+            releases.get(0).run();
+            assertEquals("first", threadContext.getHeader(USER_HEADER));
+        }
+
+        assertEquals(List.of("first", "second"), users);
+    }
+
+    public void testExecute_whenQueuedInferenceRejectedByExecutor_thenFailedAndSlotReleased() {
+        ExecutorService executor = mock(ExecutorService.class);
+        // like the executors of the thread pool, rejections are reported to the runnable
+        doAnswer(invocation -> {
+            ((AbstractRunnable) invocation.getArgument(0)).onRejection(new OpenSearchRejectedExecutionException("rejected"));
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(threadPool.executor(ThreadPool.Names.GENERIC)).thenReturn(executor);
+        InferenceConcurrencyLimiter limiter = new InferenceConcurrencyLimiter(threadPool, 1, 0, 10);
+        List<String> started = new ArrayList<>();
+        List<Runnable> releases = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("first", started, releases), failures::add);
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("second", started, releases), failures::add);
+        releases.get(0).run();
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof OpenSearchRejectedExecutionException);
+        // the slot of the rejected inference is free again
+        limiter.execute(MODEL_ID, CallClass.INGEST, inference("third", started, releases), failures::add);
+        assertEquals(List.of("first", "third"), started);
+    }
+
+    public void testCallClassOf_whenPassageContentType_thenIngest() {
+        TextInferenceRequest passageRequest = TextInferenceRequest.builder()
+            .modelId(MODEL_ID)
+            .inputTexts(List.of("text"))
+            .embeddingContentType(EmbeddingContentType.PASSAGE)
+            .build();
+        TextInferenceRequest queryRequest = TextInferenceRequest.builder()
+            .modelId(MODEL_ID)
+            .inputTexts(List.of("text"))
+            .embeddingContentType(EmbeddingContentType.QUERY)
+            .build();
+        TextInferenceRequest untypedRequest = TextInferenceRequest.builder().modelId(MODEL_ID).inputTexts(List.of("text")).build();
+
+        assertEquals(CallClass.INGEST, CallClass.of(passageRequest));
+        assertEquals(CallClass.SEARCH, CallClass.of(queryRequest));
+        assertEquals(CallClass.SEARCH, CallClass.of(untypedRequest));
+    }
+
+    private static Consumer<Runnable> inference(final String name, final List<String> started, final List<Runnable> releases) {
+        return release -> {
+            started.add(name);
+            releases.add(release);
+        };
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class InferenceRequestBatcherTests extends OpenSearchTestCase {
+    private static final TimeValue MAX_WAIT = TimeValue.timeValueMillis(5);
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        TestUtils.initializeEventStatsManager();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_whenBatchFull_thenExecutedWithoutWait() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        InferenceRequestBatcher<String, String, Integer> batcher = new InferenceRequestBatcher<>(threadPool, MAX_WAIT, 2);
+        List<List<String>> executedBatches = new ArrayList<>();
+        BiConsumer<List<String>, ActionListener<List<Integer>>> batchInference = (inputs, listener) -> {
+            executedBatches.add(List.copyOf(inputs));
+            listener.onResponse(inputs.stream().map(String::length).toList());
+        };
+        ActionListener<Integer> firstListener = mock(ActionListener.class);
+        ActionListener<Integer> secondListener = mock(ActionListener.class);
+
+        batcher.submit("model", "a", firstListener, batchInference);
+        assertEquals(1, batcher.pendingCount());
+        batcher.submit("model", "abc", secondListener, batchInference);
+
+        assertEquals(List.of(List.of("a", "abc")), executedBatches);
+        verify(firstListener).onResponse(1);
+        verify(secondListener).onResponse(3);
+        assertEquals(0, batcher.pendingCount());
+        // only the first input of the batch schedules its execution
+        verify(threadPool, times(1)).schedule(any(Runnable.class), eq(MAX_WAIT), eq(ThreadPool.Names.GENERIC));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_whenMaxWaitPassed_thenPartialBatchExecutedPerKey() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        InferenceRequestBatcher<String, String, Integer> batcher = new InferenceRequestBatcher<>(threadPool, MAX_WAIT, 10);
+        List<List<String>> executedBatches = new ArrayList<>();
+        BiConsumer<List<String>, ActionListener<List<Integer>>> batchInference = (inputs, listener) -> {
+            executedBatches.add(List.copyOf(inputs));
+            listener.onResponse(inputs.stream().map(String::length).toList());
+        };
+        ActionListener<Integer> firstListener = mock(ActionListener.class);
+        ActionListener<Integer> secondListener = mock(ActionListener.class);
+        ActionListener<Integer> otherModelListener = mock(ActionListener.class);
+
+        batcher.submit("model", "a", firstListener, batchInference);
+        batcher.submit("model", "ab", secondListener, batchInference);
+        batcher.submit("other-model", "abc", otherModelListener, batchInference);
+        assertEquals(3, batcher.pendingCount());
+        assertTrue(executedBatches.isEmpty());
+
+        ArgumentCaptor<Runnable> scheduledExecutions = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(2)).schedule(scheduledExecutions.capture(), eq(MAX_WAIT), eq(ThreadPool.Names.GENERIC));
+        scheduledExecutions.getAllValues().forEach(Runnable::run);
+
+        assertEquals(List.of(List.of("a", "ab"), List.of("abc")), executedBatches);
+        verify(firstListener).onResponse(1);
+        verify(secondListener).onResponse(2);
+        verify(otherModelListener).onResponse(3);
+        assertEquals(0, batcher.pendingCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_whenResultCountDiffers_thenAllListenersFail() {
+        InferenceRequestBatcher<String, String, Integer> batcher = new InferenceRequestBatcher<>(mock(ThreadPool.class), MAX_WAIT, 2);
+        BiConsumer<List<String>, ActionListener<List<Integer>>> batchInference = (inputs, listener) -> listener.onResponse(List.of(1));
+        ActionListener<Integer> firstListener = mock(ActionListener.class);
+        ActionListener<Integer> secondListener = mock(ActionListener.class);
+
+        batcher.submit("model", "a", firstListener, batchInference);
+        batcher.submit("model", "b", secondListener, batchInference);
+
+        verify(firstListener).onFailure(any(IllegalStateException.class));
+        verify(secondListener).onFailure(any(IllegalStateException.class));
+        verify(firstListener, never()).onResponse(any());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.List;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.processor.EmbeddingContentType;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class InferenceRequestCoalescerTests extends OpenSearchTestCase {
+
+    @SuppressWarnings("unchecked")
+    public void testJoin_whenSameKeyInFlight_thenFollowersGetLeaderResult() {
+        InferenceRequestCoalescer<List<Number>> coalescer = new InferenceRequestCoalescer<>();
+        ActionListener<List<Number>> firstListener = mock(ActionListener.class);
+        ActionListener<List<Number>> secondListener = mock(ActionListener.class);
+        ActionListener<List<Number>> otherKeyListener = mock(ActionListener.class);
+
+        ActionListener<List<Number>> leaderListener = coalescer.join(key("hello"), firstListener);
+        assertNotNull(leaderListener);
+        assertNull(coalescer.join(key("hello"), secondListener));
+        assertNotNull(coalescer.join(key("hi"), otherKeyListener));
+        assertEquals(2, coalescer.inFlightCount());
+
+        List<Number> vector = List.of(0.1f, 0.2f);
+        leaderListener.onResponse(vector);
+
+        verify(firstListener).onResponse(vector);
+        verify(secondListener).onResponse(vector);
+        verifyNoInteractions(otherKeyListener);
+        assertEquals(1, coalescer.inFlightCount());
+        // completed request is not joined anymore
+        assertNotNull(coalescer.join(key("hello"), secondListener));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testJoin_whenLeaderFails_thenFollowersGetFailure() {
+        InferenceRequestCoalescer<List<Number>> coalescer = new InferenceRequestCoalescer<>();
+        ActionListener<List<Number>> firstListener = mock(ActionListener.class);
+        ActionListener<List<Number>> secondListener = mock(ActionListener.class);
+
+        ActionListener<List<Number>> leaderListener = coalescer.join(key("hello"), firstListener);
+        assertNull(coalescer.join(key("hello"), secondListener));
+
+        IllegalStateException exception = new IllegalStateException("model failed");
+        leaderListener.onFailure(exception);
+
+        verify(firstListener).onFailure(exception);
+        verify(secondListener).onFailure(exception);
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testJoin_whenNoKey_thenNotCoalesced() {
+        InferenceRequestCoalescer<List<Number>> coalescer = new InferenceRequestCoalescer<>();
+        ActionListener<List<Number>> listener = mock(ActionListener.class);
+
+        assertSame(listener, coalescer.join(null, listener));
+        assertSame(listener, coalescer.join(null, listener));
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    private static QueryEmbeddingCache.Key key(final String inputDigest) {
+        return new QueryEmbeddingCache.Key("model-id", "1", null, EmbeddingContentType.QUERY, null, inputDigest);
+    }
+}
@@ -11,6 +11,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_INFERENCE_BATCH_MAX_WAIT;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -31,6 +33,7 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.neuralsearch.ml.dto.AgentInfoDTO;
@@ -53,7 +56,10 @@ import org.opensearch.neuralsearch.constants.TestCommonConstants;
 import org.opensearch.neuralsearch.processor.highlight.SentenceHighlightingRequest;
 import org.opensearch.neuralsearch.processor.TextInferenceRequest;
 import org.opensearch.neuralsearch.processor.MapInferenceRequest;
+import org.opensearch.neuralsearch.processor.EmbeddingContentType;
+import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeNotConnectedException;
 
 public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
@@ -102,6 +108,50 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verifyNoMoreInteractions(resultListener);
     }
 
+    public void testInferenceSentences_whenValidInput_thenMutableVectors() {
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLModel> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createSymmetricModel());
+            return null;
+        }).when(client).getModel(eq(TestCommonConstants.MODEL_ID), eq(null), Mockito.isA(ActionListener.class));
+
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.inferenceSentences(TestCommonConstants.TEXT_INFERENCE_REQUEST, resultListener);
+
+        final ArgumentCaptor<List<List<Number>>> vectorsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(resultListener).onResponse(vectorsCaptor.capture());
+        // vectors are written into documents, where later ingest processors may modify them
+        final List<Number> vector = vectorsCaptor.getValue().getFirst();
+        vector.add(4.0f);
+        assertEquals(3, vector.size());
+    }
+
+    public void testInferenceSentencesAsFloatArrays_whenValidInput_thenPrimitiveVectors() {
+        final ActionListener<List<float[]>> floatArraysListener = mock(ActionListener.class);
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLModel> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createSymmetricModel());
+            return null;
+        }).when(client).getModel(eq(TestCommonConstants.MODEL_ID), eq(null), Mockito.isA(ActionListener.class));
+
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.inferenceSentencesAsFloatArrays(TestCommonConstants.TEXT_INFERENCE_REQUEST, floatArraysListener);
+
+        final ArgumentCaptor<List<float[]>> vectorsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(floatArraysListener).onResponse(vectorsCaptor.capture());
+        assertEquals(1, vectorsCaptor.getValue().size());
+        assertArrayEquals(new float[] { 2.0f, 3.0f }, vectorsCaptor.getValue().getFirst(), 0.0f);
+        Mockito.verifyNoMoreInteractions(floatArraysListener);
+    }
+
     public void testInferenceSentences_whenResultFromClient_thenEmptyVectorList() {
         final List<List<Number>> vectorList = new ArrayList<>();
         vectorList.add(Collections.emptyList());
@@ -2082,6 +2132,107 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verifyNoMoreInteractions(singleSentenceResultListener);
     }
 
+    public void testInferenceSentencesMapAsFloatArray_whenQueryEmbeddingCached_thenModelNotCalledAgain() {
+        TestUtils.initializeEventStatsManager();
+        QueryEmbeddingCache.initialize(Settings.EMPTY);
+        try {
+            final MapInferenceRequest queryRequest = MapInferenceRequest.builder()
+                .modelId(TestCommonConstants.MODEL_ID)
+                .inputObjects(Map.of("inputText", "test"))
+                .embeddingContentType(EmbeddingContentType.QUERY)
+                .build();
+
+            Mockito.doAnswer(invocation -> {
+                final ActionListener<MLModel> actionListener = invocation.getArgument(2);
+                actionListener.onResponse(createSymmetricModel());
+                return null;
+            }).when(client).getModel(eq(TestCommonConstants.MODEL_ID), eq(null), Mockito.isA(ActionListener.class));
+
+            Mockito.doAnswer(invocation -> {
+                final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+                actionListener.onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY));
+                return null;
+            }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+
+            final ActionListener<float[]> vectorListener = mock(ActionListener.class);
+            accessor.inferenceSentencesMapAsFloatArray(queryRequest, vectorListener);
+            accessor.inferenceSentencesMapAsFloatArray(queryRequest, vectorListener);
+
+            verify(client, times(1)).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+            verify(vectorListener, times(2)).onResponse(new float[] { 2.0f, 3.0f });
+            Mockito.verifyNoMoreInteractions(vectorListener);
+        } finally {
+            QueryEmbeddingCache.initialize(Settings.builder().put(QUERY_EMBEDDING_CACHE_SIZE.getKey(), "0b").build());
+        }
+    }
+
+    public void testInferenceSentencesMapAsFloatArray_whenIdenticalQueryInFlight_thenModelCalledOnce() {
+        final MapInferenceRequest queryRequest = MapInferenceRequest.builder()
+            .modelId(TestCommonConstants.MODEL_ID)
+            .inputObjects(Map.of("inputText", "test"))
+            .embeddingContentType(EmbeddingContentType.QUERY)
+            .build();
+        final ActionListener<float[]> leaderListener = mock(ActionListener.class);
+        final ActionListener<float[]> followerListener = mock(ActionListener.class);
+
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLModel> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createSymmetricModel());
+            return null;
+        }).when(client).getModel(eq(TestCommonConstants.MODEL_ID), eq(null), Mockito.isA(ActionListener.class));
+
+        final List<ActionListener<MLOutput>> predictListeners = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            predictListeners.add(invocation.getArgument(2));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+
+        accessor.inferenceSentencesMapAsFloatArray(queryRequest, leaderListener);
+        accessor.inferenceSentencesMapAsFloatArray(queryRequest, followerListener);
+        assertEquals(1, predictListeners.size());
+
+        predictListeners.get(0).onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY));
+
+        verify(leaderListener).onResponse(new float[] { 2.0f, 3.0f });
+        verify(followerListener).onResponse(new float[] { 2.0f, 3.0f });
+        Mockito.verifyNoMoreInteractions(leaderListener, followerListener);
+    }
+
+    public void testInferenceSentencesWithMapResult_whenBatchingAndSecurityEnabled_thenNotBatched() {
+        final ThreadPool threadPool = mock(ThreadPool.class);
+        accessor.initializeQueryInferenceBatching(
+            threadPool,
+            Settings.builder()
+                .put(QUERY_INFERENCE_BATCH_MAX_WAIT.getKey(), "10ms")
+                .put("plugins.security.ssl.http.enabled", true)
+                .build()
+        );
+        final TextInferenceRequest queryRequest = TextInferenceRequest.builder()
+            .modelId(TestCommonConstants.MODEL_ID)
+            .inputTexts(List.of("test"))
+            .embeddingContentType(EmbeddingContentType.QUERY)
+            .build();
+        final Map<String, Object> map = Map.of("key", "value");
+        final ActionListener<List<Map<String, ?>>> resultListener = mock(ActionListener.class);
+
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLModel> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createSymmetricModel());
+            return null;
+        }).when(client).getModel(eq(TestCommonConstants.MODEL_ID), eq(null), Mockito.isA(ActionListener.class));
+
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(map));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.inferenceSentencesWithMapResult(queryRequest, resultListener);
+
+        verify(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        verify(resultListener).onResponse(List.of(map));
+        Mockito.verifyNoInteractions(threadPool);
+    }
+
     public void testCheckModelAsymmetryAndThenPredict_whenCachedByPreviousCall_thenNoGetModelCall() {
         final List<List<Number>> vectorList = new ArrayList<>();
         vectorList.add(Arrays.asList(TestCommonConstants.PREDICT_VECTOR_ARRAY));
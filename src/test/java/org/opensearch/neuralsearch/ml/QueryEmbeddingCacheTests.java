@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.neuralsearch.processor.EmbeddingContentType;
+import org.opensearch.neuralsearch.processor.MapInferenceRequest;
+import org.opensearch.neuralsearch.processor.TextInferenceRequest;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_SIZE;
+
+public class QueryEmbeddingCacheTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model-id";
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        TestUtils.initializeEventStatsManager();
+        QueryEmbeddingCache.initialize(Settings.EMPTY);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        QueryEmbeddingCache.initialize(Settings.builder().put(QUERY_EMBEDDING_CACHE_SIZE.getKey(), "0b").build());
+        super.tearDown();
+    }
+
+    public void testGetKey_whenPassageContentType_thenNoKey() {
+        MapInferenceRequest passageRequest = MapInferenceRequest.builder()
+            .modelId(MODEL_ID)
+            .inputObjects(Map.of("inputText", "hello"))
+            .embeddingContentType(EmbeddingContentType.PASSAGE)
+            .build();
+        assertNull(QueryEmbeddingCache.getKey(model("1", Instant.ofEpochMilli(1)), passageRequest));
+    }
+
+    public void testGetAndPutVector_whenSameQuery_thenCopyOfCachedVectorReturned() {
+        MLModel model = model("1", Instant.ofEpochMilli(1));
+        QueryEmbeddingCache.Key key = QueryEmbeddingCache.getKey(model, mapRequest("hello"));
+        assertNotNull(key);
+        assertNull(QueryEmbeddingCache.getVector(key));
+
+        float[] vector = new float[] { 0.5f, 1.5f };
+        QueryEmbeddingCache.putVector(key, vector);
+        vector[0] = 5.0f;
+        float[] cached = QueryEmbeddingCache.getVector(QueryEmbeddingCache.getKey(model, mapRequest("hello")));
+        assertArrayEquals(new float[] { 0.5f, 1.5f }, cached, 0.0f);
+        cached[0] = 10.0f;
+        assertEquals(0.5f, QueryEmbeddingCache.getVector(key)[0], 0.0f);
+
+        assertNull(QueryEmbeddingCache.getVector(QueryEmbeddingCache.getKey(model, mapRequest("hi"))));
+        // redeployed model gets new keys
+        assertNull(QueryEmbeddingCache.getVector(QueryEmbeddingCache.getKey(model("1", Instant.ofEpochMilli(2)), mapRequest("hello"))));
+        assertNull(QueryEmbeddingCache.getVector(QueryEmbeddingCache.getKey(model("2", Instant.ofEpochMilli(1)), mapRequest("hello"))));
+    }
+
+    public void testGetAndPutTokenWeights_whenSameQuery_thenCopyOfCachedTokenWeightsReturned() {
+        MLModel model = model("1", Instant.ofEpochMilli(1));
+        TextInferenceRequest request = TextInferenceRequest.builder()
+            .modelId(MODEL_ID)
+            .inputTexts(List.of("hello"))
+            .embeddingContentType(EmbeddingContentType.QUERY)
+            .build();
+        QueryEmbeddingCache.Key key = QueryEmbeddingCache.getKey(model, request);
+        assertNotNull(key);
+        // dense and sparse inferences of the same text don't share keys
+        assertNotEquals(key, QueryEmbeddingCache.getKey(model, mapRequest("hello")));
+
+        List<Map<String, Float>> tokenWeights = new ArrayList<>(List.of(new HashMap<>(Map.of("hello", 1.2f))));
+        QueryEmbeddingCache.putTokenWeights(key, tokenWeights);
+        tokenWeights.get(0).put("world", 0.4f);
+
+        List<Map<String, Float>> cached = QueryEmbeddingCache.getTokenWeights(key);
+        assertEquals(List.of(Map.of("hello", 1.2f)), cached);
+        cached.get(0).clear();
+        assertEquals(List.of(Map.of("hello", 1.2f)), QueryEmbeddingCache.getTokenWeights(key));
+    }
+
+    public void testGetKey_whenSecurityEnabled_thenNoKey() {
+        MLModel model = model("1", Instant.ofEpochMilli(1));
+        TextInferenceRequest request = TextInferenceRequest.builder()
+            .modelId(MODEL_ID)
+            .inputTexts(List.of("hello"))
+            .embeddingContentType(EmbeddingContentType.QUERY)
+            .build();
+        // without keys query inferences are neither cached nor coalesced
+        QueryEmbeddingCache.initialize(Settings.builder().put("plugins.security.ssl.http.enabled", true).build());
+        assertNull(QueryEmbeddingCache.getKey(model, mapRequest("hello")));
+        assertNull(QueryEmbeddingCache.getKey(model, request));
+
+        QueryEmbeddingCache.initialize(
+            Settings.builder().put("plugins.security.ssl.http.enabled", true).put("plugins.security.disabled", true).build()
+        );
+        assertNotNull(QueryEmbeddingCache.getKey(model, mapRequest("hello")));
+        assertNotNull(QueryEmbeddingCache.getKey(model, request));
+    }
+
+    private static MapInferenceRequest mapRequest(final String queryText) {
+        return MapInferenceRequest.builder()
+            .modelId(MODEL_ID)
+            .inputObjects(Map.of("inputText", queryText))
+            .embeddingContentType(EmbeddingContentType.QUERY)
+            .build();
+    }
+
+    private static MLModel model(final String version, final Instant lastDeployedTime) {
+        MLModel model = mock(MLModel.class);
+        when(model.getVersion()).thenReturn(version);
+        when(model.getLastDeployedTime()).thenReturn(lastDeployedTime);
+        return model;
+    }
+}
@@ -82,7 +82,7 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
 
     private static final int NEW_THREAD_COUNT = Math.max(OpenSearchExecutors.allocatedProcessors(Settings.EMPTY) / 2, 1);
     private static final int CURRENT_THREAD_COUNT = 6;
-    private static final int EXPECTED_EXECUTOR_BUILDERS_COUNT = 2;
+    private static final int EXPECTED_EXECUTOR_BUILDERS_COUNT = 3;
 
     private NeuralSearch plugin;
 
@@ -201,7 +201,7 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
 
     public void testGetSettings() {
         List<Setting<?>> settings = plugin.getSettings();
-        assertEquals(8, settings.size());
+        assertEquals(25, settings.size());
     }
 
     public void testRequestProcessors() {
@@ -235,7 +235,7 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
 
         assertNotNull(executorBuilders);
         assertFalse(executorBuilders.isEmpty());
-        assertEquals("Unexpected number of executor builders are registered", 2, executorBuilders.size());
+        assertEquals("Unexpected number of executor builders are registered", 3, executorBuilders.size());
         assertTrue(executorBuilders.get(0) instanceof FixedExecutorBuilder);
     }
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.opensearch.common.TriConsumer;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_EMBEDDING_CACHE_SIZE;
+
+public class IngestEmbeddingCacheTests extends OpenSearchTestCase {
+    private static final String SCOPE = "text_embedding";
+    private static final String MODEL_ID = "model-id";
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        TestUtils.initializeEventStatsManager();
+        IngestEmbeddingCache.initialize(Settings.builder().put(INGEST_EMBEDDING_CACHE_SIZE.getKey(), "1mb").build());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        IngestEmbeddingCache.initialize(Settings.EMPTY);
+        super.tearDown();
+    }
+
+    public void testExecute_whenTextsRepeated_thenEachTextInferredOnce() {
+        List<List<String>> calls = new ArrayList<>();
+        AtomicReference<List<?>> results = new AtomicReference<>();
+
+        IngestEmbeddingCache.execute(
+            SCOPE,
+            MODEL_ID,
+            List.of("hello", "world", "hello"),
+            vectorInference(calls),
+            results::set,
+            e -> fail(e.getMessage())
+        );
+
+        assertEquals(List.of(List.of("hello", "world")), calls);
+        assertEquals(List.of(List.of(5.0f), List.of(5.0f), List.of(5.0f)), results.get());
+        // every document gets its own copy of the result
+        assertNotSame(results.get().get(0), results.get().get(2));
+    }
+
+    public void testExecute_whenTextsCached_thenOnlyMissesInferred() {
+        List<List<String>> calls = new ArrayList<>();
+        AtomicReference<List<?>> results = new AtomicReference<>();
+        IngestEmbeddingCache.execute(SCOPE, MODEL_ID, List.of("hello"), vectorInference(calls), results::set, e -> fail(e.getMessage()));
+
+        IngestEmbeddingCache.execute(
+            SCOPE,
+            MODEL_ID,
+            List.of("hello", "planet"),
+            vectorInference(calls),
+            results::set,
+            e -> fail(e.getMessage())
+        );
+        assertEquals(List.of(List.of("hello"), List.of("planet")), calls);
+        assertEquals(List.of(List.of(5.0f), List.of(6.0f)), results.get());
+
+        // results of other scopes and models are not shared
+        IngestEmbeddingCache.execute("sparse_encoding", MODEL_ID, List.of("hello"), tokenWeightsInference(calls), results::set, e -> {});
+        IngestEmbeddingCache.execute(SCOPE, "other-model-id", List.of("hello"), vectorInference(calls), results::set, e -> {});
+        assertEquals(4, calls.size());
+
+        IngestEmbeddingCache.execute("sparse_encoding", MODEL_ID, List.of("hello"), tokenWeightsInference(calls), results::set, e -> {});
+        assertEquals(4, calls.size());
+        assertEquals(List.of(Map.of("hello", 1.0f)), results.get());
+    }
+
+    public void testExecute_whenCacheDisabled_thenAllTextsInferred() {
+        IngestEmbeddingCache.initialize(Settings.EMPTY);
+        List<List<String>> calls = new ArrayList<>();
+        AtomicReference<List<?>> results = new AtomicReference<>();
+
+        IngestEmbeddingCache.execute(
+            SCOPE,
+            MODEL_ID,
+            List.of("hello", "hello"),
+            vectorInference(calls),
+            results::set,
+            e -> fail(e.getMessage())
+        );
+        IngestEmbeddingCache.execute(SCOPE, MODEL_ID, List.of("hello"), vectorInference(calls), results::set, e -> fail(e.getMessage()));
+
+        assertEquals(List.of(List.of("hello", "hello"), List.of("hello")), calls);
+    }
+
+    private static TriConsumer<List<String>, Consumer<List<?>>, Consumer<Exception>> vectorInference(final List<List<String>> calls) {
+        return (texts, handler, onException) -> {
+            calls.add(texts);
+            handler.accept(texts.stream().map(text -> List.of((float) text.length())).toList());
+        };
+    }
+
+    private static TriConsumer<List<String>, Consumer<List<?>>, Consumer<Exception>> tokenWeightsInference(final List<List<String>> calls) {
+        return (texts, handler, onException) -> {
+            calls.add(texts);
+            handler.accept(texts.stream().map(text -> Map.of(text, 1.0f)).toList());
+        };
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.opensearch.common.TriConsumer;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_BATCH_MAX_CHARACTERS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_BATCH_MAX_CONCURRENT_REQUESTS;
+
+public class IngestInferenceBatcherTests extends OpenSearchTestCase {
+
+    @Override
+    public void tearDown() throws Exception {
+        IngestInferenceBatcher.initialize(Settings.EMPTY);
+        super.tearDown();
+    }
+
+    public void testPartition_whenCharacterBudgetSet_thenTextsSplitWithinBudget() {
+        List<String> texts = List.of("a", "bb", "ccc", "dddd", "eeeeeeeeee");
+
+        assertEquals(List.of(texts), IngestInferenceBatcher.partition(texts, 0));
+        assertEquals(
+            List.of(List.of("a", "bb", "ccc"), List.of("dddd"), List.of("eeeeeeeeee")),
+            IngestInferenceBatcher.partition(texts, 6)
+        );
+        // text above the budget is not split
+        assertEquals(List.of(List.of("a", "bb", "ccc", "dddd"), List.of("eeeeeeeeee")), IngestInferenceBatcher.partition(texts, 10));
+    }
+
+    public void testExecute_whenConcurrencyLimited_thenNextCallStartsAfterCompletion() {
+        IngestInferenceBatcher.initialize(
+            Settings.builder()
+                .put(INGEST_INFERENCE_BATCH_MAX_CHARACTERS.getKey(), 3)
+                .put(INGEST_INFERENCE_BATCH_MAX_CONCURRENT_REQUESTS.getKey(), 2)
+                .build()
+        );
+        List<List<String>> calls = new ArrayList<>();
+        List<Consumer<List<?>>> pendingHandlers = new ArrayList<>();
+        TriConsumer<List<String>, Consumer<List<?>>, Consumer<Exception>> batchInference = (texts, handler, onException) -> {
+            calls.add(texts);
+            pendingHandlers.add(handler);
+        };
+        AtomicReference<List<?>> results = new AtomicReference<>();
+
+        IngestInferenceBatcher.execute(List.of("aa", "bb", "cc", "dd"), batchInference, results::set, e -> fail(e.getMessage()));
+        assertEquals(List.of(List.of("aa"), List.of("bb")), calls);
+
+        pendingHandlers.get(1).accept(List.of(2));
+        assertEquals(3, calls.size());
+        pendingHandlers.get(0).accept(List.of(1));
+        pendingHandlers.get(2).accept(List.of(3));
+        assertNull(results.get());
+        pendingHandlers.get(3).accept(List.of(4));
+
+        assertEquals(List.of(List.of("aa"), List.of("bb"), List.of("cc"), List.of("dd")), calls);
+        assertEquals(List.of(1, 2, 3, 4), results.get());
+    }
+
+    public void testExecute_whenModelCallFails_thenFailureReportedOnce() {
+        IngestInferenceBatcher.initialize(Settings.builder().put(INGEST_INFERENCE_BATCH_MAX_CHARACTERS.getKey(), 2).build());
+        List<Exception> failures = new ArrayList<>();
+        TriConsumer<List<String>, Consumer<List<?>>, Consumer<Exception>> batchInference = (texts, handler, onException) -> onException
+            .accept(new IllegalStateException("model failed"));
+
+        IngestInferenceBatcher.execute(List.of("aa", "bb", "cc"), batchInference, results -> fail("no results expected"), failures::add);
+
+        assertEquals(1, failures.size());
+        assertEquals("model failed", failures.get(0).getMessage());
+    }
+}
@@ -17,6 +17,7 @@ import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.neuralsearch.util.prune.PruneUtils;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.rescore.QueryRescorerBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -38,6 +39,7 @@ public class NeuralSparseTwoPhaseProcessorTests extends OpenSearchTestCase {
     static final private String ENABLE_KEY = "enabled";
     static final private String EXPANSION_KEY = "expansion_rate";
     static final private String MAX_WINDOW_SIZE_KEY = "max_window_size";
+    static final private String SINGLE_PASS_KEY = "single_pass";
     private static final String TEST_INDEX_NAME = "test_index";
     private static final String TEST_SPARSE_FIELD_NAME = "test_sparse_field";
 
@@ -256,6 +258,103 @@ public class NeuralSparseTwoPhaseProcessorTests extends OpenSearchTestCase {
         assertNull(searchRequest.source().rescores());
     }
 
+    public void testProcessRequest_whenSinglePassEnabled_thenNoRescorer() throws Exception {
+        setUpClusterService();
+        NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory();
+        NeuralSparseQueryBuilder neuralQueryBuilder = new NeuralSparseQueryBuilder();
+        neuralQueryBuilder.queryTokensMapSupplier(() -> Map.of("key", 1.0f, "other", 0.1f));
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(new SearchSourceBuilder().query(neuralQueryBuilder).size(10).trackTotalHits(false));
+        NeuralSparseTwoPhaseProcessor processor = createTestProcessor(factory, 0.5f, true, 4.0f, 10000, true);
+        assertTrue(processor.isSinglePass());
+        processor.processRequest(searchRequest);
+
+        assertNull(searchRequest.source().rescores());
+        NeuralSparseQueryBuilder queryBuilder = (NeuralSparseQueryBuilder) searchRequest.source().query();
+        assertTrue(queryBuilder.isSparseTwoPhaseSinglePass());
+        assertEquals(40, queryBuilder.neuralSparseQueryTwoPhaseInfo().getTwoPhaseWindowSize());
+        assertEquals(0.5f, queryBuilder.neuralSparseQueryTwoPhaseInfo().getTwoPhasePruneRatio(), 1e-3);
+        assertEquals("raw query tokens should not be split by the processor", 2, queryBuilder.queryTokensMapSupplier().get().size());
+    }
+
+    public void testProcessRequest_whenSinglePassEnabledAndNestedQuery_thenFallbackToRescorer() throws Exception {
+        setUpClusterService();
+        NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory();
+        NeuralSparseQueryBuilder neuralQueryBuilder = new NeuralSparseQueryBuilder();
+        BoolQueryBuilder boolQueryBuilder = new BoolQueryBuilder();
+        boolQueryBuilder.should(neuralQueryBuilder);
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(new SearchSourceBuilder().query(boolQueryBuilder));
+        NeuralSparseTwoPhaseProcessor processor = createTestProcessor(factory, 0.5f, true, 4.0f, 10000, true);
+        processor.processRequest(searchRequest);
+
+        assertNotNull(searchRequest.source().rescores());
+        assertTrue(neuralQueryBuilder.isSparseTwoPhaseOne());
+    }
+
+    public void testProcessRequest_whenSinglePassEnabledAndPageOutOfWindow_thenFallbackToRescorer() throws Exception {
+        setUpClusterService();
+        NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory();
+        NeuralSparseQueryBuilder neuralQueryBuilder = new NeuralSparseQueryBuilder();
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(new SearchSourceBuilder().query(neuralQueryBuilder).from(100).size(10));
+        NeuralSparseTwoPhaseProcessor processor = createTestProcessor(factory, 0.5f, true, 4.0f, 10000, true);
+        processor.processRequest(searchRequest);
+
+        assertNotNull(searchRequest.source().rescores());
+        assertTrue(neuralQueryBuilder.isSparseTwoPhaseOne());
+    }
+
+    public void testProcessRequest_whenSinglePassEnabledAndSourceReordersOrCountsHits_thenFallbackToRescorer() throws Exception {
+        setUpClusterService();
+        NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory();
+        NeuralSparseTwoPhaseProcessor processor = createTestProcessor(factory, 0.5f, true, 4.0f, 10000, true);
+        List<SearchSourceBuilder> sources = List.of(
+            new SearchSourceBuilder().size(10).trackTotalHits(false).postFilter(new MatchAllQueryBuilder()),
+            new SearchSourceBuilder().size(10).trackTotalHits(false).sort("field"),
+            new SearchSourceBuilder().size(10).trackTotalHits(false).searchAfter(new Object[] { 1 }),
+            new SearchSourceBuilder().size(10).trackTotalHits(false).collapse(new CollapseBuilder("field")),
+            new SearchSourceBuilder().size(10).trackTotalHits(false).minScore(1.0f),
+            new SearchSourceBuilder().size(10).trackTotalHitsUpTo(41),
+            new SearchSourceBuilder().size(10).trackTotalHits(true)
+        );
+        for (SearchSourceBuilder source : sources) {
+            NeuralSparseQueryBuilder neuralQueryBuilder = new NeuralSparseQueryBuilder();
+            SearchRequest searchRequest = new SearchRequest();
+            searchRequest.source(source.query(neuralQueryBuilder));
+            processor.processRequest(searchRequest);
+
+            assertNotNull(source.toString(), searchRequest.source().rescores());
+            assertTrue(source.toString(), neuralQueryBuilder.isSparseTwoPhaseOne());
+        }
+    }
+
+    public void testProcessRequest_whenSinglePassEnabledAndDefaultRequest_thenNoRescorer() throws Exception {
+        setUpClusterService();
+        NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory();
+        NeuralSparseQueryBuilder neuralQueryBuilder = new NeuralSparseQueryBuilder();
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(new SearchSourceBuilder().query(neuralQueryBuilder));
+        NeuralSparseTwoPhaseProcessor processor = createTestProcessor(factory, 0.5f, true, 4.0f, 10000, true);
+        processor.processRequest(searchRequest);
+
+        assertNull(searchRequest.source().rescores());
+        assertTrue(neuralQueryBuilder.isSparseTwoPhaseSinglePass());
+    }
+
+    public void testProcessRequest_whenSinglePassEnabledAndTotalHitsTrackedWithinWindow_thenNoRescorer() throws Exception {
+        setUpClusterService();
+        NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory();
+        NeuralSparseQueryBuilder neuralQueryBuilder = new NeuralSparseQueryBuilder();
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(new SearchSourceBuilder().query(neuralQueryBuilder).size(10).trackTotalHitsUpTo(40));
+        NeuralSparseTwoPhaseProcessor processor = createTestProcessor(factory, 0.5f, true, 4.0f, 10000, true);
+        processor.processRequest(searchRequest);
+
+        assertNull(searchRequest.source().rescores());
+        assertTrue(neuralQueryBuilder.isSparseTwoPhaseSinglePass());
+    }
+
     public void testType() throws Exception {
         NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory();
         NeuralSparseTwoPhaseProcessor processor = createTestProcessor(factory);
@@ -348,6 +447,25 @@ public class NeuralSparseTwoPhaseProcessorTests extends OpenSearchTestCase {
         return factory.create(Collections.emptyMap(), null, null, false, configMap, null);
     }
 
+    private NeuralSparseTwoPhaseProcessor createTestProcessor(
+        NeuralSparseTwoPhaseProcessor.Factory factory,
+        float ratio,
+        boolean enabled,
+        float expand,
+        int max_window,
+        boolean singlePass
+    ) throws Exception {
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put(ENABLE_KEY, enabled);
+        Map<String, Object> twoPhaseParaMap = new HashMap<>();
+        twoPhaseParaMap.put(PruneUtils.PRUNE_RATIO_FIELD, ratio);
+        twoPhaseParaMap.put(EXPANSION_KEY, expand);
+        twoPhaseParaMap.put(MAX_WINDOW_SIZE_KEY, max_window);
+        twoPhaseParaMap.put(SINGLE_PASS_KEY, singlePass);
+        configMap.put(PARAMETER_KEY, twoPhaseParaMap);
+        return factory.create(Collections.emptyMap(), null, null, false, configMap, null);
+    }
+
     private NeuralSparseTwoPhaseProcessor createTestProcessor(NeuralSparseTwoPhaseProcessor.Factory factory) throws Exception {
         Map<String, Object> configMap = new HashMap<>();
         configMap.put(ENABLE_KEY, true);
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -2145,6 +2146,24 @@ public class TextEmbeddingProcessorTests extends InferenceProcessorTestCase {
         assertEquals(ingestRequest.getInputTexts(), inferenceRequestCaptor.getValue().getInputTexts());
     }
 
+    public void testBuildMultiGetRequest_whenSkipExisting_thenOnlyMappedFieldsFetched() {
+        TextEmbeddingProcessor processor = createInstanceWithLevel2MapConfig(true);
+        List<InferenceProcessor.DataForInference> dataForInferences = createIngestDocumentWrappers(2).stream()
+            .map(wrapper -> new InferenceProcessor.DataForInference(wrapper, Map.of(), List.of()))
+            .toList();
+
+        MultiGetRequest multiGetRequest = processor.buildMultiGetRequest(dataForInferences);
+
+        assertEquals(2, multiGetRequest.getItems().size());
+        for (MultiGetRequest.Item item : multiGetRequest.getItems()) {
+            assertEquals(
+                Set.of("key1.test1", "key1.test1_knn", "key2.test3", "key2." + CHILD_LEVEL_2_KNN_FIELD),
+                Set.of(item.fetchSourceContext().includes())
+            );
+            assertEquals(0, item.fetchSourceContext().excludes().length);
+        }
+    }
+
     public void test_batchExecute_with_update_successful() {
         final int docCount = 5;
         List<IngestDocumentWrapper> ingestDocumentWrappers = createIngestDocumentWrappers(docCount);
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.junit.Before;
@@ -37,6 +38,10 @@ import org.opensearch.OpenSearchParseException;
 import org.opensearch.action.get.GetAction;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetAction;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.Metadata;
@@ -50,7 +55,9 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.env.Environment;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.index.mapper.IndexFieldMapper;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.factory.TextImageEmbeddingProcessorFactory;
@@ -138,6 +145,7 @@ public class TextImageEmbeddingProcessorTests extends OpenSearchTestCase {
             () -> new TextImageEmbeddingProcessor(
                 PROCESSOR_TAG,
                 DESCRIPTION,
+                1,
                 modelId,
                 embeddingField,
                 null,
@@ -157,6 +165,7 @@ public class TextImageEmbeddingProcessorTests extends OpenSearchTestCase {
             () -> new TextImageEmbeddingProcessor(
                 PROCESSOR_TAG,
                 DESCRIPTION,
+                1,
                 modelId,
                 embeddingField,
                 Map.of("", "my_field"),
@@ -180,6 +189,7 @@ public class TextImageEmbeddingProcessorTests extends OpenSearchTestCase {
             () -> new TextImageEmbeddingProcessor(
                 PROCESSOR_TAG,
                 DESCRIPTION,
+                1,
                 modelId,
                 embeddingField,
                 typeMapping,
@@ -602,6 +612,172 @@ public class TextImageEmbeddingProcessorTests extends OpenSearchTestCase {
             .inferenceSentencesMap(argThat(request -> request.getInputObjects() != null), isA(ActionListener.class));
     }
 
+    public void testSubBatchExecute_whenDocumentsShareInput_thenOneInferencePerDistinctInput() {
+        List<IngestDocumentWrapper> ingestDocumentWrappers = List.of(
+            createIngestDocumentWrapper(1, "value1"),
+            createIngestDocumentWrapper(2, "value1"),
+            createIngestDocumentWrapper(3, "value2")
+        );
+        TextImageEmbeddingProcessor processor = createInstance(false);
+        doAnswer(invocation -> {
+            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            listener.onResponse(new ArrayList<>(List.of(1.0f, 2.0f)));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesMap(isA(MapInferenceRequest.class), isA(ActionListener.class));
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.subBatchExecute(ingestDocumentWrappers, handler);
+
+        verify(handler, times(1)).accept(ingestDocumentWrappers);
+        verify(mlCommonsClientAccessor, times(2)).inferenceSentencesMap(inferenceRequestCaptor.capture(), isA(ActionListener.class));
+        assertEquals("value1", inferenceRequestCaptor.getAllValues().get(0).getInputObjects().get(TextImageEmbeddingProcessor.INPUT_TEXT));
+        assertEquals("value2", inferenceRequestCaptor.getAllValues().get(1).getInputObjects().get(TextImageEmbeddingProcessor.INPUT_TEXT));
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            assertNull(ingestDocumentWrapper.getException());
+            assertEquals(List.of(1.0f, 2.0f), ingestDocumentWrapper.getIngestDocument().getSourceAndMetadata().get("my_embedding_field"));
+        }
+        // documents of one model call don't share the embedding
+        assertNotSame(
+            ingestDocumentWrappers.get(0).getIngestDocument().getSourceAndMetadata().get("my_embedding_field"),
+            ingestDocumentWrappers.get(1).getIngestDocument().getSourceAndMetadata().get("my_embedding_field")
+        );
+    }
+
+    @SneakyThrows
+    public void testSubBatchExecute_whenSkipExistingAndInputUnchanged_thenEmbeddingsCopiedWithOneMultiGet() {
+        List<IngestDocumentWrapper> ingestDocumentWrappers = List.of(
+            createIngestDocumentWrapper(1, "value1"),
+            createIngestDocumentWrapper(2, "value2")
+        );
+        Map<String, Object> existingSource = new HashMap<>(ingestDocumentWrappers.get(0).getIngestDocument().getSourceAndMetadata());
+        existingSource.put("my_embedding_field", List.of(3.0f, 4.0f));
+        IngestDocument existingDocument = new IngestDocument(existingSource, new HashMap<>());
+        doAnswer(invocation -> {
+            MultiGetRequest multiGetRequest = invocation.getArgument(1);
+            assertEquals(2, multiGetRequest.getItems().size());
+            ActionListener<MultiGetResponse> listener = invocation.getArgument(2);
+            listener.onResponse(
+                new MultiGetResponse(new MultiGetItemResponse[] { new MultiGetItemResponse(convertToGetResponse(existingDocument), null) })
+            );
+            return null;
+        }).when(openSearchClient).execute(isA(MultiGetAction.class), isA(MultiGetRequest.class), isA(ActionListener.class));
+        doAnswer(invocation -> {
+            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            listener.onResponse(new ArrayList<>(List.of(1.0f, 2.0f)));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesMap(isA(MapInferenceRequest.class), isA(ActionListener.class));
+        TextImageEmbeddingProcessor processor = createInstance(true);
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.subBatchExecute(ingestDocumentWrappers, handler);
+
+        verify(handler, times(1)).accept(ingestDocumentWrappers);
+        verify(openSearchClient, times(1)).execute(isA(MultiGetAction.class), isA(MultiGetRequest.class), isA(ActionListener.class));
+        verify(mlCommonsClientAccessor, times(1)).inferenceSentencesMap(inferenceRequestCaptor.capture(), isA(ActionListener.class));
+        assertEquals("value2", inferenceRequestCaptor.getValue().getInputObjects().get(TextImageEmbeddingProcessor.INPUT_TEXT));
+        // copied from the fetched source
+        assertEquals(
+            List.of(3.0, 4.0),
+            ingestDocumentWrappers.get(0).getIngestDocument().getSourceAndMetadata().get("my_embedding_field")
+        );
+        assertEquals(
+            List.of(1.0f, 2.0f),
+            ingestDocumentWrappers.get(1).getIngestDocument().getSourceAndMetadata().get("my_embedding_field")
+        );
+    }
+
+    public void testSubBatchExecute_whenLaterInferenceThrows_thenOnlyItsDocumentsFailedAndHandlerCalledOnce() {
+        List<IngestDocumentWrapper> ingestDocumentWrappers = List.of(
+            createIngestDocumentWrapper(1, "value1"),
+            createIngestDocumentWrapper(2, "value2")
+        );
+        TextImageEmbeddingProcessor processor = createInstance(false);
+        doAnswer(invocation -> {
+            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            listener.onResponse(new ArrayList<>(List.of(1.0f, 2.0f)));
+            return null;
+        }).doThrow(new IllegalStateException("model call failed"))
+            .when(mlCommonsClientAccessor)
+            .inferenceSentencesMap(isA(MapInferenceRequest.class), isA(ActionListener.class));
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.subBatchExecute(ingestDocumentWrappers, handler);
+
+        verify(handler, times(1)).accept(ingestDocumentWrappers);
+        assertNull(ingestDocumentWrappers.get(0).getException());
+        assertEquals(
+            List.of(1.0f, 2.0f),
+            ingestDocumentWrappers.get(0).getIngestDocument().getSourceAndMetadata().get("my_embedding_field")
+        );
+        assertEquals("model call failed", ingestDocumentWrappers.get(1).getException().getMessage());
+    }
+
+    @SneakyThrows
+    public void testSubBatchExecute_whenSkipExistingAndSameIdInOtherIndex_thenEmbeddingNotCopied() {
+        List<IngestDocumentWrapper> ingestDocumentWrappers = List.of(
+            createIngestDocumentWrapper(1, "value1"),
+            createIngestDocumentWrapper(1, "value1")
+        );
+        ingestDocumentWrappers.get(1).getIngestDocument().getSourceAndMetadata().put(IndexFieldMapper.NAME, "other_index");
+        Map<String, Object> existingSource = new HashMap<>(ingestDocumentWrappers.get(0).getIngestDocument().getSourceAndMetadata());
+        existingSource.put("my_embedding_field", List.of(3.0f, 4.0f));
+        IngestDocument existingDocument = new IngestDocument(existingSource, new HashMap<>());
+        GetResponse missingDocument = new GetResponse(
+            new GetResult(
+                "other_index",
+                "1",
+                SequenceNumbers.UNASSIGNED_SEQ_NO,
+                SequenceNumbers.UNASSIGNED_PRIMARY_TERM,
+                -1,
+                false,
+                null,
+                null,
+                null
+            )
+        );
+        doAnswer(invocation -> {
+            ActionListener<MultiGetResponse> listener = invocation.getArgument(2);
+            listener.onResponse(
+                new MultiGetResponse(
+                    new MultiGetItemResponse[] {
+                        new MultiGetItemResponse(convertToGetResponse(existingDocument), null),
+                        new MultiGetItemResponse(missingDocument, null) }
+                )
+            );
+            return null;
+        }).when(openSearchClient).execute(isA(MultiGetAction.class), isA(MultiGetRequest.class), isA(ActionListener.class));
+        doAnswer(invocation -> {
+            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            listener.onResponse(new ArrayList<>(List.of(1.0f, 2.0f)));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesMap(isA(MapInferenceRequest.class), isA(ActionListener.class));
+        TextImageEmbeddingProcessor processor = createInstance(true);
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.subBatchExecute(ingestDocumentWrappers, handler);
+
+        verify(handler, times(1)).accept(ingestDocumentWrappers);
+        verify(mlCommonsClientAccessor, times(1)).inferenceSentencesMap(isA(MapInferenceRequest.class), isA(ActionListener.class));
+        assertEquals(
+            List.of(3.0, 4.0),
+            ingestDocumentWrappers.get(0).getIngestDocument().getSourceAndMetadata().get("my_embedding_field")
+        );
+        // the document with the same id in another index doesn't exist yet, so it gets its own embedding
+        assertEquals(
+            List.of(1.0f, 2.0f),
+            ingestDocumentWrappers.get(1).getIngestDocument().getSourceAndMetadata().get("my_embedding_field")
+        );
+    }
+
+    private IngestDocumentWrapper createIngestDocumentWrapper(int id, String text) {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, "my_index");
+        sourceAndMetadata.put("_id", String.valueOf(id));
+        sourceAndMetadata.put("my_text_field", text);
+        sourceAndMetadata.put("image_field", "base64_of_image_1234567890");
+        return new IngestDocumentWrapper(id, 0, new IngestDocument(sourceAndMetadata, new HashMap<>()), null);
+    }
+
     private void mockUpdateDocument(IngestDocument ingestDocument) {
         doAnswer(invocation -> {
             ActionListener<GetResponse> listener = invocation.getArgument(2);
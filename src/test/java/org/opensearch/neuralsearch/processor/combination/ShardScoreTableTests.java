@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ShardScoreTableTests extends OpenSearchTestCase {
+    private static final float DELTA_FOR_SCORE_ASSERTION = 0.001f;
+
+    public void testCombine_whenDocsInMultipleSubQueries_thenOneRowPerDoc() {
+        ShardScoreTable table = ShardScoreTable.of(
+            List.of(
+                topDocs(new ScoreDoc(1, 1.0f), new ScoreDoc(3, 0.5f)),
+                topDocs(new ScoreDoc(3, 1.0f), new ScoreDoc(7, 0.2f))
+            )
+        );
+        assertEquals(3, table.numOfDocs());
+
+        ScoreCombinationTechnique technique = new ArithmeticMeanScoreCombinationTechnique(Map.of(), new ScoreCombinationUtil());
+        float[] combinedScores = table.combine(technique);
+        int[] rows = table.sortedRows(combinedScores, null);
+
+        assertEquals(3, rows.length);
+        assertEquals(3, table.docId(rows[0]));
+        assertEquals(0.75f, combinedScores[rows[0]], DELTA_FOR_SCORE_ASSERTION);
+        assertEquals(1, table.docId(rows[1]));
+        assertEquals(0.5f, combinedScores[rows[1]], DELTA_FOR_SCORE_ASSERTION);
+        assertEquals(7, table.docId(rows[2]));
+        assertEquals(0.1f, combinedScores[rows[2]], DELTA_FOR_SCORE_ASSERTION);
+    }
+
+    public void testSortedRows_whenTiesAndMinScore_thenTiesByDocIdAndLowScoresFiltered() {
+        ShardScoreTable table = ShardScoreTable.of(
+            List.of(topDocs(new ScoreDoc(9, 0.5f), new ScoreDoc(2, 0.5f), new ScoreDoc(5, 0.1f), new ScoreDoc(0, 0.8f)))
+        );
+        float[] combinedScores = table.combine(new ArithmeticMeanScoreCombinationTechnique(Map.of(), new ScoreCombinationUtil()));
+
+        int[] rows = table.sortedRows(combinedScores, 0.3f);
+
+        assertEquals(3, rows.length);
+        assertEquals(0, table.docId(rows[0]));
+        assertEquals(2, table.docId(rows[1]));
+        assertEquals(9, table.docId(rows[2]));
+    }
+
+    private static TopDocs topDocs(ScoreDoc... scoreDocs) {
+        return new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+}
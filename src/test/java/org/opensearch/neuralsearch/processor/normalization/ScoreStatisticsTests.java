@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ScoreStatisticsTests extends OpenSearchTestCase {
+    private static final double DELTA = 1e-9;
+
+    public void testStatistics_whenNoScores_thenNaN() {
+        ScoreStatistics stats = new ScoreStatistics();
+        assertEquals(0, stats.getCount());
+        assertTrue(Double.isNaN(stats.getMin()));
+        assertTrue(Double.isNaN(stats.getMax()));
+        assertTrue(Double.isNaN(stats.getMean()));
+        assertTrue(Double.isNaN(stats.getStandardDeviation()));
+    }
+
+    public void testStatistics_whenSingleScore_thenZeroStandardDeviation() {
+        ScoreStatistics stats = new ScoreStatistics();
+        stats.add(0.5);
+        assertEquals(0.5, stats.getMin(), DELTA);
+        assertEquals(0.5, stats.getMax(), DELTA);
+        assertEquals(0.5, stats.getMean(), DELTA);
+        assertEquals(0.0, stats.getStandardDeviation(), DELTA);
+    }
+
+    public void testMerge_whenScoresSplitAcrossShards_thenSameAsDescriptiveStatistics() {
+        DescriptiveStatistics expected = new DescriptiveStatistics();
+        ScoreStatistics merged = new ScoreStatistics();
+        int numShards = randomIntBetween(1, 10);
+        for (int shard = 0; shard < numShards; shard++) {
+            ScoreStatistics shardStats = new ScoreStatistics();
+            int numScores = randomIntBetween(0, 50);
+            for (int i = 0; i < numScores; i++) {
+                double score = randomDoubleBetween(0.0, 10.0, true);
+                expected.addValue(score);
+                shardStats.add(score);
+            }
+            merged.merge(shardStats);
+        }
+
+        assertEquals(expected.getN(), merged.getCount());
+        if (expected.getN() == 0) {
+            assertTrue(Double.isNaN(merged.getMean()));
+            return;
+        }
+        assertEquals(expected.getMin(), merged.getMin(), DELTA);
+        assertEquals(expected.getMax(), merged.getMax(), DELTA);
+        assertEquals(expected.getMean(), merged.getMean(), DELTA);
+        assertEquals(expected.getStandardDeviation(), merged.getStandardDeviation(), DELTA);
+    }
+}
@@ -5,20 +5,32 @@
 package org.opensearch.neuralsearch.query;
 
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.FixedBitSet;
 import org.junit.Before;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -307,6 +319,227 @@ public class HybridBulkScorerTests extends OpenSearchTestCase {
         verify(mockScorer2, never()).setMinCompetitiveScore(anyFloat());
     }
 
+    /**
+     * Test that scores written for a sparse window are cleared after the window is collected
+     */
+    public void testScore_whenSparseWindow_thenWindowStateReset() throws IOException {
+        List<Scorer> scorers = Arrays.asList(mockScorer1, mockScorer2);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, MAX_DOC);
+
+        LeafCollector mockLeafCollector = mock(LeafCollector.class);
+
+        when(mockIterator1.docID()).thenReturn(-1);
+        when(mockIterator1.advance(0)).thenReturn(10);
+        when(mockIterator1.nextDoc()).thenReturn(DocIdSetIterator.NO_MORE_DOCS);
+
+        when(mockIterator2.docID()).thenReturn(-1);
+        when(mockIterator2.advance(0)).thenReturn(20);
+        when(mockIterator2.nextDoc()).thenReturn(DocIdSetIterator.NO_MORE_DOCS);
+
+        when(mockScorer1.score()).thenReturn(1.0f);
+        when(mockScorer2.score()).thenReturn(0.8f);
+
+        bulkScorer.score(mockLeafCollector, null, 0, MAX_DOC);
+
+        assertEquals(0, bulkScorer.getMatching().cardinality());
+        for (float[] windowScore : bulkScorer.getWindowScores()) {
+            for (float score : windowScore) {
+                assertEquals(0.0f, score, 0.0f);
+            }
+        }
+    }
+
+    /**
+     * Test that sub queries the hybrid query executor rejects are scored by the calling thread instead of failing the query
+     */
+    public void testScore_whenParallelSubQueryScoringRejected_thenScoredByCaller() throws IOException {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ExecutorService rejectingExecutor = mock(ExecutorService.class);
+        doThrow(new OpenSearchRejectedExecutionException("rejected")).when(rejectingExecutor).execute(any(Runnable.class));
+        when(threadPool.executor(HybridQueryExecutor.getThreadPoolName())).thenReturn(rejectingExecutor);
+        HybridQueryExecutor.initialize(threadPool);
+        try {
+            List<Scorer> scorers = Arrays.asList(mockScorer1, mockScorer2);
+            HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, MAX_DOC, true);
+
+            LeafCollector mockLeafCollector = mock(LeafCollector.class);
+            List<Integer> collectedDocs = new ArrayList<>();
+            doAnswer(invocation -> {
+                DocIdStream stream = invocation.getArgument(0);
+                stream.forEach(collectedDocs::add);
+                return null;
+            }).when(mockLeafCollector).collect(any(DocIdStream.class));
+
+            when(mockIterator1.docID()).thenReturn(-1);
+            when(mockIterator1.advance(0)).thenReturn(10);
+            when(mockIterator1.nextDoc()).thenReturn(DocIdSetIterator.NO_MORE_DOCS);
+
+            when(mockIterator2.docID()).thenReturn(-1);
+            when(mockIterator2.advance(0)).thenReturn(500);
+            when(mockIterator2.nextDoc()).thenReturn(DocIdSetIterator.NO_MORE_DOCS);
+
+            when(mockScorer1.score()).thenReturn(1.0f);
+            when(mockScorer2.score()).thenReturn(0.8f);
+
+            int result = bulkScorer.score(mockLeafCollector, null, 0, MAX_DOC);
+
+            assertEquals(DocIdSetIterator.NO_MORE_DOCS, result);
+            assertEquals(List.of(10, 500), collectedDocs);
+            verify(rejectingExecutor).execute(any(Runnable.class));
+        } finally {
+            ThreadPool directThreadPool = mock(ThreadPool.class);
+            when(directThreadPool.executor(HybridQueryExecutor.getThreadPoolName())).thenReturn(
+                OpenSearchExecutors.newDirectExecutorService()
+            );
+            HybridQueryExecutor.initialize(directThreadPool);
+        }
+    }
+
+    /**
+     * Test that sub queries scored in parallel produce the same window matches and scores as serial scoring
+     */
+    public void testScore_whenParallelSubQueryScoring_thenAllSubQueryMatchesCollected() throws IOException {
+        List<Scorer> scorers = Arrays.asList(mockScorer1, mockScorer2);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, MAX_DOC, true);
+
+        LeafCollector mockLeafCollector = mock(LeafCollector.class);
+        List<Integer> collectedDocs = new ArrayList<>();
+        List<float[]> collectedScores = new ArrayList<>();
+        doAnswer(invocation -> {
+            DocIdStream stream = invocation.getArgument(0);
+            stream.forEach(doc -> {
+                collectedDocs.add(doc);
+                collectedScores.add(bulkScorer.getHybridSubQueryScorer().getSubQueryScores().clone());
+            });
+            return null;
+        }).when(mockLeafCollector).collect(any(DocIdStream.class));
+
+        when(mockIterator1.docID()).thenReturn(-1);
+        when(mockIterator1.advance(0)).thenReturn(10);
+        when(mockIterator1.nextDoc()).thenReturn(20, DocIdSetIterator.NO_MORE_DOCS);
+
+        when(mockIterator2.docID()).thenReturn(-1);
+        when(mockIterator2.advance(0)).thenReturn(20);
+        when(mockIterator2.nextDoc()).thenReturn(DocIdSetIterator.NO_MORE_DOCS);
+
+        when(mockScorer1.score()).thenReturn(1.0f);
+        when(mockScorer2.score()).thenReturn(0.8f);
+
+        int result = bulkScorer.score(mockLeafCollector, null, 0, MAX_DOC);
+
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, result);
+        assertEquals(List.of(10, 20), collectedDocs);
+        assertArrayEquals(new float[] { 1.0f, 0.0f }, collectedScores.get(0), 0.0f);
+        assertArrayEquals(new float[] { 1.0f, 0.8f }, collectedScores.get(1), 0.0f);
+        assertEquals(0, bulkScorer.getMatching().cardinality());
+    }
+
+    /**
+     * Test that competitive scores collected in one window are pushed to sub query scorers scored in parallel in the next window
+     */
+    public void testScore_whenParallelSubQueryScoring_thenMinCompetitiveScorePushedBetweenWindows() throws IOException {
+        List<Scorer> scorers = Arrays.asList(mockScorer1, mockScorer2);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, 10000, true);
+
+        LeafCollector mockLeafCollector = mock(LeafCollector.class);
+        doAnswer(invocation -> {
+            bulkScorer.getHybridSubQueryScorer().getMinScores()[0] = 0.5f;
+            return null;
+        }).when(mockLeafCollector).collect(any(DocIdStream.class));
+
+        when(mockIterator1.docID()).thenReturn(-1);
+        when(mockIterator1.advance(0)).thenReturn(10);
+        when(mockIterator1.nextDoc()).thenReturn(5000, DocIdSetIterator.NO_MORE_DOCS);
+
+        when(mockIterator2.docID()).thenReturn(-1);
+        when(mockIterator2.advance(0)).thenReturn(20);
+        when(mockIterator2.nextDoc()).thenReturn(5010, DocIdSetIterator.NO_MORE_DOCS);
+
+        when(mockScorer1.score()).thenReturn(1.0f);
+        when(mockScorer2.score()).thenReturn(0.8f);
+
+        int result = bulkScorer.score(mockLeafCollector, null, 0, 10000);
+
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, result);
+        verify(mockLeafCollector, times(2)).collect(any(DocIdStream.class));
+        verify(mockScorer1).setMinCompetitiveScore(0.5f);
+        verify(mockScorer2, never()).setMinCompetitiveScore(anyFloat());
+    }
+
+    public void testScore_whenCollectorHasCompetitiveIterator_thenNonCompetitiveDocsSkipped() throws IOException {
+        List<Scorer> scorers = Arrays.asList(mockScorer1, mockScorer2);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, MAX_DOC);
+
+        FixedBitSet competitiveDocs = new FixedBitSet(MAX_DOC);
+        competitiveDocs.set(20);
+        LeafCollector mockLeafCollector = mock(LeafCollector.class);
+        when(mockLeafCollector.competitiveIterator()).thenReturn(new BitSetIterator(competitiveDocs, 1));
+        List<Integer> collectedDocs = new ArrayList<>();
+        List<float[]> collectedScores = new ArrayList<>();
+        doAnswer(invocation -> {
+            DocIdStream stream = invocation.getArgument(0);
+            stream.forEach(doc -> {
+                collectedDocs.add(doc);
+                collectedScores.add(bulkScorer.getHybridSubQueryScorer().getSubQueryScores().clone());
+            });
+            return null;
+        }).when(mockLeafCollector).collect(any(DocIdStream.class));
+
+        when(mockIterator1.docID()).thenReturn(-1);
+        when(mockIterator1.advance(0)).thenReturn(10);
+        when(mockIterator1.advance(20)).thenReturn(20);
+        when(mockIterator1.nextDoc()).thenReturn(DocIdSetIterator.NO_MORE_DOCS);
+
+        when(mockIterator2.docID()).thenReturn(-1);
+        when(mockIterator2.advance(0)).thenReturn(20);
+        when(mockIterator2.nextDoc()).thenReturn(DocIdSetIterator.NO_MORE_DOCS);
+
+        when(mockScorer1.score()).thenReturn(1.0f);
+        when(mockScorer2.score()).thenReturn(0.8f);
+
+        int result = bulkScorer.score(mockLeafCollector, null, 0, MAX_DOC);
+
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, result);
+        // doc 10 is before the first competitive doc, sub-query scorer is advanced past it
+        assertEquals(List.of(20), collectedDocs);
+        assertArrayEquals(new float[] { 1.0f, 0.8f }, collectedScores.get(0), 0.0f);
+        verify(mockScorer1, times(1)).score();
+        assertEquals(0, bulkScorer.getMatching().cardinality());
+    }
+
+    public void testScore_whenMatchInWindowNotCompetitive_thenMatchDroppedAndScoreCleared() throws IOException {
+        List<Scorer> scorers = Arrays.asList(mockScorer1, mockScorer2);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, MAX_DOC);
+
+        FixedBitSet competitiveDocs = new FixedBitSet(MAX_DOC);
+        competitiveDocs.set(10);
+        LeafCollector mockLeafCollector = mock(LeafCollector.class);
+        when(mockLeafCollector.competitiveIterator()).thenReturn(new BitSetIterator(competitiveDocs, 1));
+        List<Integer> collectedDocs = new ArrayList<>();
+        doAnswer(invocation -> {
+            DocIdStream stream = invocation.getArgument(0);
+            stream.forEach(collectedDocs::add);
+            return null;
+        }).when(mockLeafCollector).collect(any(DocIdStream.class));
+
+        when(mockIterator1.docID()).thenReturn(-1);
+        when(mockIterator1.advance(0)).thenReturn(10);
+        when(mockIterator1.nextDoc()).thenReturn(20, DocIdSetIterator.NO_MORE_DOCS);
+
+        when(mockIterator2.docID()).thenReturn(-1);
+        when(mockIterator2.advance(0)).thenReturn(20);
+        when(mockIterator2.nextDoc()).thenReturn(DocIdSetIterator.NO_MORE_DOCS);
+
+        when(mockScorer1.score()).thenReturn(1.0f);
+        when(mockScorer2.score()).thenReturn(0.8f);
+
+        bulkScorer.score(mockLeafCollector, null, 0, MAX_DOC);
+
+        assertEquals(List.of(10), collectedDocs);
+        assertEquals(0.0f, bulkScorer.getWindowScores()[0][20], 0.0f);
+        assertEquals(0.0f, bulkScorer.getWindowScores()[1][20], 0.0f);
+    }
+
     /**
      * Test scoreWindow with window base to set as least maximum docId
      */
@@ -31,7 +31,6 @@ import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
 import org.opensearch.knn.index.mapper.KNNVectorFieldType;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
-import org.opensearch.neuralsearch.common.VectorUtil;
 import org.opensearch.neuralsearch.constants.SemanticFieldConstants;
 import org.opensearch.neuralsearch.constants.SemanticInfoFieldConstants;
 import org.opensearch.neuralsearch.mapper.SemanticFieldMapper;
@@ -48,7 +47,6 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.transport.client.Client;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -88,8 +86,8 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
     private static final String LOCAL_INDEX_NAME_2 = "nlp-index-2";
     private static final String MODEL_ID_1 = "modelId1";
     private static final String MODEL_ID_2 = "modelId2";
-    private static final List<Number> TEST_VECTOR_LIST = List.of(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
-    private static final List<Number> TEST_VECTOR_LIST_2 = List.of(5.0f, 4.0f, 3.0f, 2.0f, 1.0f);
+    private static final float[] TEST_VECTOR = { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f };
+    private static final float[] TEST_VECTOR_2 = { 5.0f, 4.0f, 3.0f, 2.0f, 1.0f };
     private static final List<Map<String, ?>> TEST_QUERY_TOKENS = List.of(Map.of("response", List.of(Map.of("key1", 1.0f, "key2", 2.0f))));
     private static final List<Map<String, ?>> TEST_QUERY_TOKENS_2 = List.of(
         Map.of("response", List.of(Map.of("key1", 2.0f, "key2", 1.0f)))
@@ -121,14 +119,14 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
             .modelId(MODEL_ID)
             .k(K)
             .build();
-        List<Number> expectedVector = Arrays.asList(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+        float[] expectedVector = { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f };
         MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
         doAnswer(invocation -> {
-            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            ActionListener<float[]> listener = invocation.getArgument(1);
             listener.onResponse(expectedVector);
             return null;
         }).when(mlCommonsClientAccessor)
-            .inferenceSentencesMap(argThat(request -> request.getInputObjects() != null), isA(ActionListener.class));
+            .inferenceSentencesMapAsFloatArray(argThat(request -> request.getInputObjects() != null), isA(ActionListener.class));
         NeuralQueryBuilder.initialize(mlCommonsClientAccessor);
 
         final CountDownLatch inProgressLatch = new CountDownLatch(1);
@@ -148,7 +146,7 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
         NeuralQueryBuilder queryBuilder = (NeuralQueryBuilder) neuralQueryBuilder.doRewrite(queryRewriteContext);
         assertNotNull(queryBuilder.vectorSupplier());
         assertTrue(inProgressLatch.await(5, TimeUnit.SECONDS));
-        assertArrayEquals(VectorUtil.vectorAsListToArray(expectedVector), queryBuilder.vectorSupplier().get(), 0.0f);
+        assertArrayEquals(expectedVector, queryBuilder.vectorSupplier().get(), 0.0f);
     }
 
     @SneakyThrows
@@ -161,14 +159,14 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
             .modelId(MODEL_ID)
             .k(K)
             .build();
-        List<Number> expectedVector = Arrays.asList(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+        float[] expectedVector = { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f };
         MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
         doAnswer(invocation -> {
-            ActionListener<List<Number>> listener = invocation.getArgument(1);
+            ActionListener<float[]> listener = invocation.getArgument(1);
             listener.onResponse(expectedVector);
             return null;
         }).when(mlCommonsClientAccessor)
-            .inferenceSentencesMap(argThat(request -> request.getInputObjects() != null), isA(ActionListener.class));
+            .inferenceSentencesMapAsFloatArray(argThat(request -> request.getInputObjects() != null), isA(ActionListener.class));
         NeuralQueryBuilder.initialize(mlCommonsClientAccessor);
 
         final CountDownLatch inProgressLatch = new CountDownLatch(1);
@@ -188,7 +186,7 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
         NeuralQueryBuilder queryBuilder = (NeuralQueryBuilder) neuralQueryBuilder.doRewrite(queryRewriteContext);
         assertNotNull(queryBuilder.vectorSupplier());
         assertTrue(inProgressLatch.await(5, TimeUnit.SECONDS));
-        assertArrayEquals(VectorUtil.vectorAsListToArray(expectedVector), queryBuilder.vectorSupplier().get(), 0.0f);
+        assertArrayEquals(expectedVector, queryBuilder.vectorSupplier().get(), 0.0f);
     }
 
     public void testRewrite_whenVectorNull_v3_0_0_thenReturnCopy() {
@@ -327,10 +325,10 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
 
         // mock async action is done
         doAnswer(invocation -> {
-            final ActionListener<List<Number>> listener = (ActionListener<List<Number>>) invocation.getArguments()[1];
-            listener.onResponse(TEST_VECTOR_LIST);
+            final ActionListener<float[]> listener = (ActionListener<float[]>) invocation.getArguments()[1];
+            listener.onResponse(TEST_VECTOR);
             return null;
-        }).when(mlClient).inferenceSentencesMap(any(), any());
+        }).when(mlClient).inferenceSentencesMapAsFloatArray(any(), any());
 
         asyncActions.get(0).accept(mock(Client.class), mock(ActionListener.class));
 
@@ -384,10 +382,10 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
 
         // mock async action is done
         doAnswer(invocation -> {
-            final ActionListener<List<Number>> listener = (ActionListener<List<Number>>) invocation.getArguments()[1];
-            listener.onResponse(TEST_VECTOR_LIST);
+            final ActionListener<float[]> listener = (ActionListener<float[]>) invocation.getArguments()[1];
+            listener.onResponse(TEST_VECTOR);
             return null;
-        }).when(mlClient).inferenceSentencesMap(any(), any());
+        }).when(mlClient).inferenceSentencesMapAsFloatArray(any(), any());
 
         asyncActions.get(0).accept(mock(Client.class), mock(ActionListener.class));
 
@@ -507,14 +505,14 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
         // mock async action is done
         doAnswer(invocation -> {
             final MapInferenceRequest inferenceRequest = (MapInferenceRequest) invocation.getArguments()[0];
-            final ActionListener<List<Number>> listener = (ActionListener<List<Number>>) invocation.getArguments()[1];
+            final ActionListener<float[]> listener = (ActionListener<float[]>) invocation.getArguments()[1];
             if (MODEL_ID_1.equals(inferenceRequest.getModelId())) {
-                listener.onResponse(TEST_VECTOR_LIST);
+                listener.onResponse(TEST_VECTOR);
             } else if (MODEL_ID_2.equals(inferenceRequest.getModelId())) {
-                listener.onResponse(TEST_VECTOR_LIST_2);
+                listener.onResponse(TEST_VECTOR_2);
             }
             return null;
-        }).when(mlClient).inferenceSentencesMap(any(), any());
+        }).when(mlClient).inferenceSentencesMapAsFloatArray(any(), any());
 
         asyncActions.get(0).accept(mock(Client.class), mock(ActionListener.class));
         asyncActions.get(1).accept(mock(Client.class), mock(ActionListener.class));
@@ -601,10 +599,10 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
 
         // mock async action is done
         doAnswer(invocation -> {
-            final ActionListener<List<Number>> listener = (ActionListener<List<Number>>) invocation.getArguments()[1];
-            listener.onResponse(TEST_VECTOR_LIST);
+            final ActionListener<float[]> listener = (ActionListener<float[]>) invocation.getArguments()[1];
+            listener.onResponse(TEST_VECTOR);
             return null;
-        }).when(mlClient).inferenceSentencesMap(any(), any());
+        }).when(mlClient).inferenceSentencesMapAsFloatArray(any(), any());
 
         asyncActions.get(0).accept(mock(Client.class), mock(ActionListener.class));
 
@@ -647,10 +645,10 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
 
         // mock async action is done
         doAnswer(invocation -> {
-            final ActionListener<List<Number>> listener = (ActionListener<List<Number>>) invocation.getArguments()[1];
-            listener.onResponse(TEST_VECTOR_LIST);
+            final ActionListener<float[]> listener = (ActionListener<float[]>) invocation.getArguments()[1];
+            listener.onResponse(TEST_VECTOR);
             return null;
-        }).when(mlClient).inferenceSentencesMap(any(), any());
+        }).when(mlClient).inferenceSentencesMapAsFloatArray(any(), any());
 
         asyncActions.get(0).accept(mock(Client.class), mock(ActionListener.class));
 
@@ -38,6 +38,7 @@ import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.analysis.AnalyzerScope;
 import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.analysis.NamedAnalyzer;
@@ -52,6 +53,7 @@ import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbe
 import org.opensearch.ml.common.input.parameter.textembedding.SparseEmbeddingFormat;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.TextInferenceRequest;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
 import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
 import org.opensearch.neuralsearch.sparse.mapper.SparseVectorFieldMapper;
 import org.opensearch.neuralsearch.sparse.query.SparseAnnQueryBuilder;
@@ -1051,6 +1053,46 @@ public class NeuralSparseQueryBuilderTests extends OpenSearchTestCase {
         assertEquals(sparseEncodingQueryBuilder.doToQuery(mockedQueryShardContext), targetQueryBuilder.build());
     }
 
+    @SneakyThrows
+    public void testDoToQuery_whenDotProductQueryEnabled_thenSparseDotProductQuery() {
+        NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .queryTokensMapSupplier(QUERY_TOKENS_SUPPLIER);
+        QueryShardContext mockedQueryShardContext = mock(QueryShardContext.class);
+        MappedFieldType mockedMappedFieldType = mock(MappedFieldType.class);
+        doAnswer(invocation -> "rank_features").when(mockedMappedFieldType).typeName();
+        doAnswer(invocation -> mockedMappedFieldType).when(mockedQueryShardContext).fieldMapper(any());
+        IndexSettings indexSettings = mock(IndexSettings.class);
+        when(indexSettings.getSettings()).thenReturn(
+            Settings.builder().put(NeuralSearchSettings.NEURAL_SPARSE_DOT_PRODUCT_QUERY_ENABLED.getKey(), true).build()
+        );
+        when(mockedQueryShardContext.getIndexSettings()).thenReturn(indexSettings);
+
+        Query query = sparseEncodingQueryBuilder.doToQuery(mockedQueryShardContext);
+        assertEquals(new SparseDotProductQuery(FIELD_NAME, Map.of("hello", 1.f, "world", 2.f)), query);
+    }
+
+    @SneakyThrows
+    public void testDoToQuery_whenDotProductQueryEnabledAndNoQueryTokens_thenEmptyBooleanQuery() {
+        NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .queryTokensMapSupplier(Map::of);
+        QueryShardContext mockedQueryShardContext = mock(QueryShardContext.class);
+        MappedFieldType mockedMappedFieldType = mock(MappedFieldType.class);
+        doAnswer(invocation -> "rank_features").when(mockedMappedFieldType).typeName();
+        doAnswer(invocation -> mockedMappedFieldType).when(mockedQueryShardContext).fieldMapper(any());
+        IndexSettings indexSettings = mock(IndexSettings.class);
+        when(indexSettings.getSettings()).thenReturn(
+            Settings.builder().put(NeuralSearchSettings.NEURAL_SPARSE_DOT_PRODUCT_QUERY_ENABLED.getKey(), true).build()
+        );
+        when(mockedQueryShardContext.getIndexSettings()).thenReturn(indexSettings);
+
+        Query query = sparseEncodingQueryBuilder.doToQuery(mockedQueryShardContext);
+        assertEquals(new BooleanQuery.Builder().build(), query);
+    }
+
     @SneakyThrows
     public void testDoToQuery_seismicWithAnalyzer() {
         NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
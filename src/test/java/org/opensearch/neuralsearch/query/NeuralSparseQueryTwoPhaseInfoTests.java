@@ -44,10 +44,24 @@ public class NeuralSparseQueryTwoPhaseInfoTests extends OpenSearchTestCase {
         assertEquals(original.getStatus(), copy.getStatus());
     }
 
+    @SneakyThrows
+    public void testStreams_whenSinglePass_thenWindowSizeSerialized() {
+        NeuralSparseQueryTwoPhaseInfo original = new NeuralSparseQueryTwoPhaseInfo(0.4F, PruneType.MAX_RATIO, 50);
+        assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.SINGLE_PASS, original.getStatus());
+
+        BytesStreamOutput streamOutput = new BytesStreamOutput();
+        original.writeTo(streamOutput);
+
+        NeuralSparseQueryTwoPhaseInfo copy = new NeuralSparseQueryTwoPhaseInfo(streamOutput.bytes().streamInput());
+        assertEquals(original, copy);
+        assertEquals(50, copy.getTwoPhaseWindowSize());
+    }
+
     public void testTwoPhaseStatusFromInt() {
         assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.NOT_ENABLED, NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.fromInt(0));
         assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_ONE, NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.fromInt(1));
         assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_TWO, NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.fromInt(2));
+        assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.SINGLE_PASS, NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.fromInt(3));
     }
 
     public void testTwoPhaseStatusFromInt_invalidValue_thenFailed() {
@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class NeuralSparseTwoPhaseQueryTests extends OpenSearchTestCase {
+    private static final String FIELD_NAME = "rank_features_field";
+    private static final Map<String, Float> PHASE_ONE_TOKENS = Map.of("high1", 2.0f, "high2", 1.5f);
+    private static final Map<String, Float> PHASE_TWO_TOKENS = Map.of("low1", 0.3f, "low2", 0.2f);
+
+    public void testConstructor_whenInvalidWindowSize_thenFail() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new NeuralSparseTwoPhaseQuery(new MatchNoDocsQuery(), FIELD_NAME, PHASE_TWO_TOKENS, 0)
+        );
+    }
+
+    public void testEqualsAndHashCode() {
+        Query phaseOneQuery = new SparseDotProductQuery(FIELD_NAME, PHASE_ONE_TOKENS);
+        NeuralSparseTwoPhaseQuery query1 = new NeuralSparseTwoPhaseQuery(phaseOneQuery, FIELD_NAME, PHASE_TWO_TOKENS, 10);
+        NeuralSparseTwoPhaseQuery query2 = new NeuralSparseTwoPhaseQuery(phaseOneQuery, FIELD_NAME, PHASE_TWO_TOKENS, 10);
+        NeuralSparseTwoPhaseQuery query3 = new NeuralSparseTwoPhaseQuery(phaseOneQuery, FIELD_NAME, PHASE_TWO_TOKENS, 20);
+        assertEquals(query1, query2);
+        assertEquals(query1.hashCode(), query2.hashCode());
+        assertNotEquals(query1, query3);
+    }
+
+    @SneakyThrows
+    public void testSearch_whenCandidatesRefined_thenScoresOfAllTokens() {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+        for (int i = 0; i < 500; i++) {
+            Document document = new Document();
+            for (String token : new String[] { "high1", "high2", "low1", "low2" }) {
+                if (randomBoolean()) {
+                    document.add(new FeatureField(FIELD_NAME, token, (float) randomDoubleBetween(0.1, 5, true)));
+                }
+            }
+            writer.addDocument(document);
+        }
+        writer.commit();
+        DirectoryReader reader = DirectoryReader.open(writer);
+        IndexSearcher searcher = newSearcher(reader);
+
+        int windowSize = 50;
+        Query phaseOneQuery = buildFeatureQuery(PHASE_ONE_TOKENS);
+        Query fullQuery = buildFeatureQuery(Map.of("high1", 2.0f, "high2", 1.5f, "low1", 0.3f, "low2", 0.2f));
+        NeuralSparseTwoPhaseQuery twoPhaseQuery = new NeuralSparseTwoPhaseQuery(phaseOneQuery, FIELD_NAME, PHASE_TWO_TOKENS, windowSize);
+
+        TopDocs phaseOneTopDocs = searcher.search(phaseOneQuery, windowSize);
+        TopDocs twoPhaseTopDocs = searcher.search(twoPhaseQuery, windowSize);
+
+        assertEquals(toDocIds(phaseOneTopDocs), toDocIds(twoPhaseTopDocs));
+        for (ScoreDoc scoreDoc : twoPhaseTopDocs.scoreDocs) {
+            assertEquals(searcher.explain(fullQuery, scoreDoc.doc).getValue().floatValue(), scoreDoc.score, 1e-4f);
+        }
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    @SneakyThrows
+    public void testSearch_whenNoPhaseOneMatch_thenNoResults() {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+        Document document = new Document();
+        document.add(new FeatureField(FIELD_NAME, "low1", 1f));
+        writer.addDocument(document);
+        writer.commit();
+        DirectoryReader reader = DirectoryReader.open(writer);
+        IndexSearcher searcher = newSearcher(reader);
+
+        NeuralSparseTwoPhaseQuery twoPhaseQuery = new NeuralSparseTwoPhaseQuery(
+            buildFeatureQuery(PHASE_ONE_TOKENS),
+            FIELD_NAME,
+            PHASE_TWO_TOKENS,
+            10
+        );
+        assertEquals(0, searcher.search(twoPhaseQuery, 10).scoreDocs.length);
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    @SneakyThrows
+    public void testSearch_whenSearcherTimedOut_thenPhaseOneStopped() {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+        Document document = new Document();
+        document.add(new FeatureField(FIELD_NAME, "high1", 1f));
+        writer.addDocument(document);
+        writer.commit();
+        DirectoryReader reader = DirectoryReader.open(writer);
+        IndexSearcher searcher = new IndexSearcher(reader);
+        searcher.setTimeout(() -> true);
+
+        NeuralSparseTwoPhaseQuery twoPhaseQuery = new NeuralSparseTwoPhaseQuery(
+            buildFeatureQuery(PHASE_ONE_TOKENS),
+            FIELD_NAME,
+            PHASE_TWO_TOKENS,
+            10
+        );
+        // phase one is collected by the searcher, so it is stopped by the searcher timeout
+        assertEquals(0, searcher.search(twoPhaseQuery, 10).scoreDocs.length);
+        assertTrue(searcher.timedOut());
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    @SneakyThrows
+    public void testCreateWeight_whenSameReader_thenCandidatesComputedOnce() {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+        Document document = new Document();
+        document.add(new FeatureField(FIELD_NAME, "high1", 1f));
+        document.add(new FeatureField(FIELD_NAME, "low1", 1f));
+        writer.addDocument(document);
+        writer.commit();
+        DirectoryReader reader = DirectoryReader.open(writer);
+        IndexSearcher searcher = new IndexSearcher(reader);
+
+        NeuralSparseTwoPhaseQuery twoPhaseQuery = new NeuralSparseTwoPhaseQuery(
+            buildFeatureQuery(PHASE_ONE_TOKENS),
+            FIELD_NAME,
+            PHASE_TWO_TOKENS,
+            10
+        );
+        Weight queryWeight = twoPhaseQuery.createWeight(searcher, ScoreMode.TOP_SCORES, 1f);
+        Weight explainWeight = twoPhaseQuery.createWeight(searcher, ScoreMode.COMPLETE, 1f);
+        // candidates of the first weight are reused, the phase one search is not run again
+        assertSame(queryWeight.getQuery(), explainWeight.getQuery());
+
+        writer.addDocument(document);
+        writer.commit();
+        DirectoryReader newReader = DirectoryReader.openIfChanged(reader);
+        Weight newReaderWeight = twoPhaseQuery.createWeight(new IndexSearcher(newReader), ScoreMode.TOP_SCORES, 1f);
+        assertNotSame(queryWeight.getQuery(), newReaderWeight.getQuery());
+
+        newReader.close();
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Set<Integer> toDocIds(TopDocs topDocs) {
+        return Arrays.stream(topDocs.scoreDocs).map(scoreDoc -> scoreDoc.doc).collect(Collectors.toSet());
+    }
+
+    private Query buildFeatureQuery(Map<String, Float> tokens) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (Map.Entry<String, Float> entry : tokens.entrySet()) {
+            builder.add(FeatureField.newLinearQuery(FIELD_NAME, entry.getKey(), entry.getValue()), BooleanClause.Occur.SHOULD);
+        }
+        return builder.build();
+    }
+}
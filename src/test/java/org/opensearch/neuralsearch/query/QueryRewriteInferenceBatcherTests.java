@@ -0,0 +1,208 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.MapInferenceRequest;
+import org.opensearch.neuralsearch.processor.TextInferenceRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.client.Client;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_REWRITE_INFERENCE_BATCHING_ENABLED;
+
+public class QueryRewriteInferenceBatcherTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model-id";
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        QueryRewriteInferenceBatcher.initialize(Settings.builder().put(QUERY_REWRITE_INFERENCE_BATCHING_ENABLED.getKey(), true).build());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        QueryRewriteInferenceBatcher.initialize(Settings.EMPTY);
+        super.tearDown();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRegisterTokenWeightsInference_whenSameModel_thenOneInferenceForAllQueryTexts() {
+        MLCommonsClientAccessor mlClient = mockMLClient(FunctionName.SPARSE_ENCODING);
+        doAnswer(invocation -> {
+            TextInferenceRequest request = invocation.getArgument(0);
+            ActionListener<List<Map<String, ?>>> listener = invocation.getArgument(1);
+            List<Map<String, Float>> tokenWeights = request.getInputTexts().stream().map(text -> Map.of(text, 1.0f)).toList();
+            listener.onResponse(List.of(Map.of("response", tokenWeights)));
+            return null;
+        }).when(mlClient).inferenceSentencesWithMapResult(any(), any());
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        List<Map<String, Float>> results = new ArrayList<>();
+
+        QueryRewriteInferenceBatcher.registerTokenWeightsInference(queryRewriteContext, mlClient, MODEL_ID, null, "hello", results::add);
+        QueryRewriteInferenceBatcher.registerTokenWeightsInference(queryRewriteContext, mlClient, MODEL_ID, null, "world", results::add);
+        QueryRewriteInferenceBatcher.registerTokenWeightsInference(queryRewriteContext, mlClient, MODEL_ID, null, "hello", results::add);
+        assertEquals(1, QueryRewriteInferenceBatcher.pendingBatchCount(queryRewriteContext));
+
+        ActionListener<Object> actionListener = mock(ActionListener.class);
+        runAsyncActions(queryRewriteContext, 1, actionListener);
+
+        ArgumentCaptor<TextInferenceRequest> requestCaptor = ArgumentCaptor.forClass(TextInferenceRequest.class);
+        verify(mlClient, times(1)).inferenceSentencesWithMapResult(requestCaptor.capture(), any());
+        assertEquals(List.of("hello", "world"), requestCaptor.getValue().getInputTexts());
+        assertEquals(List.of(Map.of("hello", 1.0f), Map.of("hello", 1.0f), Map.of("world", 1.0f)), results);
+        verify(actionListener).onResponse(null);
+        assertEquals(0, QueryRewriteInferenceBatcher.pendingBatchCount(queryRewriteContext));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRegisterVectorInference_whenSeveralQueryTexts_thenBatchedTextInference() {
+        MLCommonsClientAccessor mlClient = mockMLClient(FunctionName.TEXT_EMBEDDING);
+        doAnswer(invocation -> {
+            ActionListener<List<float[]>> listener = invocation.getArgument(1);
+            listener.onResponse(List.of(new float[] { 1.0f }, new float[] { 2.0f }));
+            return null;
+        }).when(mlClient).inferenceSentencesAsFloatArrays(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<float[]> listener = invocation.getArgument(1);
+            listener.onResponse(new float[] { 3.0f });
+            return null;
+        }).when(mlClient).inferenceSentencesMapAsFloatArray(any(), any());
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        List<float[]> results = new ArrayList<>();
+
+        QueryRewriteInferenceBatcher.registerVectorInference(queryRewriteContext, mlClient, MODEL_ID, "hello", results::add);
+        QueryRewriteInferenceBatcher.registerVectorInference(queryRewriteContext, mlClient, MODEL_ID, "world", results::add);
+        // other model gets its own batch
+        QueryRewriteInferenceBatcher.registerVectorInference(queryRewriteContext, mlClient, "other-model-id", "hello", results::add);
+        assertEquals(2, QueryRewriteInferenceBatcher.pendingBatchCount(queryRewriteContext));
+
+        runAsyncActions(queryRewriteContext, 2, mock(ActionListener.class));
+
+        ArgumentCaptor<TextInferenceRequest> textRequestCaptor = ArgumentCaptor.forClass(TextInferenceRequest.class);
+        verify(mlClient).inferenceSentencesAsFloatArrays(textRequestCaptor.capture(), any());
+        assertEquals(List.of("hello", "world"), textRequestCaptor.getValue().getInputTexts());
+        // single query text keeps the map inference
+        ArgumentCaptor<MapInferenceRequest> mapRequestCaptor = ArgumentCaptor.forClass(MapInferenceRequest.class);
+        verify(mlClient).inferenceSentencesMapAsFloatArray(mapRequestCaptor.capture(), any());
+        assertEquals("other-model-id", mapRequestCaptor.getValue().getModelId());
+        assertEquals(3, results.size());
+        assertArrayEquals(new float[] { 1.0f }, results.get(0), 0.0f);
+        assertArrayEquals(new float[] { 2.0f }, results.get(1), 0.0f);
+        assertArrayEquals(new float[] { 3.0f }, results.get(2), 0.0f);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRegisterTokenWeightsInference_whenBatchingDisabled_thenInferencePerRegistration() {
+        QueryRewriteInferenceBatcher.initialize(Settings.EMPTY);
+        MLCommonsClientAccessor mlClient = mock(MLCommonsClientAccessor.class);
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+
+        QueryRewriteInferenceBatcher.registerTokenWeightsInference(queryRewriteContext, mlClient, MODEL_ID, null, "hello", tokens -> {});
+        QueryRewriteInferenceBatcher.registerTokenWeightsInference(queryRewriteContext, mlClient, MODEL_ID, null, "world", tokens -> {});
+
+        assertEquals(0, QueryRewriteInferenceBatcher.pendingBatchCount(queryRewriteContext));
+        runAsyncActions(queryRewriteContext, 2, mock(ActionListener.class));
+        verify(mlClient, times(2)).inferenceSentencesWithMapResult(any(), any());
+        verify(mlClient, never()).inferenceSentencesAsFloatArrays(any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRegisterVectorInference_whenRemoteModel_thenInferencePerQueryText() {
+        MLCommonsClientAccessor mlClient = mockMLClient(FunctionName.REMOTE);
+        doAnswer(invocation -> {
+            MapInferenceRequest request = invocation.getArgument(0);
+            ActionListener<float[]> listener = invocation.getArgument(1);
+            listener.onResponse(new float[] { request.getInputObjects().get("inputText").length() });
+            return null;
+        }).when(mlClient).inferenceSentencesMapAsFloatArray(any(), any());
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        List<float[]> results = new ArrayList<>();
+
+        QueryRewriteInferenceBatcher.registerVectorInference(queryRewriteContext, mlClient, MODEL_ID, "a", results::add);
+        QueryRewriteInferenceBatcher.registerVectorInference(queryRewriteContext, mlClient, MODEL_ID, "abc", results::add);
+        ActionListener<Object> actionListener = mock(ActionListener.class);
+        runAsyncActions(queryRewriteContext, 1, actionListener);
+
+        verify(mlClient, never()).inferenceSentencesAsFloatArrays(any(), any());
+        verify(mlClient, times(2)).inferenceSentencesMapAsFloatArray(any(), any());
+        assertEquals(2, results.size());
+        assertArrayEquals(new float[] { 1.0f }, results.get(0), 0.0f);
+        assertArrayEquals(new float[] { 3.0f }, results.get(1), 0.0f);
+        verify(actionListener).onResponse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRegisterVectorInference_whenBatchResultCountMismatch_thenInferencePerQueryText() {
+        MLCommonsClientAccessor mlClient = mockMLClient(FunctionName.TEXT_EMBEDDING);
+        doAnswer(invocation -> {
+            ActionListener<List<float[]>> listener = invocation.getArgument(1);
+            // the model only returned the vector of the first text
+            listener.onResponse(List.of(new float[] { 1.0f }));
+            return null;
+        }).when(mlClient).inferenceSentencesAsFloatArrays(any(), any());
+        doAnswer(invocation -> {
+            MapInferenceRequest request = invocation.getArgument(0);
+            ActionListener<float[]> listener = invocation.getArgument(1);
+            listener.onResponse(new float[] { request.getInputObjects().get("inputText").length() });
+            return null;
+        }).when(mlClient).inferenceSentencesMapAsFloatArray(any(), any());
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        List<float[]> results = new ArrayList<>();
+
+        QueryRewriteInferenceBatcher.registerVectorInference(queryRewriteContext, mlClient, MODEL_ID, "a", results::add);
+        QueryRewriteInferenceBatcher.registerVectorInference(queryRewriteContext, mlClient, MODEL_ID, "abc", results::add);
+        ActionListener<Object> actionListener = mock(ActionListener.class);
+        runAsyncActions(queryRewriteContext, 1, actionListener);
+
+        verify(mlClient, times(2)).inferenceSentencesMapAsFloatArray(any(), any());
+        assertEquals(2, results.size());
+        assertArrayEquals(new float[] { 1.0f }, results.get(0), 0.0f);
+        assertArrayEquals(new float[] { 3.0f }, results.get(1), 0.0f);
+        verify(actionListener).onResponse(null);
+        verify(actionListener, never()).onFailure(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MLCommonsClientAccessor mockMLClient(final FunctionName algorithm) {
+        MLCommonsClientAccessor mlClient = mock(MLCommonsClientAccessor.class);
+        MLModel model = mock(MLModel.class);
+        when(model.getAlgorithm()).thenReturn(algorithm);
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(model);
+            return null;
+        }).when(mlClient).getCachedModel(any(), any());
+        return mlClient;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void runAsyncActions(
+        final QueryRewriteContext queryRewriteContext,
+        final int expectedActions,
+        final ActionListener<?> actionListener
+    ) {
+        ArgumentCaptor<BiConsumer<Client, ActionListener<?>>> actionCaptor = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(queryRewriteContext, times(expectedActions)).registerAsyncAction(actionCaptor.capture());
+        actionCaptor.getAllValues().forEach(action -> action.accept(null, actionListener));
+    }
+}
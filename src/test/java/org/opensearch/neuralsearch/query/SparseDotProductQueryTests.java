@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class SparseDotProductQueryTests extends OpenSearchTestCase {
+    private static final String FIELD_NAME = "rank_features_field";
+    private static final int NUM_TOKENS = 20;
+
+    public void testConstructor_whenInvalidTokens_thenFail() {
+        expectThrows(IllegalArgumentException.class, () -> new SparseDotProductQuery(FIELD_NAME, Map.of()));
+        expectThrows(IllegalArgumentException.class, () -> new SparseDotProductQuery(FIELD_NAME, Map.of("hello", 0f)));
+        expectThrows(IllegalArgumentException.class, () -> new SparseDotProductQuery(FIELD_NAME, Map.of("hello", Float.NaN)));
+        expectThrows(NullPointerException.class, () -> new SparseDotProductQuery(null, Map.of("hello", 1f)));
+    }
+
+    public void testEqualsAndHashCode() {
+        Map<String, Float> tokens = new HashMap<>();
+        tokens.put("hello", 1f);
+        tokens.put("world", 2f);
+        SparseDotProductQuery query1 = new SparseDotProductQuery(FIELD_NAME, tokens);
+        SparseDotProductQuery query2 = new SparseDotProductQuery(FIELD_NAME, Map.of("world", 2f, "hello", 1f));
+        SparseDotProductQuery query3 = new SparseDotProductQuery(FIELD_NAME, Map.of("world", 3f, "hello", 1f));
+
+        assertEquals(query1, query2);
+        assertEquals(query1.hashCode(), query2.hashCode());
+        assertEquals(query1.toString(), query2.toString());
+        assertNotEquals(query1, query3);
+    }
+
+    @SneakyThrows
+    public void testSearch_whenTopScores_thenSameResultsAsBooleanQuery() {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+        int numDocs = 2000;
+        for (int i = 0; i < numDocs; i++) {
+            Document document = new Document();
+            document.add(new StringField("id", Integer.toString(i), Field.Store.YES));
+            Set<String> tokens = new HashSet<>();
+            int numFeatures = randomIntBetween(1, 8);
+            for (int j = 0; j < numFeatures; j++) {
+                String token = "token" + randomIntBetween(0, NUM_TOKENS - 1);
+                if (tokens.add(token)) {
+                    document.add(new FeatureField(FIELD_NAME, token, (float) randomDoubleBetween(0.01, 10, true)));
+                }
+            }
+            writer.addDocument(document);
+        }
+        writer.commit();
+        DirectoryReader reader = DirectoryReader.open(writer);
+        IndexSearcher searcher = newSearcher(reader);
+
+        Map<String, Float> queryTokens = new HashMap<>();
+        BooleanQuery.Builder booleanQueryBuilder = new BooleanQuery.Builder();
+        for (int i = 0; i < 5; i++) {
+            String token = "token" + randomIntBetween(0, NUM_TOKENS - 1);
+            if (queryTokens.containsKey(token)) {
+                continue;
+            }
+            float weight = (float) randomDoubleBetween(0.1, 3, true);
+            queryTokens.put(token, weight);
+            booleanQueryBuilder.add(FeatureField.newLinearQuery(FIELD_NAME, token, weight), BooleanClause.Occur.SHOULD);
+        }
+        Query booleanQuery = booleanQueryBuilder.build();
+        Query dotProductQuery = new SparseDotProductQuery(FIELD_NAME, queryTokens);
+
+        TopDocs expected = searcher.search(booleanQuery, 10);
+        TopDocs actual = searcher.search(dotProductQuery, 10);
+        assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+        for (int i = 0; i < expected.scoreDocs.length; i++) {
+            assertEquals(expected.scoreDocs[i].score, actual.scoreDocs[i].score, 1e-4f);
+        }
+        assertEquals(searcher.count(booleanQuery), searcher.count(dotProductQuery));
+
+        ScoreDoc topDoc = actual.scoreDocs[0];
+        Explanation explanation = searcher.explain(dotProductQuery, topDoc.doc);
+        assertTrue(explanation.isMatch());
+        assertEquals(topDoc.score, explanation.getValue().floatValue(), 1e-4f);
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    @SneakyThrows
+    public void testSearch_whenNoTokenMatches_thenNoResults() {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+        Document document = new Document();
+        document.add(new FeatureField(FIELD_NAME, "hello", 1f));
+        writer.addDocument(document);
+        writer.commit();
+        DirectoryReader reader = DirectoryReader.open(writer);
+        IndexSearcher searcher = newSearcher(reader);
+
+        TopDocs topDocs = searcher.search(new SparseDotProductQuery(FIELD_NAME, Map.of("world", 1f)), 10);
+        assertEquals(0, topDocs.scoreDocs.length);
+        assertFalse(searcher.explain(new SparseDotProductQuery(FIELD_NAME, Map.of("world", 1f)), 0).isMatch());
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class DisjunctionCompetitiveIteratorTests extends OpenSearchTestCase {
+
+    @SneakyThrows
+    public void testNextDoc_whenDocsInDifferentIterators_thenUnionInDocIdOrder() {
+        DisjunctionCompetitiveIterator iterator = new DisjunctionCompetitiveIterator(
+            new DocIdSetIterator[] { iterator(100, 3, 50, 70), iterator(100, 10, 50, 99) }
+        );
+        assertEquals(-1, iterator.docID());
+
+        List<Integer> docs = new ArrayList<>();
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            docs.add(doc);
+        }
+
+        assertEquals(List.of(3, 10, 50, 70, 99), docs);
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+    }
+
+    @SneakyThrows
+    public void testAdvance_whenTargetBetweenDocs_thenNextDocOfAnyIterator() {
+        DisjunctionCompetitiveIterator iterator = new DisjunctionCompetitiveIterator(
+            new DocIdSetIterator[] { iterator(100, 3, 70), iterator(100, 10, 40) }
+        );
+
+        assertEquals(40, iterator.advance(11));
+        assertEquals(70, iterator.advance(41));
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.advance(71));
+    }
+
+    private static DocIdSetIterator iterator(final int maxDoc, final int... docs) {
+        FixedBitSet bits = new FixedBitSet(maxDoc);
+        for (int doc : docs) {
+            bits.set(doc);
+        }
+        return new BitSetIterator(bits, docs.length);
+    }
+}
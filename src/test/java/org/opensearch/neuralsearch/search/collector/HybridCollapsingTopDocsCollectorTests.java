@@ -859,6 +859,67 @@ public class HybridCollapsingTopDocsCollectorTests extends HybridCollectorTestCa
         directory.close();
     }
 
+    /**
+     * Test that keyword group values collected as segment ordinals are resolved against the segment they were collected in.
+     */
+    public void testCollapseWithMultipleSegments_whenSameOrdinalsInSegments_thenGroupValuesResolvedPerSegment() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig config = newIndexWriterConfig();
+        config.setMergePolicy(NoMergePolicy.INSTANCE);
+        IndexWriter writer = new IndexWriter(directory, config);
+
+        // ordinals 0 and 1 in both segments point to different values
+        addKeywordDoc(writer, 0, "text0", 100, "zeta");
+        addKeywordDoc(writer, 1, "text1", 101, "beta");
+        writer.commit();
+        addKeywordDoc(writer, 2, "text2", 102, "alpha");
+        addKeywordDoc(writer, 3, "text3", 103, "gamma");
+        Document docWithoutGroup = new Document();
+        docWithoutGroup.add(new NumericDocValuesField("_id", 4));
+        docWithoutGroup.add(new StoredField("_id", 4));
+        writer.addDocument(docWithoutGroup);
+        writer.commit();
+
+        DirectoryReader reader = DirectoryReader.open(writer);
+        assertEquals(2, reader.leaves().size());
+
+        Sort sort = new Sort(SortField.FIELD_SCORE);
+        KeywordFieldMapper.KeywordFieldType fieldType = new KeywordFieldMapper.KeywordFieldType(COLLAPSE_FIELD_NAME);
+
+        HybridCollapsingTopDocsCollector<?> collector = HybridCollapsingTopDocsCollector.createKeyword(
+            COLLAPSE_FIELD_NAME,
+            fieldType,
+            sort,
+            numHits,
+            new HitsThresholdChecker(TOTAL_HITS_UP_TO)
+        );
+        collector.setWeight(mock(Weight.class));
+
+        HybridSubQueryScorer hybridScorer = new HybridSubQueryScorer(1);
+        for (LeafReaderContext leafCtx : reader.leaves()) {
+            LeafCollector leafCollector = collector.getLeafCollector(leafCtx);
+            leafCollector.setScorer(hybridScorer);
+            for (int segDoc = 0; segDoc < leafCtx.reader().maxDoc(); segDoc++) {
+                int originalId = leafCtx.reader().storedFields().document(segDoc).getField("_id").numericValue().intValue();
+                hybridScorer.resetScores();
+                hybridScorer.getSubQueryScores()[0] = 1.0f - (originalId * 0.1f);
+                leafCollector.collect(segDoc);
+            }
+        }
+
+        CollapseTopFieldDocs result = collector.topDocs().get(0);
+        assertEquals(5, result.collapseValues.length);
+        assertEquals(new BytesRef("zeta"), result.collapseValues[0]);
+        assertEquals(new BytesRef("beta"), result.collapseValues[1]);
+        assertEquals(new BytesRef("alpha"), result.collapseValues[2]);
+        assertEquals(new BytesRef("gamma"), result.collapseValues[3]);
+        assertNull(result.collapseValues[4]);
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
     /**
      * Test that minScores on HybridSubQueryScorer are updated when groups are evicted (sort by score).
      */
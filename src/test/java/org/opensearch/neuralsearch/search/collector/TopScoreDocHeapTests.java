@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import org.apache.lucene.search.HitQueue;
+import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TopScoreDocHeapTests extends OpenSearchTestCase {
+
+    public void testInsertWithOverflow_whenNotFull_thenNothingEvicted() {
+        TopScoreDocHeap heap = new TopScoreDocHeap(3);
+        assertTrue(Float.isNaN(heap.insertWithOverflow(1, 0.5f)));
+        assertTrue(Float.isNaN(heap.insertWithOverflow(2, 0.7f)));
+        assertEquals(2, heap.size());
+    }
+
+    public void testInsertWithOverflow_whenFull_thenEvictSmallestOrRejectNewDoc() {
+        TopScoreDocHeap heap = new TopScoreDocHeap(2);
+        heap.insertWithOverflow(1, 0.5f);
+        heap.insertWithOverflow(2, 0.7f);
+
+        // lower score than the bottom is rejected, its own score is reported as evicted
+        assertEquals(0.3f, heap.insertWithOverflow(3, 0.3f), 0.0f);
+        // same score as the bottom with a higher doc id is rejected
+        assertEquals(0.5f, heap.insertWithOverflow(4, 0.5f), 0.0f);
+        // higher score replaces the bottom
+        assertEquals(0.5f, heap.insertWithOverflow(5, 0.9f), 0.0f);
+
+        ScoreDoc[] scoreDocs = heap.drainToSortedScoreDocs();
+        assertEquals(2, scoreDocs.length);
+        assertEquals(5, scoreDocs[0].doc);
+        assertEquals(0.9f, scoreDocs[0].score, 0.0f);
+        assertEquals(2, scoreDocs[1].doc);
+        assertEquals(0.7f, scoreDocs[1].score, 0.0f);
+        assertEquals(0, heap.size());
+    }
+
+    public void testInsertWithOverflow_whenZeroCapacity_thenRejectAll() {
+        TopScoreDocHeap heap = new TopScoreDocHeap(0);
+        assertEquals(0.4f, heap.insertWithOverflow(1, 0.4f), 0.0f);
+        assertEquals(0, heap.drainToSortedScoreDocs().length);
+    }
+
+    public void testDrainToSortedScoreDocs_whenRandomDocs_thenSameAsHitQueue() {
+        int capacity = randomIntBetween(1, 50);
+        TopScoreDocHeap heap = new TopScoreDocHeap(capacity);
+        HitQueue hitQueue = new HitQueue(capacity, false);
+        int numDocs = randomIntBetween(0, 500);
+        for (int doc = 0; doc < numDocs; doc++) {
+            // few distinct scores to exercise ties
+            float score = randomIntBetween(0, 20) / 10.0f;
+            float evicted = heap.insertWithOverflow(doc, score);
+            ScoreDoc evictedScoreDoc = hitQueue.insertWithOverflow(new ScoreDoc(doc, score));
+            if (evictedScoreDoc == null) {
+                assertTrue(Float.isNaN(evicted));
+            } else {
+                assertEquals(evictedScoreDoc.score, evicted, 0.0f);
+            }
+        }
+
+        ScoreDoc[] expected = new ScoreDoc[hitQueue.size()];
+        for (int i = expected.length - 1; i >= 0; i--) {
+            expected[i] = hitQueue.pop();
+        }
+        ScoreDoc[] actual = heap.drainToSortedScoreDocs();
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].doc, actual[i].doc);
+            assertEquals(expected[i].score, actual[i].score, 0.0f);
+        }
+    }
+}
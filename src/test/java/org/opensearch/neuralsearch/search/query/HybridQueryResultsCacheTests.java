@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.neuralsearch.query.HybridQuery;
+import org.opensearch.neuralsearch.query.HybridQueryContext;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_RESULTS_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_RESULTS_CACHE_SIZE;
+
+public class HybridQueryResultsCacheTests extends OpenSearchTestCase {
+
+    @Override
+    public void tearDown() throws Exception {
+        HybridQueryResultsCache.initialize(Settings.builder().put(HYBRID_RESULTS_CACHE_SIZE.getKey(), "0b").build());
+        super.tearDown();
+    }
+
+    @SneakyThrows
+    public void testGetKey_whenCacheDisabledForIndex_thenNoKey() {
+        HybridQueryResultsCache.initialize(Settings.EMPTY);
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            writer.commit();
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                SearchContext searchContext = mockSearchContext(reader, false);
+                assertNull(HybridQueryResultsCache.getKey(searchContext, hybridQuery(10)));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testGetKey_whenNoPaginationDepth_thenNoKey() {
+        HybridQueryResultsCache.initialize(Settings.EMPTY);
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            writer.commit();
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                SearchContext searchContext = mockSearchContext(reader, true);
+                assertNull(HybridQueryResultsCache.getKey(searchContext, hybridQuery(null)));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testGetAndPut_whenSameReaderAndQuery_thenCopyOfCachedResultsReturned() {
+        HybridQueryResultsCache.initialize(Settings.EMPTY);
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            writer.commit();
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                SearchContext searchContext = mockSearchContext(reader, true);
+                HybridQueryResultsCache.Key key = HybridQueryResultsCache.getKey(searchContext, hybridQuery(10));
+                assertNotNull(key);
+                assertNull(HybridQueryResultsCache.get(key));
+
+                ScoreDoc[] scoreDocs = new ScoreDoc[] { new ScoreDoc(1, 0.7f), new ScoreDoc(4, 0.3f) };
+                TopDocsAndMaxScore topDocsAndMaxScore = new TopDocsAndMaxScore(
+                    new TopDocs(new TotalHits(2, TotalHits.Relation.EQUAL_TO), scoreDocs),
+                    0.7f
+                );
+                HybridQueryResultsCache.put(key, topDocsAndMaxScore);
+                scoreDocs[0].shardIndex = 5;
+
+                // key of the next page is the same, page is applied on the coordinator
+                TopDocsAndMaxScore cached = HybridQueryResultsCache.get(HybridQueryResultsCache.getKey(searchContext, hybridQuery(10)));
+                assertNotNull(cached);
+                assertEquals(0.7f, cached.maxScore, 0.0f);
+                assertEquals(2, cached.topDocs.totalHits.value());
+                assertEquals(2, cached.topDocs.scoreDocs.length);
+                assertEquals(1, cached.topDocs.scoreDocs[0].doc);
+                assertEquals(-1, cached.topDocs.scoreDocs[0].shardIndex);
+                assertEquals(4, cached.topDocs.scoreDocs[1].doc);
+
+                assertNull(HybridQueryResultsCache.get(HybridQueryResultsCache.getKey(searchContext, hybridQuery(20))));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testGetKey_whenSecurityEnabled_thenNoKey() {
+        HybridQueryResultsCache.initialize(Settings.builder().put("plugins.security.ssl.http.enabled", true).build());
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            writer.commit();
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                SearchContext searchContext = mockSearchContext(reader, true);
+                assertNull(HybridQueryResultsCache.getKey(searchContext, hybridQuery(10)));
+
+                HybridQueryResultsCache.initialize(
+                    Settings.builder().put("plugins.security.ssl.http.enabled", true).put("plugins.security.disabled", true).build()
+                );
+                assertNotNull(HybridQueryResultsCache.getKey(searchContext, hybridQuery(10)));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testPut_whenQueryExceedsCacheSize_thenNotCached() {
+        HybridQueryResultsCache.initialize(Settings.builder().put(HYBRID_RESULTS_CACHE_SIZE.getKey(), "10kb").build());
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            writer.commit();
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                SearchContext searchContext = mockSearchContext(reader, true);
+                List<Query> termQueries = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    termQueries.add(new TermQuery(new Term("field", randomAlphaOfLength(100))));
+                }
+                BooleanQuery.Builder longClauseBuilder = new BooleanQuery.Builder();
+                termQueries.forEach(termQuery -> longClauseBuilder.add(termQuery, BooleanClause.Occur.SHOULD));
+                HybridQuery longQuery = new HybridQuery(
+                    List.of(longClauseBuilder.build()),
+                    HybridQueryContext.builder().paginationDepth(10).build()
+                );
+                TopDocsAndMaxScore topDocsAndMaxScore = new TopDocsAndMaxScore(
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(1, 0.7f) }),
+                    0.7f
+                );
+
+                HybridQueryResultsCache.Key longQueryKey = HybridQueryResultsCache.getKey(searchContext, longQuery);
+                HybridQueryResultsCache.put(longQueryKey, topDocsAndMaxScore);
+                assertNull(HybridQueryResultsCache.get(longQueryKey));
+
+                HybridQueryResultsCache.Key shortQueryKey = HybridQueryResultsCache.getKey(searchContext, hybridQuery(10));
+                HybridQueryResultsCache.put(shortQueryKey, topDocsAndMaxScore);
+                assertNotNull(HybridQueryResultsCache.get(shortQueryKey));
+            }
+        }
+    }
+
+    private static HybridQuery hybridQuery(final Integer paginationDepth) {
+        return new HybridQuery(
+            List.of(new TermQuery(new Term("field", "hello")), new TermQuery(new Term("field", "hi"))),
+            HybridQueryContext.builder().paginationDepth(paginationDepth).build()
+        );
+    }
+
+    private static SearchContext mockSearchContext(final DirectoryReader reader, final boolean cacheEnabled) {
+        SearchContext searchContext = mock(SearchContext.class);
+        QueryShardContext queryShardContext = mock(QueryShardContext.class);
+        when(queryShardContext.getIndexSettings()).thenReturn(getIndexSettings(cacheEnabled));
+        when(searchContext.getQueryShardContext()).thenReturn(queryShardContext);
+        ContextIndexSearcher searcher = mock(ContextIndexSearcher.class);
+        when(searcher.getIndexReader()).thenReturn(reader);
+        when(searchContext.searcher()).thenReturn(searcher);
+        when(searchContext.rescore()).thenReturn(List.of());
+        when(searchContext.numberOfShards()).thenReturn(2);
+        when(searchContext.trackTotalHitsUpTo()).thenReturn(SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO);
+        return searchContext;
+    }
+
+    private static IndexSettings getIndexSettings(final boolean cacheEnabled) {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID())
+            .put(HYBRID_RESULTS_CACHE_ENABLED.getKey(), cacheEnabled)
+            .build();
+        IndexMetadata indexMetadata = IndexMetadata.builder("test").settings(settings).numberOfShards(2).numberOfReplicas(0).build();
+        return new IndexSettings(indexMetadata, Settings.EMPTY);
+    }
+}
@@ -209,6 +209,21 @@ public class ClusteredPostingTermsWriterTests extends AbstractSparseTestBase {
         verify(mockIndexOutput, atLeastOnce()).writeVLong(anyLong());
     }
 
+    @SneakyThrows
+    public void test_write_withPostingClusters_thenSetMaxWeight() {
+        List<DocumentCluster> documentClusterList = prepareClusterList();
+        List<DocWeight> docWeights = new ArrayList<>();
+        docWeights.add(new DocWeight(3, (byte) 200));
+        documentClusterList.add(new DocumentCluster(null, docWeights, false));
+
+        clusteredPostingTermsWriter.setFieldAndMaxDoc(mockFieldInfo, 100, false);
+        BlockTermState state = clusteredPostingTermsWriter.write(new BytesRef("test_term"), new PostingClusters(documentClusterList));
+
+        assertTrue(state instanceof SparseTermState);
+        // weights are compared as unsigned bytes
+        assertEquals((byte) 200, ((SparseTermState) state).maxWeight);
+    }
+
     @SneakyThrows
     public void test_startDoc_withValidDocId() {
         clusteredPostingTermsWriter.startDoc(1, 10);
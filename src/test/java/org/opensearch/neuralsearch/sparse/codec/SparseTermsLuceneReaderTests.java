@@ -28,6 +28,7 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -175,6 +176,36 @@ public class SparseTermsLuceneReaderTests extends AbstractSparseTestBase {
         verify(mockPostingInput).close();
     }
 
+    @SneakyThrows
+    public void testGetTermMaxWeights_whenFormatWithMaxWeights_thenDenseVector() {
+        setupMockTermsInputWithMaxWeight("7", (byte) 200);
+        SparseTermsLuceneReader reader = new SparseTermsLuceneReader(segmentReadState, mockCodecUtilWrapper);
+
+        byte[] termMaxWeights = reader.getTermMaxWeights(TEST_FIELD);
+        assertNotNull(termMaxWeights);
+        assertEquals(8, termMaxWeights.length);
+        assertEquals((byte) 200, termMaxWeights[7]);
+        assertEquals(1, reader.getTerms(TEST_FIELD).size());
+        assertNull(reader.getTermMaxWeights("non_existing_field"));
+    }
+
+    @SneakyThrows
+    public void testGetTermMaxWeights_whenTermIsNotInteger_thenNull() {
+        setupMockTermsInputWithMaxWeight(TERM_NAME, (byte) 200);
+        SparseTermsLuceneReader reader = new SparseTermsLuceneReader(segmentReadState, mockCodecUtilWrapper);
+
+        assertNull(reader.getTermMaxWeights(TEST_FIELD));
+        assertEquals(1, reader.getTerms(TEST_FIELD).size());
+    }
+
+    @SneakyThrows
+    public void testGetTermMaxWeights_whenFormatWithoutMaxWeights_thenNull() {
+        SparseTermsLuceneReader reader = new SparseTermsLuceneReader(segmentReadState, mockCodecUtilWrapper);
+
+        assertNull(reader.getTermMaxWeights(TEST_FIELD));
+        verify(mockTermsInput, never()).readByte();
+    }
+
     @SneakyThrows
     public void testCheckIntegrity() {
         SparseTermsLuceneReader reader = new SparseTermsLuceneReader(segmentReadState, mockCodecUtilWrapper);
@@ -205,6 +236,24 @@ public class SparseTermsLuceneReaderTests extends AbstractSparseTestBase {
         }).when(mockTermsInput).readBytes(any(byte[].class), anyInt(), anyInt());
     }
 
+    @SneakyThrows
+    private void setupMockTermsInputWithMaxWeight(String termName, byte maxWeight) {
+        BytesRef bytesRef = new BytesRef(termName);
+        when(
+            mockCodecUtilWrapper.checkIndexHeader(eq(mockTermsInput), anyString(), anyInt(), anyInt(), any(), anyString())
+        ).thenReturn(SparsePostingsConsumer.VERSION_TERM_MAX_WEIGHT);
+        // numberOfFields, fieldId and byteLength
+        when(mockTermsInput.readVInt()).thenReturn(1).thenReturn(0).thenReturn(bytesRef.length);
+        when(mockTermsInput.readByte()).thenReturn(maxWeight);
+        doAnswer(invocation -> {
+            byte[] bytes = invocation.getArgument(0);
+            int offset = invocation.getArgument(1);
+            int length = invocation.getArgument(2);
+            System.arraycopy(bytesRef.bytes, 0, bytes, offset, length);
+            return null;
+        }).when(mockTermsInput).readBytes(any(byte[].class), anyInt(), anyInt());
+    }
+
     @SneakyThrows
     private void setupMockPostingInput() {
         // clusterSize, docSize, summaryVectorSize
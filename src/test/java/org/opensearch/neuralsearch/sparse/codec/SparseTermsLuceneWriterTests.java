@@ -170,6 +170,21 @@ public class SparseTermsLuceneWriterTests extends AbstractSparseTestBase {
         verify(mockIndexOutput, times(1)).writeVInt(term.length);
         verify(mockIndexOutput, times(1)).writeBytes(term.bytes, term.offset, term.length);
         verify(mockIndexOutput, times(1)).writeVLong(mockBlockTermState.blockFilePointer);
+        // max weight is unknown for other term states
+        verify(mockIndexOutput, times(1)).writeByte((byte) -1);
+    }
+
+    @SneakyThrows
+    public void testWriteTerm_withSparseTermState_thenWriteMaxWeight() {
+        BytesRef term = new BytesRef("test_term");
+        SparseTermState termState = new SparseTermState();
+        termState.blockFilePointer = 42L;
+        termState.maxWeight = (byte) 200;
+
+        writer.writeTerm(term, termState);
+
+        verify(mockIndexOutput, times(1)).writeVLong(42L);
+        verify(mockIndexOutput, times(1)).writeByte((byte) 200);
     }
 
     @SneakyThrows
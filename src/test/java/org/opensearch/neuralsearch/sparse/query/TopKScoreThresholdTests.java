@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.query;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TopKScoreThresholdTests extends OpenSearchTestCase {
+
+    public void testGet_whenLessThanKScores_thenNegativeInfinity() {
+        TopKScoreThreshold threshold = new TopKScoreThreshold(3);
+        threshold.offer(1.0f);
+        threshold.offer(2.0f);
+        assertEquals(Float.NEGATIVE_INFINITY, threshold.get(), 0.0f);
+    }
+
+    public void testGet_whenKScores_thenKthBestScore() {
+        TopKScoreThreshold threshold = new TopKScoreThreshold(3);
+        threshold.offer(1.0f);
+        threshold.offer(5.0f);
+        threshold.offer(3.0f);
+        assertEquals(1.0f, threshold.get(), 0.0f);
+
+        threshold.offer(4.0f);
+        assertEquals(3.0f, threshold.get(), 0.0f);
+
+        // scores below the threshold do not change it
+        threshold.offer(2.0f);
+        assertEquals(3.0f, threshold.get(), 0.0f);
+    }
+}
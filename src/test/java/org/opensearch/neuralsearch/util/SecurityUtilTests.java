@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SecurityUtilTests extends OpenSearchTestCase {
+
+    public void testIsSecurityEnabled_whenNoSecuritySettings_thenFalse() {
+        assertFalse(SecurityUtil.isSecurityEnabled(Settings.EMPTY));
+    }
+
+    public void testIsSecurityEnabled_whenSecuritySettings_thenTrue() {
+        assertTrue(SecurityUtil.isSecurityEnabled(Settings.builder().put("plugins.security.ssl.http.enabled", true).build()));
+        assertTrue(SecurityUtil.isSecurityEnabled(Settings.builder().put("opendistro_security.ssl.http.enabled", true).build()));
+    }
+
+    public void testIsSecurityEnabled_whenSecurityDisabled_thenFalse() {
+        assertFalse(
+            SecurityUtil.isSecurityEnabled(
+                Settings.builder().put("plugins.security.ssl.http.enabled", true).put("plugins.security.disabled", true).build()
+            )
+        );
+    }
+}